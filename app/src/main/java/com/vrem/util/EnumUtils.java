@@ -25,22 +25,23 @@ import org.apache.commons.collections4.Predicate;
 import org.apache.commons.collections4.PredicateUtils;
 import org.apache.commons.collections4.Transformer;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class EnumUtils {
+    private static final Map<Class<?>, Enum<?>[]> CONSTANTS = new ConcurrentHashMap<>();
 
     private EnumUtils() {
         throw new IllegalStateException("Utility class");
     }
 
     @NonNull
-    public static <T extends Enum> T find(@NonNull Class<T> enumType, int index, @NonNull T defaultValue) {
-        T[] values = enumType.getEnumConstants();
+    public static <T extends Enum<T>> T find(@NonNull Class<T> enumType, int index, @NonNull T defaultValue) {
+        T[] values = constants(enumType);
         if (index < 0 || index >= values.length) {
             return defaultValue;
         }
@@ -48,64 +49,89 @@ public class EnumUtils {
     }
 
     @NonNull
-    public static <T extends Enum> T find(@NonNull Class<T> enumType, @NonNull Predicate<T> predicate, @NonNull T defaultValue) {
-        List<T> results = new ArrayList<>(CollectionUtils.select(values(enumType), predicate));
-        return results.isEmpty() ? defaultValue : results.get(0);
+    public static <T extends Enum<T>> T find(@NonNull Class<T> enumType, @NonNull Predicate<T> predicate, @NonNull T defaultValue) {
+        for (T value : constants(enumType)) {
+            if (predicate.evaluate(value)) {
+                return value;
+            }
+        }
+        return defaultValue;
     }
 
     @NonNull
-    public static <T extends Enum> Set<T> find(@NonNull Class<T> enumType, @NonNull Set<String> ordinals, @NonNull T defaultValue) {
-        Set<T> results = new HashSet<>(CollectionUtils.collect(ordinals, new ToEnum<>(enumType, defaultValue)));
+    public static <T extends Enum<T>> Set<T> find(@NonNull Class<T> enumType, @NonNull Set<String> ordinals, @NonNull T defaultValue) {
+        Set<T> results = EnumSet.noneOf(enumType);
+        for (String ordinal : ordinals) {
+            results.add(toEnum(enumType, ordinal, defaultValue));
+        }
         return results.isEmpty() ? values(enumType) : results;
     }
 
     @NonNull
-    public static <T extends Enum> Set<String> find(@NonNull Set<T> values) {
-        return new HashSet<>(CollectionUtils.collect(values, new ToOrdinal<>()));
+    public static <T extends Enum<T>> Set<String> find(@NonNull Set<T> values) {
+        return new HashSet<>(CollectionUtils.collect(values, new ToOrdinal<T>()));
     }
 
     @NonNull
-    public static <T extends Enum> Set<String> ordinals(@NonNull Class<T> enumType) {
-        return new HashSet<>(CollectionUtils.collect(values(enumType), new ToOrdinal<>()));
+    public static <T extends Enum<T>> Set<String> ordinals(@NonNull Class<T> enumType) {
+        T[] values = constants(enumType);
+        Set<String> results = new HashSet<>(values.length * 2);
+        for (T value : values) {
+            results.add(Integer.toString(value.ordinal()));
+        }
+        return results;
     }
 
     @NonNull
-    public static <T extends Enum> Set<T> values(@NonNull Class<T> enumType) {
-        return new HashSet<>(Arrays.asList(enumType.getEnumConstants()));
+    public static <T extends Enum<T>> Set<T> values(@NonNull Class<T> enumType) {
+        return EnumSet.allOf(enumType);
+    }
+
+    public static <T extends Enum<T>> int size(@NonNull Class<T> enumType) {
+        return constants(enumType).length;
+    }
+
+    public static <T extends Enum<T>> int mask(@NonNull Collection<T> values) {
+        int result = 0;
+        for (T value : values) {
+            result |= 1 << value.ordinal();
+        }
+        return result;
     }
 
     @NonNull
-    public static <T extends Enum, U> Predicate<U> predicate(@NonNull Class<T> enumType, @NonNull Collection<T> input, @NonNull Transformer<T, Predicate<U>> transformer) {
-        if (input.size() >= values(enumType).size()) {
+    public static <T extends Enum<T>, U> Predicate<U> predicate(@NonNull Class<T> enumType, @NonNull Collection<T> input, @NonNull Transformer<T, Predicate<U>> transformer) {
+        if (input.size() >= size(enumType)) {
             return PredicateUtils.truePredicate();
         }
         return PredicateUtils.anyPredicate(CollectionUtils.collect(input, transformer));
     }
 
-    private static class ToEnum<T extends Enum> implements Transformer<String, T> {
-        private final T defaultValue;
-        private final Class<T> enumType;
-
-        private ToEnum(@NonNull Class<T> enumType, @NonNull T defaultValue) {
-            this.enumType = enumType;
-            this.defaultValue = defaultValue;
+    @SuppressWarnings("unchecked")
+    @NonNull
+    private static <T extends Enum<T>> T[] constants(@NonNull Class<T> enumType) {
+        Enum<?>[] results = CONSTANTS.get(enumType);
+        if (results == null) {
+            results = enumType.getEnumConstants();
+            CONSTANTS.put(enumType, results);
         }
+        return (T[]) results;
+    }
 
-        @Override
-        public T transform(String input) {
-            try {
-                return EnumUtils.find(enumType, Integer.parseInt(input), defaultValue);
-            } catch (Exception e) {
-                return defaultValue;
-            }
+    @NonNull
+    private static <T extends Enum<T>> T toEnum(@NonNull Class<T> enumType, String ordinal, @NonNull T defaultValue) {
+        try {
+            return find(enumType, Integer.parseInt(ordinal), defaultValue);
+        } catch (Exception e) {
+            return defaultValue;
         }
     }
 
-    private static class ToOrdinal<T extends Enum> implements Transformer<T, String> {
+    private static class ToOrdinal<T extends Enum<T>> implements Transformer<T, String> {
         @Override
         public String transform(T input) {
             return Integer.toString(input.ordinal());
         }
     }
 
-}
\ No newline at end of file
+}
@@ -18,13 +18,18 @@
 
 package com.vrem.util;
 
+import android.content.res.AssetFileDescriptor;
+import android.content.res.AssetManager;
 import android.content.res.Resources;
 import android.support.annotation.NonNull;
 import android.support.annotation.RawRes;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.FileInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 public class FileUtils {
     private FileUtils() {
@@ -46,4 +51,18 @@ public class FileUtils {
             return StringUtils.EMPTY;
         }
     }
+
+    @NonNull
+    public static ByteBuffer mapAsset(@NonNull AssetManager assetManager, @NonNull String fileName) {
+        try {
+            AssetFileDescriptor assetFileDescriptor = assetManager.openFd(fileName);
+            try (FileInputStream inputStream = assetFileDescriptor.createInputStream()) {
+                return inputStream.getChannel()
+                    .map(FileChannel.MapMode.READ_ONLY, assetFileDescriptor.getStartOffset(), assetFileDescriptor.getLength());
+            }
+        } catch (Exception e) {
+            // asset is missing or compressed
+            return ByteBuffer.allocate(0);
+        }
+    }
 }
@@ -45,6 +45,7 @@ import com.vrem.wifianalyzer.settings.Settings;
 import com.vrem.wifianalyzer.wifi.accesspoint.ConnectionView;
 import com.vrem.wifianalyzer.wifi.band.WiFiBand;
 import com.vrem.wifianalyzer.wifi.band.WiFiChannel;
+import com.vrem.wifianalyzer.wifi.scanner.ScanResultsReceiver;
 
 import java.util.Locale;
 
@@ -60,6 +61,7 @@ public class MainActivity extends AppCompatActivity
     private OptionMenu optionMenu;
     private String currentCountryCode;
     private PermissionChecker permissionChecker;
+    private ScanResultsReceiver scanResultsReceiver;
 
     @Override
     protected void attachBaseContext(Context newBase) {
@@ -101,6 +103,8 @@ public class MainActivity extends AppCompatActivity
         ConnectionView connectionView = new ConnectionView(this);
         mainContext.getScannerService().register(connectionView);
 
+        scanResultsReceiver = new ScanResultsReceiver(mainContext.getScannerService());
+
         permissionChecker = new PermissionChecker(this);
         permissionChecker.check();
     }
@@ -203,6 +207,7 @@ public class MainActivity extends AppCompatActivity
     @Override
     protected void onPause() {
         MainContext.INSTANCE.getScannerService().pause();
+        scanResultsReceiver.unregister(this);
         updateActionBar();
         super.onPause();
     }
@@ -212,6 +217,7 @@ public class MainActivity extends AppCompatActivity
         try {
             super.onResume();
             MainContext.INSTANCE.getScannerService().resume();
+            scanResultsReceiver.register(this);
             updateActionBar();
         } catch (Exception e) {
             reloadActivity();
@@ -108,14 +108,48 @@ public enum MainContext {
         WifiManager wifiManager = (WifiManager) applicationContext.getSystemService(Context.WIFI_SERVICE);
         Handler handler = new Handler();
         Settings currentSettings = new Settings(new Repository(applicationContext));
+        currentSettings.registerOnSharedPreferenceChangeListener(currentSettings);
         Configuration currentConfiguration = new Configuration(largeScreen);
 
+        VendorService currentVendorService = VendorServiceFactory.makeVendorService(mainActivity.getResources());
+        ScannerService currentScannerService = ScannerServiceFactory.makeScannerService(wifiManager, handler, currentSettings);
+
         setMainActivity(mainActivity);
         setConfiguration(currentConfiguration);
         setSettings(currentSettings);
-        setVendorService(VendorServiceFactory.makeVendorService(mainActivity.getResources()));
-        setScannerService(ScannerServiceFactory.makeScannerService(wifiManager, handler, currentSettings));
+        setVendorService(currentVendorService);
+        setScannerService(currentScannerService);
         setFilterAdapter(new FilterAdapter(currentSettings));
+
+        currentVendorService.load(new ScannerRefresh(handler, currentScannerService));
+    }
+
+    private static class ScannerRefresh implements Runnable {
+        private final Handler handler;
+        private final ScannerService scannerService;
+
+        private ScannerRefresh(@NonNull Handler handler, @NonNull ScannerService scannerService) {
+            this.handler = handler;
+            this.scannerService = scannerService;
+        }
+
+        @Override
+        public void run() {
+            handler.post(new Refresh(scannerService));
+        }
+    }
+
+    private static class Refresh implements Runnable {
+        private final ScannerService scannerService;
+
+        private Refresh(@NonNull ScannerService scannerService) {
+            this.scannerService = scannerService;
+        }
+
+        @Override
+        public void run() {
+            scannerService.refresh();
+        }
     }
 
 }
@@ -23,6 +23,7 @@ import android.app.AlertDialog;
 import android.content.ActivityNotFoundException;
 import android.content.DialogInterface;
 import android.content.Intent;
+import android.graphics.Typeface;
 import android.net.Uri;
 import android.os.Build;
 import android.os.Bundle;
@@ -31,6 +32,7 @@ import android.support.v4.app.Fragment;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.View.OnClickListener;
+import android.view.View.OnLongClickListener;
 import android.view.ViewGroup;
 import android.widget.TextView;
 import android.widget.Toast;
@@ -69,6 +71,8 @@ public class AboutFragment extends Fragment {
         view.findViewById(R.id.materialDesignIconsLicense).setOnClickListener(al);
 
         view.findViewById(R.id.writeReview).setOnClickListener(new WriteReviewClickListener(getActivity()));
+
+        view.findViewById(R.id.about_version_info).setOnLongClickListener(new ScanStatisticsLongClickListener(getActivity()));
     }
 
     private void setCopyright(View view) {
@@ -119,6 +123,33 @@ public class AboutFragment extends Fragment {
         }
     }
 
+    private static class ScanStatisticsLongClickListener implements OnLongClickListener {
+        private final Activity activity;
+
+        private ScanStatisticsLongClickListener(@NonNull Activity activity) {
+            this.activity = activity;
+        }
+
+        @Override
+        public boolean onLongClick(View view) {
+            if (activity.isFinishing()) {
+                return false;
+            }
+            String text = MainContext.INSTANCE.getScannerService().getScanInstrumentation().getReport();
+            AlertDialog alertDialog = new AlertDialog
+                .Builder(view.getContext())
+                .setTitle(R.string.scan_statistics_title)
+                .setMessage(text)
+                .setNeutralButton(android.R.string.ok, new AlertDialogClickListener.Close())
+                .create();
+            alertDialog.show();
+            TextView textView = alertDialog.findViewById(android.R.id.message);
+            textView.setTextSize(8);
+            textView.setTypeface(Typeface.MONOSPACE);
+            return true;
+        }
+    }
+
     private static class AlertDialogClickListener implements OnClickListener {
         private final Activity activity;
         private final int titleId;
@@ -18,7 +18,9 @@
 
 package com.vrem.wifianalyzer.settings;
 
+import android.content.SharedPreferences;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import com.vrem.util.EnumUtils;
 import com.vrem.util.LocaleUtils;
@@ -32,22 +34,47 @@ import com.vrem.wifianalyzer.wifi.model.GroupBy;
 import com.vrem.wifianalyzer.wifi.model.Security;
 import com.vrem.wifianalyzer.wifi.model.SortBy;
 import com.vrem.wifianalyzer.wifi.model.Strength;
+import com.vrem.wifianalyzer.wifi.model.WiFiDetail;
 
+import org.apache.commons.collections4.Predicate;
+
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 import static android.content.SharedPreferences.OnSharedPreferenceChangeListener;
 
-public class Settings {
+public class Settings implements OnSharedPreferenceChangeListener {
     static final int SCAN_INTERVAL_DEFAULT = 5;
     static final int GRAPH_Y_MULTIPLIER = -10;
     static final int GRAPH_Y_DEFAULT = 2;
 
     private final Repository repository;
+    private final Map<String, Predicate<WiFiDetail>> filters;
 
     public Settings(@NonNull Repository repository) {
         this.repository = repository;
+        this.filters = new HashMap<>();
+    }
+
+    @Override
+    public void onSharedPreferenceChanged(SharedPreferences sharedPreferences, String key) {
+        clearFilters();
+    }
+
+    @Nullable
+    public Predicate<WiFiDetail> getFilter(@NonNull String name) {
+        synchronized (filters) {
+            return filters.get(name);
+        }
+    }
+
+    public void cacheFilter(@NonNull String name, @NonNull Predicate<WiFiDetail> filter) {
+        synchronized (filters) {
+            filters.put(name, filter);
+        }
     }
 
     public void initializeDefaultValues() {
@@ -70,7 +97,9 @@ public class Settings {
     }
 
     public void toggleWiFiBand() {
-        repository.save(R.string.wifi_band_key, getWiFiBand().toggle().ordinal());
+        WiFiBand wiFiBand = getWiFiBand().toggle();
+        clearFilters();
+        repository.save(R.string.wifi_band_key, wiFiBand.ordinal());
     }
 
     @NonNull
@@ -145,6 +174,7 @@ public class Settings {
     }
 
     public void saveSSIDs(@NonNull Set<String> values) {
+        clearFilters();
         repository.saveStringSet(R.string.filter_ssid_key, values);
     }
 
@@ -176,19 +206,26 @@ public class Settings {
     }
 
     @NonNull
-    private <T extends Enum> T find(@NonNull Class<T> enumType, int key, @NonNull T defaultValue) {
+    private <T extends Enum<T>> T find(@NonNull Class<T> enumType, int key, @NonNull T defaultValue) {
         int value = repository.getStringAsInteger(key, defaultValue.ordinal());
         return EnumUtils.find(enumType, value, defaultValue);
     }
 
     @NonNull
-    private <T extends Enum> Set<T> findSet(@NonNull Class<T> enumType, int key, @NonNull T defaultValue) {
+    private <T extends Enum<T>> Set<T> findSet(@NonNull Class<T> enumType, int key, @NonNull T defaultValue) {
         Set<String> defaultValues = EnumUtils.ordinals(enumType);
         Set<String> values = repository.getStringSet(key, defaultValues);
         return EnumUtils.find(enumType, values, defaultValue);
     }
 
-    private <T extends Enum> void saveSet(int key, @NonNull Set<T> values) {
+    private <T extends Enum<T>> void saveSet(int key, @NonNull Set<T> values) {
+        clearFilters();
         repository.saveStringSet(key, EnumUtils.find(values));
     }
+
+    private void clearFilters() {
+        synchronized (filters) {
+            filters.clear();
+        }
+    }
 }
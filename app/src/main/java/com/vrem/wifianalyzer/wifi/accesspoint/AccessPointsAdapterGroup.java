@@ -87,18 +87,14 @@ class AccessPointsAdapterGroup {
     }
 
     boolean isGroupExpandable() {
-        return GroupBy.SSID.equals(this.groupBy) || GroupBy.CHANNEL.equals(this.groupBy);
+        return this.groupBy != null && !GroupBy.NONE.equals(this.groupBy);
     }
 
     String getGroupExpandKey(@NonNull WiFiDetail wiFiDetail) {
-        String result = StringUtils.EMPTY;
         if (GroupBy.SSID.equals(this.groupBy)) {
-            result = wiFiDetail.getSSID();
+            return wiFiDetail.getSSID();
         }
-        if (GroupBy.CHANNEL.equals(this.groupBy)) {
-            result += Integer.toString(wiFiDetail.getWiFiSignal().getPrimaryWiFiChannel().getChannel());
-        }
-        return result;
+        return isGroupExpandable() ? this.groupBy.getGroupKey(wiFiDetail).toString() : StringUtils.EMPTY;
     }
 
     Set<String> getExpanded() {
@@ -26,6 +26,8 @@ public enum WiFiBand {
     GHZ2(R.string.wifi_band_2ghz, new WiFiChannelsGHZ2()),
     GHZ5(R.string.wifi_band_5ghz, new WiFiChannelsGHZ5());
 
+    private static final WiFiBand[] VALUES = values();
+
     private final int textResource;
     private final WiFiChannels wiFiChannels;
 
@@ -34,6 +36,16 @@ public enum WiFiBand {
         this.wiFiChannels = wiFiChannels;
     }
 
+    @NonNull
+    public static WiFiBand find(int frequency) {
+        for (WiFiBand wiFiBand : VALUES) {
+            if (wiFiBand.wiFiChannels.isInRange(frequency)) {
+                return wiFiBand;
+            }
+        }
+        return GHZ2;
+    }
+
     public int getTextResource() {
         return textResource;
     }
@@ -37,25 +37,25 @@ public abstract class WiFiChannels {
     public static final int CHANNEL_OFFSET = 2;
     public static final int FREQUENCY_OFFSET = FREQUENCY_SPREAD * CHANNEL_OFFSET;
 
-    private final Pair<Integer, Integer> wiFiRange;
     private final List<Pair<WiFiChannel, WiFiChannel>> wiFiChannelPairs;
+    private final int frequencyStart;
+    private final int frequencyEnd;
+    private final WiFiChannel[] wiFiChannelsByFrequency;
 
     WiFiChannels(@NonNull Pair<Integer, Integer> wiFiRange, @NonNull List<Pair<WiFiChannel, WiFiChannel>> wiFiChannelPairs) {
-        this.wiFiRange = wiFiRange;
         this.wiFiChannelPairs = wiFiChannelPairs;
+        this.frequencyStart = wiFiRange.first;
+        this.frequencyEnd = wiFiRange.second;
+        this.wiFiChannelsByFrequency = makeWiFiChannelsByFrequency();
     }
 
     public boolean isInRange(int frequency) {
-        return frequency >= wiFiRange.first && frequency <= wiFiRange.second;
+        return frequency >= frequencyStart && frequency <= frequencyEnd;
     }
 
     @NonNull
     public WiFiChannel getWiFiChannelByFrequency(int frequency) {
-        Pair<WiFiChannel, WiFiChannel> found = null;
-        if (isInRange(frequency)) {
-            found = IterableUtils.find(wiFiChannelPairs, new FrequencyPredicate(frequency));
-        }
-        return found == null ? WiFiChannel.UNKNOWN : getWiFiChannel(frequency, found);
+        return isInRange(frequency) ? wiFiChannelsByFrequency[frequency - frequencyStart] : WiFiChannel.UNKNOWN;
     }
 
     @NonNull
@@ -94,6 +94,16 @@ public abstract class WiFiChannels {
         return WiFiChannel.UNKNOWN;
     }
 
+    @NonNull
+    private WiFiChannel[] makeWiFiChannelsByFrequency() {
+        WiFiChannel[] results = new WiFiChannel[frequencyEnd - frequencyStart + 1];
+        for (int frequency = frequencyStart; frequency <= frequencyEnd; frequency++) {
+            Pair<WiFiChannel, WiFiChannel> found = IterableUtils.find(wiFiChannelPairs, new FrequencyPredicate(frequency));
+            results[frequency - frequencyStart] = found == null ? WiFiChannel.UNKNOWN : getWiFiChannel(frequency, found);
+        }
+        return results;
+    }
+
     @NonNull
     public abstract List<WiFiChannel> getAvailableChannels(String countryCode);
 
@@ -35,6 +35,7 @@ import com.vrem.wifianalyzer.wifi.band.WiFiBand;
 import com.vrem.wifianalyzer.wifi.band.WiFiChannel;
 import com.vrem.wifianalyzer.wifi.band.WiFiChannels;
 import com.vrem.wifianalyzer.wifi.band.WiFiChannelsGHZ5;
+import com.vrem.wifianalyzer.wifi.model.ChannelOccupancy;
 import com.vrem.wifianalyzer.wifi.model.WiFiData;
 import com.vrem.wifianalyzer.wifi.model.WiFiDetail;
 import com.vrem.wifianalyzer.wifi.predicate.FilterPredicate;
@@ -84,7 +85,8 @@ class ChannelGraphNavigation {
             Predicate<WiFiDetail> predicate = FilterPredicate.makeOtherPredicate(settings);
             Pair<WiFiChannel, WiFiChannel> selectedWiFiChannelPair = configuration.getWiFiChannelPair();
             List<WiFiDetail> wiFiDetails = wiFiData.getWiFiDetails(predicate, settings.getSortBy());
-            IterableUtils.forEach(ids.keySet(), new ButtonClosure(visible, selectedWiFiChannelPair, wiFiDetails));
+            ChannelOccupancy channelOccupancy = new ChannelOccupancy(wiFiDetails);
+            IterableUtils.forEach(ids.keySet(), new ButtonClosure(visible, selectedWiFiChannelPair, channelOccupancy));
         }
     }
 
@@ -112,14 +114,14 @@ class ChannelGraphNavigation {
     private class ButtonClosure implements Closure<Pair<WiFiChannel, WiFiChannel>> {
         private final Collection<Pair<WiFiChannel, WiFiChannel>> visible;
         private final Pair<WiFiChannel, WiFiChannel> selectedWiFiChannelPair;
-        private final List<WiFiDetail> wiFiDetails;
+        private final ChannelOccupancy channelOccupancy;
 
         private ButtonClosure(@NonNull Collection<Pair<WiFiChannel, WiFiChannel>> visible,
                               @NonNull Pair<WiFiChannel, WiFiChannel> selectedWiFiChannelPair,
-                              @NonNull List<WiFiDetail> wiFiDetails) {
+                              @NonNull ChannelOccupancy channelOccupancy) {
             this.visible = visible;
             this.selectedWiFiChannelPair = selectedWiFiChannelPair;
-            this.wiFiDetails = wiFiDetails;
+            this.channelOccupancy = channelOccupancy;
         }
 
         @Override
@@ -128,7 +130,7 @@ class ChannelGraphNavigation {
             if (visible.contains(input)) {
                 button.setVisibility(View.VISIBLE);
                 setSelected(button, input.equals(selectedWiFiChannelPair));
-                setActivity(button, input, IterableUtils.matchesAny(wiFiDetails, new InRangePredicate(input)));
+                setActivity(button, input, channelOccupancy.hasCenterFrequency(input.first.getFrequency(), input.second.getFrequency()));
             } else {
                 button.setVisibility(View.GONE);
                 setSelected(button, false);
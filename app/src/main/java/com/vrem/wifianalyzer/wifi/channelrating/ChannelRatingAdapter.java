@@ -41,7 +41,9 @@ import com.vrem.wifianalyzer.settings.Settings;
 import com.vrem.wifianalyzer.wifi.band.WiFiBand;
 import com.vrem.wifianalyzer.wifi.band.WiFiChannel;
 import com.vrem.wifianalyzer.wifi.model.ChannelAPCount;
+import com.vrem.wifianalyzer.wifi.model.ChannelPlacement;
 import com.vrem.wifianalyzer.wifi.model.ChannelRating;
+import com.vrem.wifianalyzer.wifi.model.ChannelScore;
 import com.vrem.wifianalyzer.wifi.model.SortBy;
 import com.vrem.wifianalyzer.wifi.model.Strength;
 import com.vrem.wifianalyzer.wifi.model.WiFiData;
@@ -57,13 +59,16 @@ import java.util.Locale;
 
 class ChannelRatingAdapter extends ArrayAdapter<WiFiChannel> implements UpdateNotifier {
     private static final int MAX_CHANNELS_TO_DISPLAY = 10;
+    private static final int MAX_RECOMMENDATIONS_TO_DISPLAY = 3;
 
     private final TextView bestChannels;
+    private final TextView recommended;
     private ChannelRating channelRating;
 
-    ChannelRatingAdapter(@NonNull Context context, @NonNull TextView bestChannels) {
+    ChannelRatingAdapter(@NonNull Context context, @NonNull TextView bestChannels, @NonNull TextView recommended) {
         super(context, R.layout.channel_rating_details, new ArrayList<>());
         this.bestChannels = bestChannels;
+        this.recommended = recommended;
         setChannelRating(new ChannelRating());
     }
 
@@ -80,6 +85,7 @@ class ChannelRatingAdapter extends ArrayAdapter<WiFiChannel> implements UpdateNo
         List<WiFiDetail> wiFiDetails = wiFiData.getWiFiDetails(predicate, SortBy.STRENGTH);
         channelRating.setWiFiDetails(wiFiDetails);
         bestChannels(wiFiBand, wiFiChannels);
+        recommended(wiFiChannels);
         notifyDataSetChanged();
     }
 
@@ -170,4 +176,18 @@ class ChannelRatingAdapter extends ArrayAdapter<WiFiChannel> implements UpdateNo
         }
     }
 
+    void recommended(@NonNull List<WiFiChannel> wiFiChannels) {
+        List<ChannelScore> channelScores = channelRating.getRecommendations(wiFiChannels);
+        StringBuilder result = new StringBuilder();
+        for (ChannelScore channelScore : channelScores.subList(0, Math.min(MAX_RECOMMENDATIONS_TO_DISPLAY, channelScores.size()))) {
+            if (result.length() > 0) {
+                result.append(", ");
+            }
+            ChannelPlacement channelPlacement = channelScore.getChannelPlacement();
+            result.append(String.format(Locale.ENGLISH, "%d (%dMHz)",
+                channelPlacement.getWiFiChannel().getChannel(), channelPlacement.getWiFiWidth().getFrequencyWidth()));
+        }
+        recommended.setText(result.toString());
+    }
+
 }
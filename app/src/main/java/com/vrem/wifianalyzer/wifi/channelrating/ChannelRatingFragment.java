@@ -44,9 +44,10 @@ public class ChannelRatingFragment extends Fragment {
         swipeRefreshLayout.setOnRefreshListener(new ListViewOnRefreshListener());
 
         TextView bestChannels = view.findViewById(R.id.channelRatingBestChannels);
+        TextView recommended = view.findViewById(R.id.channelRatingRecommended);
         ListView listView = view.findViewById(R.id.channelRatingView);
 
-        channelRatingAdapter = new ChannelRatingAdapter(getActivity(), bestChannels);
+        channelRatingAdapter = new ChannelRatingAdapter(getActivity(), bestChannels, recommended);
         listView.setAdapter(channelRatingAdapter);
 
         MainContext.INSTANCE.getScannerService().register(channelRatingAdapter);
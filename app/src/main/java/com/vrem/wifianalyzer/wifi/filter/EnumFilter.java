@@ -32,7 +32,7 @@ import org.apache.commons.collections4.IterableUtils;
 
 import java.util.Map;
 
-abstract class EnumFilter<T extends Enum, U extends EnumFilterAdapter<T>> {
+abstract class EnumFilter<T extends Enum<T>, U extends EnumFilterAdapter<T>> {
     private final U filter;
 
     EnumFilter(@NonNull Map<T, Integer> ids, @NonNull U filter, @NonNull Dialog dialog, int id) {
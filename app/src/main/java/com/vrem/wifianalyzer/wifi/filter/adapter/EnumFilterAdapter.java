@@ -24,7 +24,7 @@ import com.vrem.util.EnumUtils;
 
 import java.util.Set;
 
-public abstract class EnumFilterAdapter<T extends Enum> extends BasicFilterAdapter<T> {
+public abstract class EnumFilterAdapter<T extends Enum<T>> extends BasicFilterAdapter<T> {
     private final Class<T> enumType;
 
     EnumFilterAdapter(@NonNull Class<T> enumType, @NonNull Set<T> values) {
@@ -34,7 +34,7 @@ public abstract class EnumFilterAdapter<T extends Enum> extends BasicFilterAdapt
 
     @Override
     public boolean isActive() {
-        return getValues().size() != EnumUtils.values(enumType).size();
+        return getValues().size() != EnumUtils.size(enumType);
     }
 
     public boolean toggle(@NonNull T object) {
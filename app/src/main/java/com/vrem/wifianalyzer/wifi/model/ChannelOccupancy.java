@@ -0,0 +1,148 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import android.support.annotation.NonNull;
+
+import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class ChannelOccupancy {
+    private static final int STRENGTHS = Strength.values().length;
+    private static final int CHANNEL_WIDTH = WiFiWidth.MHZ_20.getFrequencyWidthHalf() * 2;
+
+    public static final ChannelOccupancy EMPTY = new ChannelOccupancy(Collections.<WiFiDetail>emptyList());
+
+    private final int[] starts;
+    private final int[] ends;
+    private final long[] startSums;
+    private final long[] endSums;
+    private final int[] centers;
+    private final int[][] strengthStarts;
+    private final int[][] strengthEnds;
+
+    public ChannelOccupancy(@NonNull List<WiFiDetail> wiFiDetails) {
+        int size = wiFiDetails.size();
+        starts = new int[size];
+        ends = new int[size];
+        centers = new int[size];
+        int[] strengthSizes = new int[STRENGTHS];
+        for (int i = 0; i < size; i++) {
+            WiFiDetail wiFiDetail = wiFiDetails.get(i);
+            WiFiSignal wiFiSignal = wiFiDetail.getWiFiSignal();
+            starts[i] = wiFiSignal.getFrequencyStart();
+            ends[i] = wiFiSignal.getFrequencyEnd();
+            centers[i] = wiFiSignal.getCenterFrequency();
+            if (!isConnected(wiFiDetail)) {
+                strengthSizes[wiFiSignal.getStrength().ordinal()]++;
+            }
+        }
+        strengthStarts = new int[STRENGTHS][];
+        strengthEnds = new int[STRENGTHS][];
+        for (int strength = 0; strength < STRENGTHS; strength++) {
+            strengthStarts[strength] = new int[strengthSizes[strength]];
+            strengthEnds[strength] = new int[strengthSizes[strength]];
+            strengthSizes[strength] = 0;
+        }
+        for (int i = 0; i < size; i++) {
+            WiFiDetail wiFiDetail = wiFiDetails.get(i);
+            if (!isConnected(wiFiDetail)) {
+                int strength = wiFiDetail.getWiFiSignal().getStrength().ordinal();
+                int index = strengthSizes[strength]++;
+                strengthStarts[strength][index] = starts[i];
+                strengthEnds[strength][index] = ends[i];
+            }
+        }
+        for (int strength = 0; strength < STRENGTHS; strength++) {
+            Arrays.sort(strengthStarts[strength]);
+            Arrays.sort(strengthEnds[strength]);
+        }
+        Arrays.sort(starts);
+        Arrays.sort(ends);
+        Arrays.sort(centers);
+        startSums = prefixSums(starts);
+        endSums = prefixSums(ends);
+    }
+
+    public int getCount(int frequency) {
+        return getCount(starts, ends, frequency);
+    }
+
+    @NonNull
+    public Strength getStrength(int frequency) {
+        for (int strength = STRENGTHS - 1; strength > 0; strength--) {
+            if (getCount(strengthStarts[strength], strengthEnds[strength], frequency) > 0) {
+                return Strength.values()[strength];
+            }
+        }
+        return Strength.ZERO;
+    }
+
+    public double getOverlap(int frequency) {
+        int half = CHANNEL_WIDTH / 2;
+        return (double) (coverage(frequency + half) - coverage(frequency - half)) / CHANNEL_WIDTH;
+    }
+
+    public boolean hasCenterFrequency(int from, int to) {
+        return to >= from && upperBound(centers, to) > lowerBound(centers, from);
+    }
+
+    private long coverage(int frequency) {
+        int started = lowerBound(starts, frequency);
+        int ended = lowerBound(ends, frequency);
+        return ((long) started * frequency - startSums[started]) - ((long) ended * frequency - endSums[ended]);
+    }
+
+    private static int getCount(int[] starts, int[] ends, int frequency) {
+        return upperBound(starts, frequency) - lowerBound(ends, frequency);
+    }
+
+    private static boolean isConnected(@NonNull WiFiDetail wiFiDetail) {
+        return wiFiDetail.getWiFiAdditional().getWiFiConnection().isConnected();
+    }
+
+    private static long[] prefixSums(int[] values) {
+        long[] results = new long[values.length + 1];
+        for (int i = 0; i < values.length; i++) {
+            results[i + 1] = results[i] + values[i];
+        }
+        return results;
+    }
+
+    private static int lowerBound(int[] values, int value) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int upperBound(int[] values, int value) {
+        return lowerBound(values, value + 1);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import android.support.annotation.NonNull;
+
+import com.vrem.wifianalyzer.wifi.band.WiFiBand;
+import com.vrem.wifianalyzer.wifi.band.WiFiChannel;
+import com.vrem.wifianalyzer.wifi.band.WiFiChannels;
+import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class ChannelPlacement implements Comparable<ChannelPlacement> {
+    static final WiFiWidth[] WIDTHS = {WiFiWidth.MHZ_20, WiFiWidth.MHZ_40, WiFiWidth.MHZ_80};
+
+    private static final int CHANNEL_STEP = WiFiWidth.MHZ_20.getFrequencyWidth() / WiFiChannels.FREQUENCY_SPREAD;
+    private static final int GHZ5_BLOCK_LOW = 36;
+    private static final int GHZ5_BLOCK_HIGH = 149;
+
+    private final WiFiChannel wiFiChannel;
+    private final WiFiWidth wiFiWidth;
+    private final int centerFrequency;
+
+    public ChannelPlacement(@NonNull WiFiChannel wiFiChannel, @NonNull WiFiWidth wiFiWidth) {
+        this.wiFiChannel = wiFiChannel;
+        this.wiFiWidth = wiFiWidth;
+        this.centerFrequency = wiFiChannel.getFrequency() + (wiFiWidth.getFrequencyWidth() - WiFiWidth.MHZ_20.getFrequencyWidth()) / 2;
+    }
+
+    @NonNull
+    public static List<ChannelPlacement> makeChannelPlacements(@NonNull List<WiFiChannel> wiFiChannels) {
+        Set<Integer> channels = new HashSet<>();
+        for (WiFiChannel wiFiChannel : wiFiChannels) {
+            channels.add(wiFiChannel.getChannel());
+        }
+        List<ChannelPlacement> results = new ArrayList<>();
+        for (WiFiWidth wiFiWidth : WIDTHS) {
+            for (WiFiChannel wiFiChannel : wiFiChannels) {
+                if (isPlacement(wiFiChannel, wiFiWidth, channels)) {
+                    results.add(new ChannelPlacement(wiFiChannel, wiFiWidth));
+                }
+            }
+        }
+        return results;
+    }
+
+    private static boolean isPlacement(@NonNull WiFiChannel wiFiChannel, @NonNull WiFiWidth wiFiWidth, @NonNull Set<Integer> channels) {
+        int bonded = wiFiWidth.getFrequencyWidth() / WiFiWidth.MHZ_20.getFrequencyWidth();
+        int channel = wiFiChannel.getChannel();
+        if (WiFiBand.GHZ2.getWiFiChannels().isInRange(wiFiChannel.getFrequency())) {
+            if (bonded > 2) {
+                return false;
+            }
+        } else {
+            int block = channel < GHZ5_BLOCK_HIGH ? GHZ5_BLOCK_LOW : GHZ5_BLOCK_HIGH;
+            int offset = channel - block;
+            if (offset < 0 || offset % CHANNEL_STEP != 0 || (offset / CHANNEL_STEP) % bonded != 0) {
+                return false;
+            }
+        }
+        for (int i = 0; i < bonded; i++) {
+            if (!channels.contains(channel + i * CHANNEL_STEP)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @NonNull
+    public WiFiChannel getWiFiChannel() {
+        return wiFiChannel;
+    }
+
+    @NonNull
+    public WiFiWidth getWiFiWidth() {
+        return wiFiWidth;
+    }
+
+    public int getCenterFrequency() {
+        return centerFrequency;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ChannelPlacement that = (ChannelPlacement) o;
+
+        return new EqualsBuilder()
+            .append(wiFiChannel, that.wiFiChannel)
+            .append(wiFiWidth, that.wiFiWidth)
+            .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(17, 37)
+            .append(wiFiChannel)
+            .append(wiFiWidth)
+            .toHashCode();
+    }
+
+    @Override
+    public int compareTo(@NonNull ChannelPlacement another) {
+        int result = another.wiFiWidth.compareTo(wiFiWidth);
+        return result == 0 ? wiFiChannel.compareTo(another.wiFiChannel) : result;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -35,27 +35,34 @@ import java.util.List;
 public class ChannelRating {
     static final int LEVEL_RANGE_MIN = -5;
     private static final int LEVEL_RANGE_MAX = 5;
-    private static final int BSSID_LENGTH = 17;
+    private static final long GUEST_MASK = 0x00FFFFFFFFF0L;
 
     private List<WiFiDetail> wiFiDetails;
+    private ChannelOccupancy channelOccupancy;
+    private ChannelScorer channelScorer;
 
     public ChannelRating() {
         wiFiDetails = Collections.emptyList();
+        channelOccupancy = ChannelOccupancy.EMPTY;
+        setChannelScorer(new InterferenceScorer());
+    }
+
+    public void setChannelScorer(@NonNull ChannelScorer channelScorer) {
+        this.channelScorer = channelScorer;
     }
 
     public int getCount(@NonNull WiFiChannel wiFiChannel) {
-        return collectOverlapping(wiFiChannel).size();
+        return channelOccupancy.getCount(wiFiChannel.getFrequency());
     }
 
     @NonNull
     public Strength getStrength(@NonNull WiFiChannel wiFiChannel) {
-        Strength strength = Strength.ZERO;
-        for (WiFiDetail wiFiDetail : collectOverlapping(wiFiChannel)) {
-            if (!wiFiDetail.getWiFiAdditional().getWiFiConnection().isConnected()) {
-                strength = Strength.values()[Math.max(strength.ordinal(), wiFiDetail.getWiFiSignal().getStrength().ordinal())];
-            }
-        }
-        return strength;
+        return channelOccupancy.getStrength(wiFiChannel.getFrequency());
+    }
+
+    @NonNull
+    public ChannelOccupancy getChannelOccupancy() {
+        return channelOccupancy;
     }
 
     @NonNull
@@ -81,10 +88,11 @@ public class ChannelRating {
 
     public void setWiFiDetails(@NonNull List<WiFiDetail> wiFiDetails) {
         this.wiFiDetails = removeGuest(new ArrayList<>(wiFiDetails));
+        this.channelOccupancy = new ChannelOccupancy(this.wiFiDetails);
     }
 
     private boolean isGuest(@NonNull WiFiDetail lhs, @NonNull WiFiDetail rhs) {
-        if (!isGuestBSSID(lhs.getBSSID(), rhs.getBSSID())) {
+        if (!lhs.getMacAddress().matches(rhs.getMacAddress(), GUEST_MASK)) {
             return false;
         }
         int result = lhs.getWiFiSignal().getPrimaryFrequency() - rhs.getWiFiSignal().getPrimaryFrequency();
@@ -97,18 +105,6 @@ public class ChannelRating {
         return result == 0;
     }
 
-    private boolean isGuestBSSID(@NonNull String lhs, @NonNull String rhs) {
-        return lhs.length() == BSSID_LENGTH &&
-            lhs.length() == rhs.length() &&
-            lhs.substring(0, 0).equalsIgnoreCase(rhs.substring(0, 0)) &&
-            lhs.substring(2, BSSID_LENGTH - 1).equalsIgnoreCase(rhs.substring(2, BSSID_LENGTH - 1));
-    }
-
-    @NonNull
-    private List<WiFiDetail> collectOverlapping(@NonNull WiFiChannel wiFiChannel) {
-        return new ArrayList<>(CollectionUtils.select(wiFiDetails, new InRangePredicate(wiFiChannel)));
-    }
-
     @NonNull
     public List<ChannelAPCount> getBestChannels(@NonNull final List<WiFiChannel> wiFiChannels) {
         List<ChannelAPCount> results = new ArrayList<>(
@@ -119,6 +115,11 @@ public class ChannelRating {
         return results;
     }
 
+    @NonNull
+    public List<ChannelScore> getRecommendations(@NonNull List<WiFiChannel> wiFiChannels) {
+        return channelScorer.score(wiFiDetails, ChannelPlacement.makeChannelPlacements(wiFiChannels));
+    }
+
     private class ChannelAPCountSort implements Comparator<ChannelAPCount> {
         @Override
         public int compare(ChannelAPCount lhs, ChannelAPCount rhs) {
@@ -134,7 +135,7 @@ public class ChannelRating {
         @Override
         public int compare(@NonNull WiFiDetail lhs, @NonNull WiFiDetail rhs) {
             return new CompareToBuilder()
-                .append(lhs.getBSSID().toUpperCase(), rhs.getBSSID().toUpperCase())
+                .append(lhs.getMacAddress(), rhs.getMacAddress())
                 .append(lhs.getWiFiSignal().getPrimaryFrequency(), rhs.getWiFiSignal().getPrimaryFrequency())
                 .append(rhs.getWiFiSignal().getLevel(), lhs.getWiFiSignal().getLevel())
                 .append(lhs.getSSID().toUpperCase(), rhs.getSSID().toUpperCase())
@@ -156,17 +157,4 @@ public class ChannelRating {
             return new ChannelAPCount(input, getCount(input));
         }
     }
-
-    private class InRangePredicate implements Predicate<WiFiDetail> {
-        private final WiFiChannel wiFiChannel;
-
-        private InRangePredicate(WiFiChannel wiFiChannel) {
-            this.wiFiChannel = wiFiChannel;
-        }
-
-        @Override
-        public boolean evaluate(WiFiDetail wiFiDetail) {
-            return wiFiDetail.getWiFiSignal().isInRange(wiFiChannel.getFrequency());
-        }
-    }
 }
@@ -0,0 +1,57 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import android.support.annotation.NonNull;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+public class ChannelScore implements Comparable<ChannelScore> {
+    private final ChannelPlacement channelPlacement;
+    private final double interference;
+
+    public ChannelScore(@NonNull ChannelPlacement channelPlacement, double interference) {
+        this.channelPlacement = channelPlacement;
+        this.interference = interference;
+    }
+
+    @NonNull
+    public ChannelPlacement getChannelPlacement() {
+        return channelPlacement;
+    }
+
+    public double getInterference() {
+        return interference;
+    }
+
+    public double getInterferenceDbm() {
+        return interference > 0 ? 10 * Math.log10(interference) : Double.NEGATIVE_INFINITY;
+    }
+
+    @Override
+    public int compareTo(@NonNull ChannelScore another) {
+        int result = Double.compare(interference, another.interference);
+        return result == 0 ? channelPlacement.compareTo(another.channelPlacement) : result;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
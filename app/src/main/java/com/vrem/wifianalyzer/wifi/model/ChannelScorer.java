@@ -16,23 +16,13 @@
  * along with this program.  If not, see <http://www.gnu.org/licenses/>
  */
 
-package com.vrem.wifianalyzer.wifi.predicate;
+package com.vrem.wifianalyzer.wifi.model;
 
 import android.support.annotation.NonNull;
 
-import com.vrem.wifianalyzer.wifi.model.WiFiDetail;
+import java.util.List;
 
-import org.apache.commons.collections4.Predicate;
-
-class SSIDPredicate implements Predicate<WiFiDetail> {
-    private final String ssid;
-
-    SSIDPredicate(@NonNull String ssid) {
-        this.ssid = ssid;
-    }
-
-    @Override
-    public boolean evaluate(WiFiDetail object) {
-        return object.getSSID().contains(ssid);
-    }
+public interface ChannelScorer {
+    @NonNull
+    List<ChannelScore> score(@NonNull List<WiFiDetail> wiFiDetails, @NonNull List<ChannelPlacement> channelPlacements);
 }
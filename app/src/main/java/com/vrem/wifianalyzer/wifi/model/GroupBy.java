@@ -20,78 +20,74 @@ package com.vrem.wifianalyzer.wifi.model;
 
 import android.support.annotation.NonNull;
 
-import org.apache.commons.lang3.builder.CompareToBuilder;
-
-import java.util.Comparator;
+import org.apache.commons.collections4.Transformer;
 
 public enum GroupBy {
-    NONE(new None(), new None()),
-    SSID(new SSIDSortOrder(), new SSIDGroupBy()),
-    CHANNEL(new ChannelSortOrder(), new ChannelGroupBy());
+    NONE(new None()),
+    SSID(new SSIDGroupKey()),
+    CHANNEL(new ChannelGroupKey()),
+    VENDOR(new VendorGroupKey()),
+    SECURITY(new SecurityGroupKey()),
+    BAND(new BandGroupKey()),
+    WIDTH(new WidthGroupKey());
 
-    private final Comparator<WiFiDetail> sortOrderComparator;
-    private final Comparator<WiFiDetail> groupByComparator;
+    private final Transformer<WiFiDetail, Object> groupKey;
 
-    GroupBy(@NonNull Comparator<WiFiDetail> sortOrderComparator, @NonNull Comparator<WiFiDetail> groupByComparator) {
-        this.sortOrderComparator = sortOrderComparator;
-        this.groupByComparator = groupByComparator;
+    GroupBy(@NonNull Transformer<WiFiDetail, Object> groupKey) {
+        this.groupKey = groupKey;
     }
 
     @NonNull
-    Comparator<WiFiDetail> sortOrderComparator() {
-        return sortOrderComparator;
+    public Object getGroupKey(@NonNull WiFiDetail wiFiDetail) {
+        return groupKey.transform(wiFiDetail);
     }
 
-    @NonNull
-    Comparator<WiFiDetail> groupByComparator() {
-        return groupByComparator;
+    static class None implements Transformer<WiFiDetail, Object> {
+        @Override
+        public Object transform(WiFiDetail input) {
+            return input;
+        }
+    }
+
+    static class SSIDGroupKey implements Transformer<WiFiDetail, Object> {
+        @Override
+        public Object transform(WiFiDetail input) {
+            return input.getSortKey().getSSID();
+        }
     }
 
-    static class None implements Comparator<WiFiDetail> {
+    static class ChannelGroupKey implements Transformer<WiFiDetail, Object> {
         @Override
-        public int compare(WiFiDetail lhs, WiFiDetail rhs) {
-            return lhs.equals(rhs) ? 0 : 1;
+        public Object transform(WiFiDetail input) {
+            return input.getSortKey().getChannel();
         }
     }
 
-    static class SSIDSortOrder implements Comparator<WiFiDetail> {
+    static class VendorGroupKey implements Transformer<WiFiDetail, Object> {
         @Override
-        public int compare(WiFiDetail lhs, WiFiDetail rhs) {
-            return new CompareToBuilder()
-                .append(lhs.getSSID().toUpperCase(), rhs.getSSID().toUpperCase())
-                .append(rhs.getWiFiSignal().getLevel(), lhs.getWiFiSignal().getLevel())
-                .append(lhs.getBSSID().toUpperCase(), rhs.getBSSID().toUpperCase())
-                .toComparison();
+        public Object transform(WiFiDetail input) {
+            return input.getWiFiAdditional().getVendorName();
         }
     }
 
-    static class SSIDGroupBy implements Comparator<WiFiDetail> {
+    static class SecurityGroupKey implements Transformer<WiFiDetail, Object> {
         @Override
-        public int compare(WiFiDetail lhs, WiFiDetail rhs) {
-            return new CompareToBuilder()
-                .append(lhs.getSSID().toUpperCase(), rhs.getSSID().toUpperCase())
-                .toComparison();
+        public Object transform(WiFiDetail input) {
+            return input.getSecurity();
         }
     }
 
-    static class ChannelSortOrder implements Comparator<WiFiDetail> {
+    static class BandGroupKey implements Transformer<WiFiDetail, Object> {
         @Override
-        public int compare(WiFiDetail lhs, WiFiDetail rhs) {
-            return new CompareToBuilder()
-                .append(lhs.getWiFiSignal().getPrimaryWiFiChannel().getChannel(), rhs.getWiFiSignal().getPrimaryWiFiChannel().getChannel())
-                .append(rhs.getWiFiSignal().getLevel(), lhs.getWiFiSignal().getLevel())
-                .append(lhs.getSSID().toUpperCase(), rhs.getSSID().toUpperCase())
-                .append(lhs.getBSSID().toUpperCase(), rhs.getBSSID().toUpperCase())
-                .toComparison();
+        public Object transform(WiFiDetail input) {
+            return input.getWiFiSignal().getWiFiBand();
         }
     }
 
-    static class ChannelGroupBy implements Comparator<WiFiDetail> {
+    static class WidthGroupKey implements Transformer<WiFiDetail, Object> {
         @Override
-        public int compare(WiFiDetail lhs, WiFiDetail rhs) {
-            return new CompareToBuilder()
-                .append(lhs.getWiFiSignal().getPrimaryWiFiChannel().getChannel(), rhs.getWiFiSignal().getPrimaryWiFiChannel().getChannel())
-                .toComparison();
+        public Object transform(WiFiDetail input) {
+            return input.getWiFiSignal().getWiFiWidth();
         }
     }
 
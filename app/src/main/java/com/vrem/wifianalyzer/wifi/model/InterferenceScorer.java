@@ -0,0 +1,189 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import android.support.annotation.NonNull;
+
+import com.vrem.wifianalyzer.wifi.band.WiFiBand;
+import com.vrem.wifianalyzer.wifi.band.WiFiChannels;
+import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class InterferenceScorer implements ChannelScorer {
+    private static final double[] MASK_LEVELS = {0, -20, -28, -40};
+    private static final int MASK_GUARD = 1;
+    private static final double MASK_EDGE = 1.5;
+
+    private final Map<WiFiBand, OverlapMatrix> overlapMatrices;
+
+    public InterferenceScorer() {
+        this.overlapMatrices = new EnumMap<>(WiFiBand.class);
+    }
+
+    @NonNull
+    @Override
+    public List<ChannelScore> score(@NonNull List<WiFiDetail> wiFiDetails, @NonNull List<ChannelPlacement> channelPlacements) {
+        if (channelPlacements.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int size = channelPlacements.size();
+        long[] placements = new long[size];
+        for (int i = 0; i < size; i++) {
+            placements[i] = (long) channelPlacements.get(i).getCenterFrequency() << Integer.SIZE | i;
+        }
+        Arrays.sort(placements);
+        OverlapMatrix overlapMatrix = getOverlapMatrix(channelPlacements.get(0));
+        double[] interference = new double[size];
+        for (WiFiDetail wiFiDetail : wiFiDetails) {
+            if (wiFiDetail.getWiFiAdditional().getWiFiConnection().isConnected()) {
+                continue;
+            }
+            WiFiSignal wiFiSignal = wiFiDetail.getWiFiSignal();
+            int center = wiFiSignal.getCenterFrequency();
+            int reach = overlapMatrix.getReach();
+            double power = Math.pow(10, wiFiSignal.getLevel() / 10.0);
+            for (int i = lowerBound(placements, center - reach); i < size; i++) {
+                int placementCenter = (int) (placements[i] >> Integer.SIZE);
+                if (placementCenter > center + reach) {
+                    break;
+                }
+                int index = (int) placements[i];
+                WiFiWidth wiFiWidth = channelPlacements.get(index).getWiFiWidth();
+                interference[index] += power * overlapMatrix.getOverlap(wiFiSignal.getWiFiWidth(), wiFiWidth, placementCenter - center);
+            }
+        }
+        List<ChannelScore> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(new ChannelScore(channelPlacements.get(i), interference[i]));
+        }
+        Collections.sort(results);
+        return results;
+    }
+
+    @NonNull
+    synchronized OverlapMatrix getOverlapMatrix(@NonNull WiFiBand wiFiBand) {
+        OverlapMatrix result = overlapMatrices.get(wiFiBand);
+        if (result == null) {
+            result = new OverlapMatrix(wiFiBand.getWiFiChannels());
+            overlapMatrices.put(wiFiBand, result);
+        }
+        return result;
+    }
+
+    @NonNull
+    private OverlapMatrix getOverlapMatrix(@NonNull ChannelPlacement channelPlacement) {
+        int frequency = channelPlacement.getWiFiChannel().getFrequency();
+        return getOverlapMatrix(WiFiBand.GHZ2.getWiFiChannels().isInRange(frequency) ? WiFiBand.GHZ2 : WiFiBand.GHZ5);
+    }
+
+    static double getMaskLevel(@NonNull WiFiWidth wiFiWidth, double offset) {
+        double half = wiFiWidth.getFrequencyWidthHalf();
+        double width = wiFiWidth.getFrequencyWidth();
+        double distance = Math.abs(offset);
+        double[] edges = {half - MASK_GUARD, half + MASK_GUARD, width, width * MASK_EDGE};
+        if (distance <= edges[0]) {
+            return MASK_LEVELS[0];
+        }
+        for (int i = 1; i < edges.length; i++) {
+            if (distance <= edges[i]) {
+                double ratio = (distance - edges[i - 1]) / (edges[i] - edges[i - 1]);
+                return MASK_LEVELS[i - 1] + ratio * (MASK_LEVELS[i] - MASK_LEVELS[i - 1]);
+            }
+        }
+        return Double.NEGATIVE_INFINITY;
+    }
+
+    private static int lowerBound(long[] placements, int frequency) {
+        int low = 0;
+        int high = placements.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if ((int) (placements[middle] >> Integer.SIZE) < frequency) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    static class OverlapMatrix {
+        private final int reach;
+        private final double[][][] overlaps;
+
+        OverlapMatrix(@NonNull WiFiChannels wiFiChannels) {
+            int span = wiFiChannels.getWiFiChannelLast().getFrequency() - wiFiChannels.getWiFiChannelFirst().getFrequency();
+            WiFiWidth[] wiFiWidths = WiFiWidth.values();
+            int maxReach = 0;
+            for (WiFiWidth wiFiWidth : wiFiWidths) {
+                maxReach = Math.max(maxReach, (int) Math.ceil(wiFiWidth.getFrequencyWidth() * MASK_EDGE));
+            }
+            maxReach += WiFiWidth.MHZ_80.getFrequencyWidthHalf();
+            reach = Math.min(maxReach, span + WiFiWidth.MHZ_80.getFrequencyWidth());
+            overlaps = new double[wiFiWidths.length][ChannelPlacement.WIDTHS.length][reach + 1];
+            for (WiFiWidth wiFiWidth : wiFiWidths) {
+                double power = integrate(wiFiWidth, 0, wiFiWidth);
+                for (int placement = 0; placement < ChannelPlacement.WIDTHS.length; placement++) {
+                    for (int offset = 0; offset <= reach; offset++) {
+                        overlaps[wiFiWidth.ordinal()][placement][offset] = integrate(wiFiWidth, offset, ChannelPlacement.WIDTHS[placement]) / power;
+                    }
+                }
+            }
+        }
+
+        int getReach() {
+            return reach;
+        }
+
+        double getOverlap(@NonNull WiFiWidth wiFiWidth, @NonNull WiFiWidth placementWidth, int offset) {
+            int distance = Math.abs(offset);
+            if (distance > reach) {
+                return 0;
+            }
+            return overlaps[wiFiWidth.ordinal()][indexOf(placementWidth)][distance];
+        }
+
+        private static int indexOf(@NonNull WiFiWidth wiFiWidth) {
+            for (int i = 0; i < ChannelPlacement.WIDTHS.length; i++) {
+                if (ChannelPlacement.WIDTHS[i] == wiFiWidth) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException(wiFiWidth.name());
+        }
+
+        private static double integrate(@NonNull WiFiWidth wiFiWidth, int offset, @NonNull WiFiWidth placementWidth) {
+            double result = 0;
+            int half = placementWidth.getFrequencyWidthHalf();
+            for (int frequency = -half; frequency < half; frequency++) {
+                double level = getMaskLevel(wiFiWidth, offset + frequency + 0.5);
+                if (level != Double.NEGATIVE_INFINITY) {
+                    result += Math.pow(10, level / 10);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import android.support.annotation.NonNull;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Locale;
+
+public class MacAddress implements Comparable<MacAddress> {
+    public static final long INVALID = -1L;
+    public static final long OUI_MASK = 0xFFFFFF000000L;
+    public static final MacAddress EMPTY = new MacAddress(StringUtils.EMPTY, INVALID);
+
+    private static final int LENGTH = 17;
+    private static final char SEPARATOR = ':';
+    private static final int RADIX = 16;
+    private static final int OUI_SHIFT = 24;
+    private static final long LOCALLY_ADMINISTERED = 0x020000000000L;
+
+    private final String text;
+    private final long value;
+    private final String key;
+
+    private MacAddress(@NonNull String text, long value) {
+        this.text = text;
+        this.value = value;
+        this.key = value == INVALID ? text.toUpperCase(Locale.ENGLISH) : null;
+    }
+
+    @NonNull
+    public static MacAddress of(String text) {
+        return of(text, parse(text));
+    }
+
+    @NonNull
+    public static MacAddress of(String text, long value) {
+        return StringUtils.isEmpty(text) ? EMPTY : new MacAddress(text, value);
+    }
+
+    public static long parse(String text) {
+        if (text == null || text.length() != LENGTH) {
+            return INVALID;
+        }
+        long result = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            char c = text.charAt(i);
+            if (i % 3 == 2) {
+                if (c != SEPARATOR) {
+                    return INVALID;
+                }
+                continue;
+            }
+            int digit = Character.digit(c, RADIX);
+            if (digit < 0) {
+                return INVALID;
+            }
+            result = (result << 4) | digit;
+        }
+        return result;
+    }
+
+    public static int hash(long value) {
+        long result = value * 0x9E3779B97F4A7C15L;
+        return (int) (result ^ (result >>> 32));
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    public boolean isValid() {
+        return value != INVALID;
+    }
+
+    public int getOui() {
+        return isValid() ? (int) (value >>> OUI_SHIFT) : (int) INVALID;
+    }
+
+    public boolean isLocallyAdministered() {
+        return isValid() && (value & LOCALLY_ADMINISTERED) != 0;
+    }
+
+    public boolean matches(@NonNull MacAddress other, long mask) {
+        return isValid() && other.isValid() && ((value ^ other.value) & mask) == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        MacAddress that = (MacAddress) o;
+
+        return isValid() ? value == that.value : !that.isValid() && key.equals(that.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return isValid() ? hash(value) : key.hashCode();
+    }
+
+    @Override
+    public int compareTo(@NonNull MacAddress another) {
+        if (isValid() && another.isValid()) {
+            return value < another.value ? -1 : (value == another.value ? 0 : 1);
+        }
+        return getKey().compareTo(another.getKey());
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    @NonNull
+    private String getKey() {
+        return key == null ? text.toUpperCase(Locale.ENGLISH) : key;
+    }
+
+}
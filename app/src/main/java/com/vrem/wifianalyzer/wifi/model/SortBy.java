@@ -20,8 +20,6 @@ package com.vrem.wifianalyzer.wifi.model;
 
 import android.support.annotation.NonNull;
 
-import org.apache.commons.lang3.builder.CompareToBuilder;
-
 import java.util.Comparator;
 
 public enum SortBy {
@@ -43,35 +41,42 @@ public enum SortBy {
     static class StrengthComparator implements Comparator<WiFiDetail> {
         @Override
         public int compare(WiFiDetail lhs, WiFiDetail rhs) {
-            return new CompareToBuilder()
-                .append(rhs.getWiFiSignal().getLevel(), lhs.getWiFiSignal().getLevel())
-                .append(lhs.getSSID().toUpperCase(), rhs.getSSID().toUpperCase())
-                .append(lhs.getBSSID().toUpperCase(), rhs.getBSSID().toUpperCase())
-                .toComparison();
+            SortKey left = lhs.getSortKey();
+            SortKey right = rhs.getSortKey();
+            int result = left.compareStrength(right);
+            if (result == 0) {
+                result = left.compareSSID(right);
+            }
+            return result == 0 ? left.compareBSSID(right) : result;
         }
     }
 
-
     static class SSIDComparator implements Comparator<WiFiDetail> {
         @Override
         public int compare(WiFiDetail lhs, WiFiDetail rhs) {
-            return new CompareToBuilder()
-                .append(lhs.getSSID().toUpperCase(), rhs.getSSID().toUpperCase())
-                .append(rhs.getWiFiSignal().getLevel(), lhs.getWiFiSignal().getLevel())
-                .append(lhs.getBSSID().toUpperCase(), rhs.getBSSID().toUpperCase())
-                .toComparison();
+            SortKey left = lhs.getSortKey();
+            SortKey right = rhs.getSortKey();
+            int result = left.compareSSID(right);
+            if (result == 0) {
+                result = left.compareStrength(right);
+            }
+            return result == 0 ? left.compareBSSID(right) : result;
         }
     }
 
     static class ChannelComparator implements Comparator<WiFiDetail> {
         @Override
         public int compare(WiFiDetail lhs, WiFiDetail rhs) {
-            return new CompareToBuilder()
-                .append(lhs.getWiFiSignal().getPrimaryWiFiChannel().getChannel(), rhs.getWiFiSignal().getPrimaryWiFiChannel().getChannel())
-                .append(rhs.getWiFiSignal().getLevel(), lhs.getWiFiSignal().getLevel())
-                .append(lhs.getSSID().toUpperCase(), rhs.getSSID().toUpperCase())
-                .append(lhs.getBSSID().toUpperCase(), rhs.getBSSID().toUpperCase())
-                .toComparison();
+            SortKey left = lhs.getSortKey();
+            SortKey right = rhs.getSortKey();
+            int result = left.compareChannel(right);
+            if (result == 0) {
+                result = left.compareStrength(right);
+            }
+            if (result == 0) {
+                result = left.compareSSID(right);
+            }
+            return result == 0 ? left.compareBSSID(right) : result;
         }
     }
 
@@ -0,0 +1,74 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import android.support.annotation.NonNull;
+
+final class SortKey {
+    private final String ssid;
+    private final MacAddress macAddress;
+    private final long bssid;
+    private final int channel;
+    private final int level;
+
+    SortKey(@NonNull WiFiDetail wiFiDetail) {
+        WiFiSignal wiFiSignal = wiFiDetail.getWiFiSignal();
+        this.ssid = wiFiDetail.getSSID().toUpperCase();
+        this.macAddress = wiFiDetail.getMacAddress();
+        this.bssid = macAddress.getValue();
+        this.channel = wiFiSignal.getPrimaryWiFiChannel().getChannel();
+        this.level = wiFiSignal.getLevel();
+    }
+
+    @NonNull
+    String getSSID() {
+        return ssid;
+    }
+
+    long getBSSID() {
+        return bssid;
+    }
+
+    int getChannel() {
+        return channel;
+    }
+
+    int getLevel() {
+        return level;
+    }
+
+    int compareSSID(@NonNull SortKey other) {
+        return ssid.compareTo(other.ssid);
+    }
+
+    int compareStrength(@NonNull SortKey other) {
+        return Integer.compare(other.level, level);
+    }
+
+    int compareChannel(@NonNull SortKey other) {
+        return Integer.compare(channel, other.channel);
+    }
+
+    int compareBSSID(@NonNull SortKey other) {
+        if (bssid == MacAddress.INVALID || other.bssid == MacAddress.INVALID) {
+            return macAddress.compareTo(other.macAddress);
+        }
+        return Long.compare(bssid, other.bssid);
+    }
+}
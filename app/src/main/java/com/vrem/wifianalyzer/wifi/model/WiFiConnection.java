@@ -30,13 +30,13 @@ public class WiFiConnection {
     public static final WiFiConnection EMPTY = new WiFiConnection(StringUtils.EMPTY, StringUtils.EMPTY, StringUtils.EMPTY, LINK_SPEED_INVALID);
 
     private final String SSID;
-    private final String BSSID;
+    private final MacAddress macAddress;
     private final String ipAddress;
     private final int linkSpeed;
 
     public WiFiConnection(@NonNull String SSID, @NonNull String BSSID, @NonNull String ipAddress, int linkSpeed) {
         this.SSID = SSID;
-        this.BSSID = BSSID;
+        this.macAddress = MacAddress.of(BSSID);
         this.ipAddress = ipAddress;
         this.linkSpeed = linkSpeed;
     }
@@ -48,7 +48,12 @@ public class WiFiConnection {
 
     @NonNull
     public String getBSSID() {
-        return BSSID;
+        return macAddress.toString();
+    }
+
+    @NonNull
+    public MacAddress getMacAddress() {
+        return macAddress;
     }
 
     @NonNull
@@ -74,7 +79,7 @@ public class WiFiConnection {
 
         return new EqualsBuilder()
             .append(getSSID(), that.getSSID())
-            .append(getBSSID(), that.getBSSID())
+            .append(getMacAddress(), that.getMacAddress())
             .isEquals();
     }
 
@@ -82,7 +87,7 @@ public class WiFiConnection {
     public int hashCode() {
         return new HashCodeBuilder(17, 37)
             .append(getSSID())
-            .append(getBSSID())
+            .append(getMacAddress())
             .toHashCode();
     }
 
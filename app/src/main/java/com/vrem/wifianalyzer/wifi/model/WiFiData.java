@@ -24,33 +24,76 @@ import com.vrem.wifianalyzer.MainContext;
 import com.vrem.wifianalyzer.vendor.model.VendorService;
 
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.collections4.Predicate;
-import org.apache.commons.collections4.Transformer;
-import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class WiFiData {
     public static final WiFiData EMPTY = new WiFiData(Collections.emptyList(), WiFiConnection.EMPTY, Collections.emptyList());
 
+    private static final int QUERY_CACHE_SIZE = 16;
+    private static final Map<Class<?>, Boolean> CACHEABLE = new ConcurrentHashMap<>();
+
     private final List<WiFiDetail> wiFiDetails;
     private final WiFiConnection wiFiConnection;
     private final List<String> wiFiConfigurations;
+    private final Map<Query, List<WiFiDetail>> queries;
+    private List<WiFiDetail> enriched;
+    private WiFiDetail connection;
+    private int queryHits;
+    private int queryMisses;
 
     public WiFiData(@NonNull List<WiFiDetail> wiFiDetails, @NonNull WiFiConnection wiFiConnection, @NonNull List<String> wiFiConfigurations) {
         this.wiFiDetails = wiFiDetails;
         this.wiFiConnection = wiFiConnection;
         this.wiFiConfigurations = wiFiConfigurations;
+        this.queries = new QueryCache();
     }
 
     @NonNull
     public WiFiDetail getConnection() {
-        WiFiDetail wiFiDetail = IterableUtils.find(wiFiDetails, new ConnectionPredicate());
-        return wiFiDetail == null ? WiFiDetail.EMPTY : copyWiFiDetail(wiFiDetail);
+        enrich();
+        return connection;
+    }
+
+    public synchronized void enrich() {
+        if (enriched != null) {
+            return;
+        }
+        List<WiFiDetail> results = new ArrayList<>(wiFiDetails.size());
+        WiFiDetail result = WiFiDetail.EMPTY;
+        if (!wiFiDetails.isEmpty()) {
+            VendorService vendorService = MainContext.INSTANCE.getVendorService();
+            Set<String> configurations = new HashSet<>(wiFiConfigurations);
+            for (WiFiDetail wiFiDetail : wiFiDetails) {
+                String vendorName = vendorService.findVendorName(wiFiDetail.getMacAddress());
+                if (isConnection(wiFiDetail)) {
+                    WiFiDetail enrichedConnection = new WiFiDetail(wiFiDetail, new WiFiAdditional(vendorName, wiFiConnection));
+                    enrichedConnection.getSortKey();
+                    if (result == WiFiDetail.EMPTY) {
+                        result = enrichedConnection;
+                    }
+                    results.add(enrichedConnection);
+                } else {
+                    boolean contains = configurations.contains(wiFiDetail.getSSID());
+                    WiFiDetail enrichedDetail = new WiFiDetail(wiFiDetail, new WiFiAdditional(vendorName, contains));
+                    enrichedDetail.getSortKey();
+                    results.add(enrichedDetail);
+                }
+            }
+        }
+        connection = result;
+        enriched = results;
     }
 
     @NonNull
@@ -60,32 +103,91 @@ public class WiFiData {
 
     @NonNull
     public List<WiFiDetail> getWiFiDetails(@NonNull Predicate<WiFiDetail> predicate, @NonNull SortBy sortBy, @NonNull GroupBy groupBy) {
-        List<WiFiDetail> results = getWiFiDetails(predicate);
-        if (!results.isEmpty() && !GroupBy.NONE.equals(groupBy)) {
-            results = sortAndGroup(results, sortBy, groupBy);
+        List<WiFiDetail> results = getWiFiDetails(predicate, sortBy, isCacheable(predicate));
+        if (GroupBy.NONE.equals(groupBy)) {
+            return results;
+        }
+        return sortAndGroup(results, sortBy, groupBy);
+    }
+
+    public int getQueryHits() {
+        synchronized (queries) {
+            return queryHits;
         }
+    }
+
+    public int getQueryMisses() {
+        synchronized (queries) {
+            return queryMisses;
+        }
+    }
+
+    @NonNull
+    private List<WiFiDetail> getWiFiDetails(@NonNull Predicate<WiFiDetail> predicate, @NonNull SortBy sortBy, boolean cacheable) {
+        if (!cacheable) {
+            return query(predicate, sortBy);
+        }
+        Query query = new Query(predicate, sortBy);
+        synchronized (queries) {
+            List<WiFiDetail> results = queries.get(query);
+            if (results == null) {
+                queryMisses++;
+                results = query(predicate, sortBy);
+                queries.put(query, results);
+            } else {
+                queryHits++;
+            }
+            return new ArrayList<>(results);
+        }
+    }
+
+    @NonNull
+    private List<WiFiDetail> query(@NonNull Predicate<WiFiDetail> predicate, @NonNull SortBy sortBy) {
+        List<WiFiDetail> results = getWiFiDetails(predicate);
         Collections.sort(results, sortBy.comparator());
         return results;
     }
 
+    private static boolean isCacheable(@NonNull Predicate<WiFiDetail> predicate) {
+        Class<?> predicateClass = predicate.getClass();
+        Boolean result = CACHEABLE.get(predicateClass);
+        if (result == null) {
+            try {
+                result = predicateClass.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+            } catch (NoSuchMethodException e) {
+                result = false;
+            }
+            CACHEABLE.put(predicateClass, result);
+        }
+        return result;
+    }
+
     @NonNull
     List<WiFiDetail> sortAndGroup(@NonNull List<WiFiDetail> wiFiDetails, @NonNull SortBy sortBy, @NonNull GroupBy groupBy) {
-        List<WiFiDetail> results = new ArrayList<>();
-        Collections.sort(wiFiDetails, groupBy.sortOrderComparator());
-        WiFiDetail parent = null;
+        Comparator<WiFiDetail> representative = SortBy.STRENGTH.comparator();
+        Map<Object, List<WiFiDetail>> buckets = new HashMap<>();
+        List<List<WiFiDetail>> groups = new ArrayList<>();
         for (WiFiDetail wiFiDetail : wiFiDetails) {
-            if (parent == null || groupBy.groupByComparator().compare(parent, wiFiDetail) != 0) {
-                if (parent != null) {
-                    Collections.sort(parent.getChildren(), sortBy.comparator());
-                }
-                parent = wiFiDetail;
-                results.add(parent);
+            Object groupKey = groupBy.getGroupKey(wiFiDetail);
+            List<WiFiDetail> bucket = buckets.get(groupKey);
+            if (bucket == null) {
+                bucket = new ArrayList<>();
+                buckets.put(groupKey, bucket);
+                groups.add(bucket);
+            }
+            if (!bucket.isEmpty() && representative.compare(wiFiDetail, bucket.get(0)) < 0) {
+                bucket.add(bucket.set(0, wiFiDetail));
             } else {
-                parent.addChild(wiFiDetail);
+                bucket.add(wiFiDetail);
             }
         }
-        if (parent != null) {
-            Collections.sort(parent.getChildren(), sortBy.comparator());
+        List<WiFiDetail> results = new ArrayList<>(groups.size());
+        for (List<WiFiDetail> bucket : groups) {
+            WiFiDetail parent = new WiFiDetail(bucket.get(0), bucket.get(0).getWiFiAdditional());
+            List<WiFiDetail> children = parent.getChildren();
+            children.addAll(bucket.subList(1, bucket.size()));
+            Collections.sort(children, sortBy.comparator());
+            results.add(parent);
         }
         Collections.sort(results, sortBy.comparator());
         return results;
@@ -93,9 +195,13 @@ public class WiFiData {
 
     @NonNull
     private List<WiFiDetail> getWiFiDetails(@NonNull Predicate<WiFiDetail> predicate) {
-        Collection<WiFiDetail> selected = CollectionUtils.select(wiFiDetails, predicate);
-        Collection<WiFiDetail> collected = CollectionUtils.collect(selected, new Transform());
-        return new ArrayList<>(collected);
+        return new ArrayList<>(CollectionUtils.select(getEnriched(), predicate));
+    }
+
+    @NonNull
+    private synchronized List<WiFiDetail> getEnriched() {
+        enrich();
+        return enriched;
     }
 
     @NonNull
@@ -113,42 +219,48 @@ public class WiFiData {
         return wiFiConnection;
     }
 
-    @NonNull
-    private WiFiDetail copyWiFiDetail(WiFiDetail wiFiDetail) {
-        VendorService vendorService = MainContext.INSTANCE.getVendorService();
-        String vendorName = vendorService.findVendorName(wiFiDetail.getBSSID());
-        WiFiAdditional wiFiAdditional = new WiFiAdditional(vendorName, wiFiConnection);
-        return new WiFiDetail(wiFiDetail, wiFiAdditional);
+    private boolean isConnection(@NonNull WiFiDetail wiFiDetail) {
+        return wiFiConnection.getMacAddress().equals(wiFiDetail.getMacAddress())
+            && wiFiConnection.getSSID().equals(wiFiDetail.getSSID());
     }
 
-    private class ConnectionPredicate implements Predicate<WiFiDetail> {
+    private static class Query {
+        private final Predicate<WiFiDetail> predicate;
+        private final SortBy sortBy;
+
+        private Query(@NonNull Predicate<WiFiDetail> predicate, @NonNull SortBy sortBy) {
+            this.predicate = predicate;
+            this.sortBy = sortBy;
+        }
+
         @Override
-        public boolean evaluate(WiFiDetail wiFiDetail) {
-            return new EqualsBuilder()
-                .append(wiFiConnection.getSSID(), wiFiDetail.getSSID())
-                .append(wiFiConnection.getBSSID(), wiFiDetail.getBSSID())
-                .isEquals();
+        public boolean equals(Object o) {
+            if (this == o) return true;
+
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Query that = (Query) o;
+
+            return sortBy == that.sortBy && predicate.equals(that.predicate);
         }
-    }
 
-    private class Transform implements Transformer<WiFiDetail, WiFiDetail> {
-        private final WiFiDetail connection;
-        private final VendorService vendorService;
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder(17, 37)
+                .append(predicate)
+                .append(sortBy)
+                .toHashCode();
+        }
+    }
 
-        private Transform() {
-            this.connection = getConnection();
-            this.vendorService = MainContext.INSTANCE.getVendorService();
+    private static class QueryCache extends LinkedHashMap<Query, List<WiFiDetail>> {
+        private QueryCache() {
+            super(QUERY_CACHE_SIZE, 0.75f, true);
         }
 
         @Override
-        public WiFiDetail transform(WiFiDetail input) {
-            if (input.equals(connection)) {
-                return connection;
-            }
-            String vendorName = vendorService.findVendorName(input.getBSSID());
-            boolean contains = wiFiConfigurations.contains(input.getSSID());
-            WiFiAdditional wiFiAdditional = new WiFiAdditional(vendorName, contains);
-            return new WiFiDetail(input, wiFiAdditional);
+        protected boolean removeEldestEntry(Map.Entry<Query, List<WiFiDetail>> eldest) {
+            return size() > QUERY_CACHE_SIZE;
         }
     }
 
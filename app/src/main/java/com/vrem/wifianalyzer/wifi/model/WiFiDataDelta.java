@@ -0,0 +1,107 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import android.support.annotation.NonNull;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class WiFiDataDelta {
+    public static final WiFiDataDelta EMPTY = new WiFiDataDelta(
+        Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), 0);
+
+    private final List<WiFiDetail> added;
+    private final List<WiFiDetail> removed;
+    private final List<WiFiDetailChange> changed;
+    private final int unchanged;
+
+    private WiFiDataDelta(@NonNull List<WiFiDetail> added, @NonNull List<WiFiDetail> removed,
+                          @NonNull List<WiFiDetailChange> changed, int unchanged) {
+        this.added = added;
+        this.removed = removed;
+        this.changed = changed;
+        this.unchanged = unchanged;
+    }
+
+    @NonNull
+    public static WiFiDataDelta make(@NonNull WiFiData previous, @NonNull WiFiData current) {
+        List<WiFiDetail> previousDetails = previous.getWiFiDetails();
+        Map<MacAddress, WiFiDetail> remaining = new HashMap<>(previousDetails.size() * 2);
+        for (WiFiDetail wiFiDetail : previousDetails) {
+            remaining.put(wiFiDetail.getMacAddress(), wiFiDetail);
+        }
+        List<WiFiDetail> added = new ArrayList<>();
+        List<WiFiDetailChange> changed = new ArrayList<>();
+        int unchanged = 0;
+        for (WiFiDetail wiFiDetail : current.getWiFiDetails()) {
+            WiFiDetail previousDetail = remaining.remove(wiFiDetail.getMacAddress());
+            if (previousDetail == null) {
+                added.add(wiFiDetail);
+                continue;
+            }
+            int fields = WiFiDetailChange.compare(previousDetail, wiFiDetail);
+            if (fields == 0) {
+                unchanged++;
+            } else {
+                changed.add(new WiFiDetailChange(previousDetail, wiFiDetail, fields));
+            }
+        }
+        List<WiFiDetail> removed = new ArrayList<>();
+        for (WiFiDetail wiFiDetail : previousDetails) {
+            if (remaining.containsKey(wiFiDetail.getMacAddress())) {
+                removed.add(wiFiDetail);
+            }
+        }
+        return new WiFiDataDelta(added, removed, changed, unchanged);
+    }
+
+    @NonNull
+    public List<WiFiDetail> getAdded() {
+        return Collections.unmodifiableList(added);
+    }
+
+    @NonNull
+    public List<WiFiDetail> getRemoved() {
+        return Collections.unmodifiableList(removed);
+    }
+
+    @NonNull
+    public List<WiFiDetailChange> getChanged() {
+        return Collections.unmodifiableList(changed);
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
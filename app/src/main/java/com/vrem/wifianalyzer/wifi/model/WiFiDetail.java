@@ -21,9 +21,6 @@ package com.vrem.wifianalyzer.wifi.model;
 import android.support.annotation.NonNull;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.builder.CompareToBuilder;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.util.ArrayList;
@@ -31,36 +28,72 @@ import java.util.List;
 
 public class WiFiDetail implements Comparable<WiFiDetail> {
     public static final WiFiDetail EMPTY = new WiFiDetail(StringUtils.EMPTY, StringUtils.EMPTY, StringUtils.EMPTY, WiFiSignal.EMPTY);
+    public static final int ORDINAL_SHIFT_BAND = 0;
+    public static final int ORDINAL_SHIFT_STRENGTH = 8;
+    public static final int ORDINAL_SHIFT_SECURITY = 16;
     private static final String SSID_EMPTY = "***";
 
     private final List<WiFiDetail> children;
     private final String SSID;
-    private final String BSSID;
+    private final MacAddress macAddress;
     private final String capabilities;
     private final WiFiSignal wiFiSignal;
     private final WiFiAdditional wiFiAdditional;
+    private transient Security security;
+    private transient String title;
+    private transient SortKey sortKey;
+    private transient int ordinalBits;
 
-    public WiFiDetail(@NonNull String SSID, @NonNull String BSSID, @NonNull String capabilities,
+    public WiFiDetail(@NonNull String SSID, @NonNull MacAddress macAddress, @NonNull String capabilities,
                       @NonNull WiFiSignal wiFiSignal, @NonNull WiFiAdditional wiFiAdditional) {
         this.SSID = SSID;
-        this.BSSID = BSSID;
+        this.macAddress = macAddress;
         this.capabilities = capabilities;
         this.wiFiSignal = wiFiSignal;
         this.wiFiAdditional = wiFiAdditional;
         this.children = new ArrayList<>();
     }
 
+    public WiFiDetail(@NonNull String SSID, @NonNull String BSSID, @NonNull String capabilities,
+                      @NonNull WiFiSignal wiFiSignal, @NonNull WiFiAdditional wiFiAdditional) {
+        this(SSID, MacAddress.of(BSSID), capabilities, wiFiSignal, wiFiAdditional);
+    }
+
+    public WiFiDetail(@NonNull String SSID, @NonNull MacAddress macAddress, @NonNull String capabilities, @NonNull WiFiSignal wiFiSignal) {
+        this(SSID, macAddress, capabilities, wiFiSignal, WiFiAdditional.EMPTY);
+    }
+
     public WiFiDetail(@NonNull String SSID, @NonNull String BSSID, @NonNull String capabilities, @NonNull WiFiSignal wiFiSignal) {
-        this(SSID, BSSID, capabilities, wiFiSignal, WiFiAdditional.EMPTY);
+        this(SSID, MacAddress.of(BSSID), capabilities, wiFiSignal, WiFiAdditional.EMPTY);
     }
 
     public WiFiDetail(@NonNull WiFiDetail wiFiDetail, @NonNull WiFiAdditional wiFiAdditional) {
-        this(wiFiDetail.SSID, wiFiDetail.BSSID, wiFiDetail.getCapabilities(), wiFiDetail.getWiFiSignal(), wiFiAdditional);
+        this(wiFiDetail.SSID, wiFiDetail.macAddress, wiFiDetail.getCapabilities(), wiFiDetail.getWiFiSignal(), wiFiAdditional);
+        this.security = wiFiDetail.security;
+        this.title = wiFiDetail.title;
+        this.sortKey = wiFiDetail.sortKey;
+        this.ordinalBits = wiFiDetail.ordinalBits;
     }
 
     @NonNull
     public Security getSecurity() {
-        return Security.findOne(capabilities);
+        Security result = security;
+        if (result == null) {
+            result = Security.findOne(capabilities);
+            security = result;
+        }
+        return result;
+    }
+
+    public int getOrdinalBits() {
+        int result = ordinalBits;
+        if (result == 0) {
+            result = 1 << (ORDINAL_SHIFT_BAND + wiFiSignal.getWiFiBand().ordinal())
+                | 1 << (ORDINAL_SHIFT_STRENGTH + wiFiSignal.getStrength().ordinal())
+                | 1 << (ORDINAL_SHIFT_SECURITY + getSecurity().ordinal());
+            ordinalBits = result;
+        }
+        return result;
     }
 
     @NonNull
@@ -74,7 +107,12 @@ public class WiFiDetail implements Comparable<WiFiDetail> {
 
     @NonNull
     public String getBSSID() {
-        return BSSID;
+        return macAddress.toString();
+    }
+
+    @NonNull
+    public MacAddress getMacAddress() {
+        return macAddress;
     }
 
     @NonNull
@@ -103,7 +141,22 @@ public class WiFiDetail implements Comparable<WiFiDetail> {
 
     @NonNull
     public String getTitle() {
-        return String.format("%s (%s)", getSSID(), BSSID);
+        String result = title;
+        if (result == null) {
+            result = String.format("%s (%s)", getSSID(), getBSSID());
+            title = result;
+        }
+        return result;
+    }
+
+    @NonNull
+    SortKey getSortKey() {
+        SortKey result = sortKey;
+        if (result == null) {
+            result = new SortKey(this);
+            sortKey = result;
+        }
+        return result;
     }
 
     public void addChild(@NonNull WiFiDetail wiFiDetail) {
@@ -118,26 +171,18 @@ public class WiFiDetail implements Comparable<WiFiDetail> {
 
         WiFiDetail that = (WiFiDetail) o;
 
-        return new EqualsBuilder()
-            .append(getSSID(), that.getSSID())
-            .append(getBSSID(), that.getBSSID())
-            .isEquals();
+        return macAddress.equals(that.macAddress) && getSSID().equals(that.getSSID());
     }
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder(17, 37)
-            .append(getSSID())
-            .append(getBSSID())
-            .toHashCode();
+        return 37 * getSSID().hashCode() + macAddress.hashCode();
     }
 
     @Override
     public int compareTo(@NonNull WiFiDetail another) {
-        return new CompareToBuilder()
-            .append(getSSID(), another.getSSID())
-            .append(getBSSID(), another.getBSSID())
-            .toComparison();
+        int result = getSSID().compareTo(another.getSSID());
+        return result == 0 ? macAddress.compareTo(another.macAddress) : result;
     }
 
     @Override
@@ -0,0 +1,89 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import android.support.annotation.NonNull;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+public class WiFiDetailChange {
+    private final WiFiDetail previous;
+    private final WiFiDetail current;
+    private final int fields;
+
+    WiFiDetailChange(@NonNull WiFiDetail previous, @NonNull WiFiDetail current, int fields) {
+        this.previous = previous;
+        this.current = current;
+        this.fields = fields;
+    }
+
+    static int compare(@NonNull WiFiDetail previous, @NonNull WiFiDetail current) {
+        WiFiSignal previousSignal = previous.getWiFiSignal();
+        WiFiSignal currentSignal = current.getWiFiSignal();
+        int result = 0;
+        if (previousSignal.getLevel() != currentSignal.getLevel()) {
+            result |= Field.LEVEL.mask();
+        }
+        if (previousSignal.getPrimaryFrequency() != currentSignal.getPrimaryFrequency()
+            || previousSignal.getCenterFrequency() != currentSignal.getCenterFrequency()) {
+            result |= Field.CHANNEL.mask();
+        }
+        if (!previousSignal.getWiFiWidth().equals(currentSignal.getWiFiWidth())) {
+            result |= Field.WIDTH.mask();
+        }
+        if (!previous.getSSID().equals(current.getSSID())) {
+            result |= Field.SSID.mask();
+        }
+        return result;
+    }
+
+    @NonNull
+    public WiFiDetail getPrevious() {
+        return previous;
+    }
+
+    @NonNull
+    public WiFiDetail getCurrent() {
+        return current;
+    }
+
+    public int getFields() {
+        return fields;
+    }
+
+    public boolean isChanged(@NonNull Field field) {
+        return (fields & field.mask()) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+
+    public enum Field {
+        LEVEL,
+        CHANNEL,
+        WIDTH,
+        SSID;
+
+        public int mask() {
+            return 1 << ordinal();
+        }
+    }
+}
@@ -20,8 +20,6 @@ package com.vrem.wifianalyzer.wifi.model;
 
 import android.support.annotation.NonNull;
 
-import com.vrem.util.EnumUtils;
-import com.vrem.wifianalyzer.wifi.band.FrequencyPredicate;
 import com.vrem.wifianalyzer.wifi.band.WiFiBand;
 import com.vrem.wifianalyzer.wifi.band.WiFiChannel;
 import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
@@ -41,13 +39,18 @@ public class WiFiSignal {
     private final WiFiWidth wiFiWidth;
     private final WiFiBand wiFiBand;
     private final int level;
+    private transient WiFiChannel primaryWiFiChannel;
+    private transient WiFiChannel centerWiFiChannel;
+    private transient Strength strength;
+    private transient String distance;
+    private transient String channelDisplay;
 
     public WiFiSignal(int primaryFrequency, int centerFrequency, @NonNull WiFiWidth wiFiWidth, int level) {
         this.primaryFrequency = primaryFrequency;
         this.centerFrequency = centerFrequency;
         this.wiFiWidth = wiFiWidth;
         this.level = level;
-        this.wiFiBand = EnumUtils.find(WiFiBand.class, new FrequencyPredicate(primaryFrequency), WiFiBand.GHZ2);
+        this.wiFiBand = WiFiBand.find(primaryFrequency);
     }
 
     public int getPrimaryFrequency() {
@@ -78,12 +81,22 @@ public class WiFiSignal {
 
     @NonNull
     public WiFiChannel getPrimaryWiFiChannel() {
-        return getWiFiBand().getWiFiChannels().getWiFiChannelByFrequency(getPrimaryFrequency());
+        WiFiChannel result = primaryWiFiChannel;
+        if (result == null) {
+            result = getWiFiBand().getWiFiChannels().getWiFiChannelByFrequency(getPrimaryFrequency());
+            primaryWiFiChannel = result;
+        }
+        return result;
     }
 
     @NonNull
     public WiFiChannel getCenterWiFiChannel() {
-        return getWiFiBand().getWiFiChannels().getWiFiChannelByFrequency(getCenterFrequency());
+        WiFiChannel result = centerWiFiChannel;
+        if (result == null) {
+            result = getWiFiBand().getWiFiChannels().getWiFiChannelByFrequency(getCenterFrequency());
+            centerWiFiChannel = result;
+        }
+        return result;
     }
 
     public int getLevel() {
@@ -92,13 +105,22 @@ public class WiFiSignal {
 
     @NonNull
     public Strength getStrength() {
-        return Strength.calculate(level);
+        Strength result = strength;
+        if (result == null) {
+            result = Strength.calculate(level);
+            strength = result;
+        }
+        return result;
     }
 
     @NonNull
     public String getDistance() {
-        double distance = WiFiUtils.calculateDistance(getPrimaryFrequency(), getLevel());
-        return String.format(Locale.ENGLISH, "~%.1fm", distance);
+        String result = distance;
+        if (result == null) {
+            result = String.format(Locale.ENGLISH, "~%.1fm", WiFiUtils.calculateDistance(getPrimaryFrequency(), getLevel()));
+            distance = result;
+        }
+        return result;
     }
 
     public boolean isInRange(int frequency) {
@@ -107,13 +129,17 @@ public class WiFiSignal {
 
     @NonNull
     public String getChannelDisplay() {
-        int primaryChannel = getPrimaryWiFiChannel().getChannel();
-        int centerChannel = getCenterWiFiChannel().getChannel();
-        String channel = Integer.toString(primaryChannel);
-        if (primaryChannel != centerChannel) {
-            channel += "(" + Integer.toString(centerChannel) + ")";
+        String result = channelDisplay;
+        if (result == null) {
+            int primaryChannel = getPrimaryWiFiChannel().getChannel();
+            int centerChannel = getCenterWiFiChannel().getChannel();
+            result = Integer.toString(primaryChannel);
+            if (primaryChannel != centerChannel) {
+                result += "(" + Integer.toString(centerChannel) + ")";
+            }
+            channelDisplay = result;
         }
-        return channel;
+        return result;
     }
 
     @Override
@@ -27,89 +27,103 @@ import com.vrem.wifianalyzer.wifi.model.Security;
 import com.vrem.wifianalyzer.wifi.model.Strength;
 import com.vrem.wifianalyzer.wifi.model.WiFiDetail;
 
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.Predicate;
-import org.apache.commons.collections4.PredicateUtils;
-import org.apache.commons.collections4.Transformer;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
 
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
 import java.util.Set;
 
 public class FilterPredicate implements Predicate<WiFiDetail> {
+    static final String ACCESS_POINTS = "access_points";
+    static final String OTHER = "other";
 
-    private final Predicate<WiFiDetail> predicate;
+    private static final int ORDINAL_MASK = 0xFF;
+    private static final int BAND_MASK = ORDINAL_MASK << WiFiDetail.ORDINAL_SHIFT_BAND;
+    private static final int STRENGTH_MASK = ORDINAL_MASK << WiFiDetail.ORDINAL_SHIFT_STRENGTH;
+    private static final int SECURITY_MASK = ORDINAL_MASK << WiFiDetail.ORDINAL_SHIFT_SECURITY;
+
+    private final Set<String> ssids;
+    private final Set<WiFiBand> wiFiBands;
+    private final Set<Strength> strengths;
+    private final Set<Security> securities;
+    private final SSIDMatcher ssidMatcher;
+    private final int mask;
 
     private FilterPredicate(@NonNull Settings settings, @NonNull Set<WiFiBand> wiFiBands) {
-        Predicate<WiFiDetail> ssidPredicate = makeSSIDPredicate(settings.getSSIDs());
-        Predicate<WiFiDetail> wiFiBandPredicate = EnumUtils.predicate(WiFiBand.class, wiFiBands, new WiFiBandTransformer());
-        Predicate<WiFiDetail> strengthPredicate = EnumUtils.predicate(Strength.class, settings.getStrengths(), new StrengthTransformer());
-        Predicate<WiFiDetail> securityPredicate = EnumUtils.predicate(Security.class, settings.getSecurities(), new SecurityTransformer());
-        List<Predicate<WiFiDetail>> predicates = Arrays.asList(ssidPredicate, wiFiBandPredicate, strengthPredicate, securityPredicate);
-        this.predicate = PredicateUtils.allPredicate(CollectionUtils.select(predicates, new NoTruePredicate()));
+        this.ssids = settings.getSSIDs();
+        this.wiFiBands = wiFiBands;
+        this.strengths = settings.getStrengths();
+        this.securities = settings.getSecurities();
+        this.ssidMatcher = new SSIDMatcher(ssids);
+        this.mask = EnumUtils.mask(wiFiBands) << WiFiDetail.ORDINAL_SHIFT_BAND
+            | EnumUtils.mask(strengths) << WiFiDetail.ORDINAL_SHIFT_STRENGTH
+            | EnumUtils.mask(securities) << WiFiDetail.ORDINAL_SHIFT_SECURITY;
     }
 
     @NonNull
     public static Predicate<WiFiDetail> makeAccessPointsPredicate(@NonNull Settings settings) {
-        return new FilterPredicate(settings, settings.getWiFiBands());
+        Predicate<WiFiDetail> result = settings.getFilter(ACCESS_POINTS);
+        if (result == null) {
+            result = new FilterPredicate(settings, settings.getWiFiBands());
+            settings.cacheFilter(ACCESS_POINTS, result);
+        }
+        return result;
     }
 
     @NonNull
     public static Predicate<WiFiDetail> makeOtherPredicate(@NonNull Settings settings) {
-        return new FilterPredicate(settings, Collections.singleton(settings.getWiFiBand()));
+        Predicate<WiFiDetail> result = settings.getFilter(OTHER);
+        if (result == null) {
+            result = new FilterPredicate(settings, Collections.singleton(settings.getWiFiBand()));
+            settings.cacheFilter(OTHER, result);
+        }
+        return result;
     }
 
     @Override
     public boolean evaluate(WiFiDetail object) {
-        return predicate.evaluate(object);
+        int hits = object.getOrdinalBits() & mask;
+        return (hits & BAND_MASK) != 0
+            && (hits & STRENGTH_MASK) != 0
+            && (hits & SECURITY_MASK) != 0
+            && matchesSSID(object.getSSID());
     }
 
-    @NonNull
-    Predicate<WiFiDetail> getPredicate() {
-        return predicate;
+    boolean isMatchAll() {
+        int all = EnumUtils.mask(EnumUtils.values(WiFiBand.class)) << WiFiDetail.ORDINAL_SHIFT_BAND
+            | EnumUtils.mask(EnumUtils.values(Strength.class)) << WiFiDetail.ORDINAL_SHIFT_STRENGTH
+            | EnumUtils.mask(EnumUtils.values(Security.class)) << WiFiDetail.ORDINAL_SHIFT_SECURITY;
+        return ssidMatcher.isEmpty() && mask == all;
     }
 
-    @NonNull
-    private Predicate<WiFiDetail> makeSSIDPredicate(Set<String> ssids) {
-        if (ssids.isEmpty()) {
-            return PredicateUtils.truePredicate();
-        }
-        return PredicateUtils.anyPredicate(CollectionUtils.collect(ssids, new SSIDTransformer()));
+    private boolean matchesSSID(@NonNull String ssid) {
+        return ssidMatcher.isEmpty() || ssidMatcher.matches(ssid);
     }
 
-    private class SSIDTransformer implements Transformer<String, Predicate<WiFiDetail>> {
-        @Override
-        public Predicate<WiFiDetail> transform(String input) {
-            return new SSIDPredicate(input);
-        }
-    }
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
 
-    private class WiFiBandTransformer implements Transformer<WiFiBand, Predicate<WiFiDetail>> {
-        @Override
-        public Predicate<WiFiDetail> transform(WiFiBand input) {
-            return new WiFiBandPredicate(input);
-        }
-    }
+        if (o == null || getClass() != o.getClass()) return false;
 
-    private class StrengthTransformer implements Transformer<Strength, Predicate<WiFiDetail>> {
-        @Override
-        public Predicate<WiFiDetail> transform(Strength input) {
-            return new StrengthPredicate(input);
-        }
-    }
+        FilterPredicate that = (FilterPredicate) o;
 
-    private class SecurityTransformer implements Transformer<Security, Predicate<WiFiDetail>> {
-        @Override
-        public Predicate<WiFiDetail> transform(Security input) {
-            return new SecurityPredicate(input);
-        }
+        return new EqualsBuilder()
+            .append(ssids, that.ssids)
+            .append(wiFiBands, that.wiFiBands)
+            .append(strengths, that.strengths)
+            .append(securities, that.securities)
+            .isEquals();
     }
 
-    private class NoTruePredicate implements Predicate<Predicate<WiFiDetail>> {
-        @Override
-        public boolean evaluate(Predicate<WiFiDetail> object) {
-            return !PredicateUtils.truePredicate().equals(object);
-        }
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(17, 37)
+            .append(ssids)
+            .append(wiFiBands)
+            .append(strengths)
+            .append(securities)
+            .toHashCode();
     }
 }
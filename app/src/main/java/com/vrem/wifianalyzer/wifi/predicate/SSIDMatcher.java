@@ -0,0 +1,250 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.predicate;
+
+import android.support.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+class SSIDMatcher {
+    static final String PATTERN = "~:";
+    static final String CASE_INSENSITIVE = "(?i)";
+    static final char ANCHOR_START = '^';
+    static final char ANCHOR_END = '$';
+    static final char REGEX = '/';
+
+    private final List<Keyword> keywords;
+    private final List<Pattern> patterns;
+    private final Node root;
+    private final boolean matchAll;
+
+    SSIDMatcher(@NonNull Collection<String> values) {
+        keywords = new ArrayList<>();
+        patterns = new ArrayList<>();
+        root = new Node();
+        boolean all = false;
+        for (String value : values) {
+            all |= add(value);
+        }
+        matchAll = all;
+        root.link();
+    }
+
+    boolean isEmpty() {
+        return keywords.isEmpty() && patterns.isEmpty() && !matchAll;
+    }
+
+    boolean matches(@NonNull String ssid) {
+        if (matchAll) {
+            return true;
+        }
+        if (!keywords.isEmpty() && matchesKeyword(ssid)) {
+            return true;
+        }
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(ssid).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesKeyword(@NonNull String ssid) {
+        Node node = root;
+        int length = ssid.length();
+        for (int i = 0; i < length; i++) {
+            node = node.next(Character.toLowerCase(ssid.charAt(i)));
+            for (int index : node.outputs) {
+                if (keywords.get(index).matches(ssid, i + 1)) {
+                    return true;
+                }
+            }
+        }
+        for (int index : root.outputs) {
+            if (keywords.get(index).matches(ssid, 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean add(@NonNull String value) {
+        if (!value.startsWith(PATTERN)) {
+            addKeyword(new Keyword(value, false, false, false));
+            return false;
+        }
+        String text = value.substring(PATTERN.length());
+        boolean caseInsensitive = text.startsWith(CASE_INSENSITIVE);
+        if (caseInsensitive) {
+            text = text.substring(CASE_INSENSITIVE.length());
+        }
+        if (text.length() > 1 && text.charAt(0) == REGEX && text.charAt(text.length() - 1) == REGEX) {
+            try {
+                String regex = text.substring(1, text.length() - 1);
+                patterns.add(Pattern.compile(regex, caseInsensitive ? Pattern.CASE_INSENSITIVE : 0));
+                return false;
+            } catch (PatternSyntaxException e) {
+                // not a valid expression: match it as text
+            }
+        }
+        boolean start = !text.isEmpty() && text.charAt(0) == ANCHOR_START;
+        if (start) {
+            text = text.substring(1);
+        }
+        boolean end = !text.isEmpty() && text.charAt(text.length() - 1) == ANCHOR_END;
+        if (end) {
+            text = text.substring(0, text.length() - 1);
+        }
+        if (text.isEmpty() && !(start && end)) {
+            return true;
+        }
+        addKeyword(new Keyword(text, caseInsensitive, start, end));
+        return false;
+    }
+
+    private void addKeyword(@NonNull Keyword keyword) {
+        root.insert(keyword.folded, keywords.size());
+        keywords.add(keyword);
+    }
+
+    private static class Keyword {
+        private final String text;
+        private final String folded;
+        private final boolean caseInsensitive;
+        private final boolean start;
+        private final boolean end;
+
+        private Keyword(@NonNull String text, boolean caseInsensitive, boolean start, boolean end) {
+            this.text = text;
+            this.folded = fold(text);
+            this.caseInsensitive = caseInsensitive;
+            this.start = start;
+            this.end = end;
+        }
+
+        private boolean matches(@NonNull String ssid, int endIndex) {
+            int startIndex = endIndex - text.length();
+            if (start && startIndex != 0) {
+                return false;
+            }
+            if (end && endIndex != ssid.length()) {
+                return false;
+            }
+            return caseInsensitive || ssid.regionMatches(startIndex, text, 0, text.length());
+        }
+
+        private static String fold(@NonNull String text) {
+            char[] chars = text.toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = Character.toLowerCase(chars[i]);
+            }
+            return new String(chars);
+        }
+    }
+
+    private static class Node {
+        private static final int[] NO_OUTPUTS = {};
+
+        private char[] labels = {};
+        private Node[] children = {};
+        private int[] outputs = NO_OUTPUTS;
+        private Node fail;
+
+        private void insert(@NonNull String folded, int index) {
+            Node node = this;
+            for (int i = 0; i < folded.length(); i++) {
+                node = node.child(folded.charAt(i));
+            }
+            node.outputs = append(node.outputs, index);
+        }
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int position = -index - 1;
+            Node result = new Node();
+            labels = insert(labels, position, label);
+            Node[] nodes = new Node[children.length + 1];
+            System.arraycopy(children, 0, nodes, 0, position);
+            nodes[position] = result;
+            System.arraycopy(children, position, nodes, position + 1, children.length - position);
+            children = nodes;
+            return result;
+        }
+
+        private Node find(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node next(char label) {
+            Node node = this;
+            while (true) {
+                Node result = node.find(label);
+                if (result != null) {
+                    return result;
+                }
+                if (node.fail == null) {
+                    return node;
+                }
+                node = node.fail;
+            }
+        }
+
+        private void link() {
+            List<Node> queue = new ArrayList<>();
+            for (Node node : children) {
+                node.fail = this;
+                queue.add(node);
+            }
+            for (int i = 0; i < queue.size(); i++) {
+                Node node = queue.get(i);
+                for (int j = 0; j < node.labels.length; j++) {
+                    Node child = node.children[j];
+                    child.fail = node.fail.next(node.labels[j]);
+                    for (int output : child.fail.outputs) {
+                        child.outputs = append(child.outputs, output);
+                    }
+                    queue.add(child);
+                }
+            }
+        }
+
+        private static int[] append(@NonNull int[] values, int value) {
+            int[] result = Arrays.copyOf(values, values.length + 1);
+            result[values.length] = value;
+            return result;
+        }
+
+        private static char[] insert(@NonNull char[] values, int position, char value) {
+            char[] result = new char[values.length + 1];
+            System.arraycopy(values, 0, result, 0, position);
+            result[position] = value;
+            System.arraycopy(values, position, result, position + 1, values.length - position);
+            return result;
+        }
+    }
+}
@@ -37,4 +37,18 @@ public class WiFiBandPredicate implements Predicate<WiFiDetail> {
         return object.getWiFiSignal().getWiFiBand().equals(wiFiBand);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        return wiFiBand.equals(((WiFiBandPredicate) o).wiFiBand);
+    }
+
+    @Override
+    public int hashCode() {
+        return wiFiBand.hashCode();
+    }
+
 }
@@ -23,76 +23,40 @@ import android.support.annotation.NonNull;
 
 import com.vrem.wifianalyzer.MainContext;
 
-import org.apache.commons.collections4.Closure;
-import org.apache.commons.collections4.IterableUtils;
-import org.apache.commons.lang3.builder.CompareToBuilder;
+import org.apache.commons.lang3.ObjectUtils;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.Deque;
 import java.util.List;
 
 class Cache {
     private static final int ADJUST = 10;
-    private final Deque<List<ScanResult>> cachedScanResults = new ArrayDeque<>();
+    private final CacheIndex cacheIndex = new CacheIndex();
+    private int scanId;
+    private int scans;
 
     @NonNull
     List<CacheResult> getScanResults() {
-        ScanResult current = null;
-        int levelTotal = 0;
-        int count = 0;
-        List<CacheResult> results = new ArrayList<>();
-        for (ScanResult scanResult : combineCache()) {
-            if (current != null && !scanResult.BSSID.equals(current.BSSID)) {
-                CacheResult cacheResult = getCacheResult(current, levelTotal, count);
-                results.add(cacheResult);
-                count = 0;
-                levelTotal = 0;
-            }
-            current = scanResult;
-            count++;
-            levelTotal += scanResult.level;
-        }
-        if (current != null) {
-            results.add(getCacheResult(current, levelTotal, count));
+        int adjust = isSizeAvailable() ? 0 : ADJUST;
+        List<CacheResult> results = new ArrayList<>(cacheIndex.size());
+        for (CacheEntry cacheEntry : cacheIndex.getEntries()) {
+            results.add(cacheEntry.getCacheResult(adjust));
         }
+        Collections.sort(results, new CacheResultComparator());
         return results;
     }
 
-    @NonNull
-    private CacheResult getCacheResult(ScanResult current, int level, int count) {
-        CacheResult cacheResult;
-        if (isSizeAvailable()) {
-            cacheResult = new CacheResult(current, level / count);
-        } else {
-            cacheResult = new CacheResult(current, (level - ADJUST) / count);
-        }
-        return cacheResult;
-    }
-
-    @NonNull
-    private List<ScanResult> combineCache() {
-        List<ScanResult> scanResults = new ArrayList<>();
-        IterableUtils.forEach(cachedScanResults, new CacheClosure(scanResults));
-        Collections.sort(scanResults, new ScanResultComparator());
-        return scanResults;
-    }
-
     void add(List<ScanResult> scanResults) {
-        int cacheSize = getCacheSize();
-        while (cachedScanResults.size() >= cacheSize) {
-            cachedScanResults.pollLast();
-        }
+        scans = Math.min(scans, getCacheSize() - 1);
         if (scanResults != null) {
-            cachedScanResults.addFirst(scanResults);
+            scans++;
+            scanId++;
+            for (ScanResult scanResult : scanResults) {
+                cacheIndex.find(scanResult.BSSID).add(scanId, scanResult);
+            }
         }
-    }
-
-    @NonNull
-    Deque<List<ScanResult>> getCachedScanResults() {
-        return cachedScanResults;
+        cacheIndex.expire(scanId - scans + 1);
     }
 
     int getCacheSize() {
@@ -119,26 +83,10 @@ class Cache {
         }
     }
 
-    private static class ScanResultComparator implements Comparator<ScanResult> {
-        @Override
-        public int compare(ScanResult lhs, ScanResult rhs) {
-            return new CompareToBuilder()
-                .append(lhs.BSSID, rhs.BSSID)
-                .append(lhs.level, rhs.level)
-                .toComparison();
-        }
-    }
-
-    private class CacheClosure implements Closure<List<ScanResult>> {
-        private final List<ScanResult> scanResults;
-
-        private CacheClosure(@NonNull List<ScanResult> scanResults) {
-            this.scanResults = scanResults;
-        }
-
+    private static class CacheResultComparator implements Comparator<CacheResult> {
         @Override
-        public void execute(List<ScanResult> cachedScanResults) {
-            scanResults.addAll(cachedScanResults);
+        public int compare(CacheResult lhs, CacheResult rhs) {
+            return ObjectUtils.compare(lhs.getScanResult().BSSID, rhs.getScanResult().BSSID);
         }
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.net.wifi.ScanResult;
+import android.support.annotation.NonNull;
+
+import com.vrem.wifianalyzer.wifi.model.MacAddress;
+
+class CacheEntry {
+    private static final int CAPACITY = 4;
+
+    private final MacAddress macAddress;
+    private int[] scanIds;
+    private int[] levels;
+    private ScanResult[] scanResults;
+    private int head;
+    private int size;
+
+    CacheEntry(@NonNull MacAddress macAddress) {
+        this.macAddress = macAddress;
+        this.scanIds = new int[CAPACITY];
+        this.levels = new int[CAPACITY];
+        this.scanResults = new ScanResult[CAPACITY];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    long getKey() {
+        return macAddress.getValue();
+    }
+
+    @NonNull
+    MacAddress getMacAddress() {
+        return macAddress;
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    @NonNull
+    ScanResult getScanResult() {
+        return scanResults[(head + size - 1) % scanResults.length];
+    }
+
+    void add(int scanId, @NonNull ScanResult scanResult) {
+        if (size == scanResults.length) {
+            grow();
+        }
+        int index = (head + size) % scanResults.length;
+        scanIds[index] = scanId;
+        levels[index] = scanResult.level;
+        scanResults[index] = scanResult;
+        size++;
+    }
+
+    void expire(int oldestScanId) {
+        while (size > 0 && scanIds[head] < oldestScanId) {
+            scanResults[head] = null;
+            head = (head + 1) % scanResults.length;
+            size--;
+        }
+    }
+
+    @NonNull
+    CacheResult getCacheResult(int adjust) {
+        int levelTotal = 0;
+        int best = head;
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % scanResults.length;
+            levelTotal += levels[index];
+            if (levels[index] > levels[best] || (levels[index] == levels[best] && scanIds[index] == scanIds[best])) {
+                best = index;
+            }
+        }
+        return new CacheResult(macAddress, scanResults[best], (levelTotal - adjust) / size);
+    }
+
+    private void grow() {
+        int capacity = scanResults.length * 2;
+        int[] newScanIds = new int[capacity];
+        int[] newLevels = new int[capacity];
+        ScanResult[] newScanResults = new ScanResult[capacity];
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % scanResults.length;
+            newScanIds[i] = scanIds[index];
+            newLevels[i] = levels[index];
+            newScanResults[i] = scanResults[index];
+        }
+        scanIds = newScanIds;
+        levels = newLevels;
+        scanResults = newScanResults;
+        head = 0;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.support.annotation.NonNull;
+
+import com.vrem.wifianalyzer.wifi.model.MacAddress;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class CacheIndex {
+    private static final int CAPACITY = 64;
+
+    private final List<CacheEntry> entries;
+    private final Map<String, CacheEntry> others;
+    private long[] keys;
+    private int[] positions;
+
+    CacheIndex() {
+        this.entries = new ArrayList<>();
+        this.others = new HashMap<>();
+        this.keys = new long[CAPACITY];
+        this.positions = new int[CAPACITY];
+    }
+
+    @NonNull
+    CacheEntry find(String bssid) {
+        long key = MacAddress.parse(bssid);
+        if (key == MacAddress.INVALID) {
+            CacheEntry cacheEntry = others.get(bssid);
+            if (cacheEntry == null) {
+                cacheEntry = new CacheEntry(MacAddress.of(bssid, key));
+                entries.add(cacheEntry);
+                others.put(bssid, cacheEntry);
+            }
+            return cacheEntry;
+        }
+        int slot = slot(key);
+        if (positions[slot] != 0) {
+            return entries.get(positions[slot] - 1);
+        }
+        CacheEntry cacheEntry = new CacheEntry(MacAddress.of(bssid, key));
+        entries.add(cacheEntry);
+        keys[slot] = key;
+        positions[slot] = entries.size();
+        if (entries.size() * 2 > keys.length) {
+            rebuild(keys.length * 2);
+        }
+        return cacheEntry;
+    }
+
+    void expire(int oldestScanId) {
+        int count = 0;
+        for (CacheEntry cacheEntry : entries) {
+            cacheEntry.expire(oldestScanId);
+            if (!cacheEntry.isEmpty()) {
+                entries.set(count++, cacheEntry);
+            }
+        }
+        if (count < entries.size()) {
+            entries.subList(count, entries.size()).clear();
+            rebuild(keys.length);
+        }
+    }
+
+    @NonNull
+    List<CacheEntry> getEntries() {
+        return entries;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private int slot(long key) {
+        int mask = keys.length - 1;
+        int slot = MacAddress.hash(key) & mask;
+        while (positions[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rebuild(int capacity) {
+        if (capacity != keys.length) {
+            keys = new long[capacity];
+            positions = new int[capacity];
+        } else {
+            Arrays.fill(positions, 0);
+        }
+        others.clear();
+        for (int i = 0; i < entries.size(); i++) {
+            CacheEntry cacheEntry = entries.get(i);
+            if (cacheEntry.getKey() == MacAddress.INVALID) {
+                others.put(cacheEntry.getScanResult().BSSID, cacheEntry);
+            } else {
+                int slot = slot(cacheEntry.getKey());
+                keys[slot] = cacheEntry.getKey();
+                positions[slot] = i + 1;
+            }
+        }
+    }
+}
@@ -21,15 +21,28 @@ package com.vrem.wifianalyzer.wifi.scanner;
 import android.net.wifi.ScanResult;
 import android.support.annotation.NonNull;
 
+import com.vrem.wifianalyzer.wifi.model.MacAddress;
+
 class CacheResult {
+    private final MacAddress macAddress;
     private final ScanResult scanResult;
     private final int levelAverage;
 
-    CacheResult(@NonNull ScanResult scanResult, int levelAverage) {
+    CacheResult(@NonNull MacAddress macAddress, @NonNull ScanResult scanResult, int levelAverage) {
+        this.macAddress = macAddress;
         this.scanResult = scanResult;
         this.levelAverage = levelAverage;
     }
 
+    CacheResult(@NonNull ScanResult scanResult, int levelAverage) {
+        this(MacAddress.of(scanResult.BSSID), scanResult, levelAverage);
+    }
+
+    @NonNull
+    MacAddress getMacAddress() {
+        return macAddress;
+    }
+
     @NonNull
     ScanResult getScanResult() {
         return scanResult;
@@ -16,24 +16,13 @@
  * along with this program.  If not, see <http://www.gnu.org/licenses/>
  */
 
-package com.vrem.wifianalyzer.wifi.predicate;
+package com.vrem.wifianalyzer.wifi.scanner;
 
 import android.support.annotation.NonNull;
 
-import com.vrem.wifianalyzer.wifi.model.Security;
-import com.vrem.wifianalyzer.wifi.model.WiFiDetail;
+import com.vrem.wifianalyzer.wifi.model.WiFiData;
+import com.vrem.wifianalyzer.wifi.model.WiFiDataDelta;
 
-import org.apache.commons.collections4.Predicate;
-
-class SecurityPredicate implements Predicate<WiFiDetail> {
-    private final Security security;
-
-    SecurityPredicate(@NonNull Security security) {
-        this.security = security;
-    }
-
-    @Override
-    public boolean evaluate(WiFiDetail object) {
-        return object.getSecurity().equals(security);
-    }
+public interface DeltaUpdateNotifier extends UpdateNotifier {
+    void update(@NonNull WiFiData wiFiData, @NonNull WiFiDataDelta wiFiDataDelta);
 }
@@ -0,0 +1,95 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.support.annotation.NonNull;
+
+import com.vrem.wifianalyzer.wifi.scanner.Transformer.Fields;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+class FieldAccessor {
+    static final int VALUE_MISSING = 0;
+
+    private final Map<Class<?>, Field[]> fields;
+    private Class<?> lastType;
+    private Field[] lastFields;
+
+    FieldAccessor() {
+        this.fields = new HashMap<>();
+    }
+
+    int getValue(@NonNull Object object, @NonNull Fields field) {
+        Field declaredField = getFields(object.getClass())[field.ordinal()];
+        if (declaredField == null) {
+            return VALUE_MISSING;
+        }
+        try {
+            return declaredField.getInt(object);
+        } catch (Exception e) {
+            return VALUE_MISSING;
+        }
+    }
+
+    void setValue(@NonNull Object object, @NonNull Fields field, int value) {
+        Field declaredField = getFields(object.getClass())[field.ordinal()];
+        if (declaredField == null) {
+            return;
+        }
+        try {
+            declaredField.setInt(object, value);
+        } catch (Exception e) {
+            // field is not writable on this platform
+        }
+    }
+
+    @NonNull
+    private Field[] getFields(@NonNull Class<?> type) {
+        if (type != lastType) {
+            Field[] result = fields.get(type);
+            if (result == null) {
+                result = resolve(type);
+                fields.put(type, result);
+            }
+            lastType = type;
+            lastFields = result;
+        }
+        return lastFields;
+    }
+
+    @NonNull
+    private Field[] resolve(@NonNull Class<?> type) {
+        Fields[] values = Fields.values();
+        Field[] results = new Field[values.length];
+        for (Fields value : values) {
+            try {
+                Field declaredField = type.getDeclaredField(value.name());
+                if (int.class.equals(declaredField.getType()) && Modifier.isPublic(declaredField.getModifiers())) {
+                    results[value.ordinal()] = declaredField;
+                }
+            } catch (Exception e) {
+                // field is not available on this platform
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.support.annotation.NonNull;
+
+public class LatencyHistogram {
+    static final int SUB_BUCKET_BITS = 6;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    static final int MAX_EXPONENT = 32;
+    static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private final long[] counts;
+    private long count;
+    private long total;
+    private long max;
+
+    public LatencyHistogram() {
+        this.counts = new long[SUB_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_HALF];
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS + 1;
+        int subBucket = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (exponent - SUB_BUCKET_BITS) * SUB_BUCKET_HALF + subBucket - SUB_BUCKET_HALF;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int bucket = index - SUB_BUCKET_COUNT;
+        int exponent = bucket / SUB_BUCKET_HALF + SUB_BUCKET_BITS;
+        int subBucket = bucket % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        int shift = exponent - SUB_BUCKET_BITS + 1;
+        return ((subBucket + 1L) << shift) - 1;
+    }
+
+    public synchronized void record(long value) {
+        long recorded = Math.min(Math.max(value, 0), MAX_VALUE);
+        counts[index(recorded)]++;
+        count++;
+        total += recorded;
+        max = Math.max(max, recorded);
+    }
+
+    public synchronized long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getMax() {
+        return max;
+    }
+
+    public synchronized double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    public synchronized void reset() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = 0;
+        }
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+
+    @NonNull
+    public synchronized LatencyHistogram copy() {
+        LatencyHistogram result = new LatencyHistogram();
+        System.arraycopy(counts, 0, result.counts, 0, counts.length);
+        result.count = count;
+        result.total = total;
+        result.max = max;
+        return result;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.net.wifi.ScanResult;
+import android.net.wifi.WifiConfiguration;
+import android.net.wifi.WifiInfo;
+import android.support.annotation.NonNull;
+
+import com.vrem.wifianalyzer.wifi.scanner.Transformer.Fields;
+
+import org.apache.commons.collections4.Factory;
+import org.apache.commons.collections4.FactoryUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class ReplayScanSource implements ScanSource {
+    public static final float SPEED_STEP = 0;
+    public static final float SPEED_REAL_TIME = 1;
+
+    private final ScanRecording scanRecording;
+    private final float speed;
+    private final FieldAccessor fieldAccessor;
+    private Factory<ScanResult> scanResultFactory;
+    private List<ScanResult> scanResults;
+    private long startTime;
+    private int index;
+
+    public ReplayScanSource(@NonNull ScanRecording scanRecording, float speed) {
+        if (speed < 0) {
+            throw new IllegalArgumentException("Invalid replay speed: " + speed);
+        }
+        this.scanRecording = scanRecording;
+        this.speed = speed;
+        this.fieldAccessor = new FieldAccessor();
+        this.scanResults = Collections.emptyList();
+        this.index = -1;
+    }
+
+    @Override
+    public boolean isWifiEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean setWifiEnabled(boolean enabled) {
+        return true;
+    }
+
+    @Override
+    public boolean startScan() {
+        if (scanRecording.isEmpty()) {
+            return false;
+        }
+        int next = nextIndex();
+        if (next != index) {
+            index = next;
+            scanResults = makeScanResults(scanRecording.get(index));
+        }
+        return true;
+    }
+
+    @Override
+    public List<ScanResult> getScanResults() {
+        return scanResults;
+    }
+
+    @Override
+    public WifiInfo getConnectionInfo() {
+        return null;
+    }
+
+    @Override
+    public List<WifiConfiguration> getConfiguredNetworks() {
+        return new ArrayList<>();
+    }
+
+    public boolean isFinished() {
+        return index == scanRecording.size() - 1;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    void setScanResultFactory(@NonNull Factory<ScanResult> scanResultFactory) {
+        this.scanResultFactory = scanResultFactory;
+    }
+
+    long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    private int nextIndex() {
+        if (index < 0) {
+            startTime = now();
+            return 0;
+        }
+        if (speed == SPEED_STEP) {
+            return Math.min(index + 1, scanRecording.size() - 1);
+        }
+        long replayTime = scanRecording.get(0).getTime() + (long) ((now() - startTime) * speed);
+        int result = index;
+        while (result + 1 < scanRecording.size() && scanRecording.get(result + 1).getTime() <= replayTime) {
+            result++;
+        }
+        return result;
+    }
+
+    @NonNull
+    private List<ScanResult> makeScanResults(@NonNull ScanRecording.Scan scan) {
+        if (scanResultFactory == null) {
+            scanResultFactory = FactoryUtils.instantiateFactory(ScanResult.class);
+        }
+        List<ScanResult> results = new ArrayList<>(scan.getEntries().size());
+        for (ScanRecording.Entry entry : scan.getEntries()) {
+            ScanResult scanResult = scanResultFactory.create();
+            scanResult.SSID = entry.getSSID();
+            scanResult.BSSID = entry.getBSSID();
+            scanResult.capabilities = entry.getCapabilities();
+            scanResult.frequency = entry.getFrequency();
+            scanResult.level = entry.getLevel();
+            fieldAccessor.setValue(scanResult, Fields.centerFreq0, entry.getCenterFreq0());
+            fieldAccessor.setValue(scanResult, Fields.centerFreq1, entry.getCenterFreq1());
+            fieldAccessor.setValue(scanResult, Fields.channelWidth, entry.getChannelWidth());
+            results.add(scanResult);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.support.annotation.NonNull;
+import android.support.v4.os.TraceCompat;
+
+import com.vrem.wifianalyzer.wifi.model.WiFiData;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class ScanInstrumentation {
+    public static final String ENABLE_WIFI = "enableWiFi";
+    public static final String START_SCAN = "startScan";
+    public static final String SCAN_RESULTS = "getScanResults";
+    public static final String CACHE_ADD = "Cache.add";
+    public static final String CACHE_SCAN_RESULTS = "Cache.getScanResults";
+    public static final String TRANSFORM = "Transformer.transformToWiFiData";
+    public static final String DELTA = "WiFiDataDelta.make";
+    public static final String UPDATE_NOTIFIER = "UpdateNotifier:";
+    static final String TRACE_PREFIX = "WiFiAnalyzer:";
+
+    private final Map<String, LatencyHistogram> histograms;
+    private final Map<Class<?>, String> notifierStages;
+    private int queryScans;
+    private long queryHits;
+    private long queryMisses;
+
+    ScanInstrumentation() {
+        this.histograms = new LinkedHashMap<>();
+        this.notifierStages = new HashMap<>();
+        for (String stage : new String[]{ENABLE_WIFI, START_SCAN, SCAN_RESULTS, CACHE_ADD, CACHE_SCAN_RESULTS, TRANSFORM, DELTA}) {
+            histograms.put(stage, new LatencyHistogram());
+        }
+    }
+
+    long begin(@NonNull String stage) {
+        TraceCompat.beginSection(TRACE_PREFIX + stage);
+        return System.nanoTime();
+    }
+
+    void end(@NonNull String stage, long start) {
+        long elapsed = System.nanoTime() - start;
+        TraceCompat.endSection();
+        getHistogram(stage).record(TimeUnit.NANOSECONDS.toMicros(elapsed));
+    }
+
+    @NonNull
+    synchronized String getStage(@NonNull UpdateNotifier updateNotifier) {
+        Class<?> type = updateNotifier.getClass();
+        String result = notifierStages.get(type);
+        if (result == null) {
+            result = UPDATE_NOTIFIER + type.getSimpleName();
+            notifierStages.put(type, result);
+        }
+        return result;
+    }
+
+    synchronized void record(@NonNull WiFiData wiFiData) {
+        queryScans++;
+        queryHits += wiFiData.getQueryHits();
+        queryMisses += wiFiData.getQueryMisses();
+    }
+
+    synchronized int getQueryScans() {
+        return queryScans;
+    }
+
+    synchronized long getQueryHits() {
+        return queryHits;
+    }
+
+    synchronized long getQueryMisses() {
+        return queryMisses;
+    }
+
+    @NonNull
+    public Map<String, LatencyHistogram> getHistograms() {
+        Map<String, LatencyHistogram> results = new LinkedHashMap<>();
+        synchronized (histograms) {
+            for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+                results.put(entry.getKey(), entry.getValue().copy());
+            }
+        }
+        return results;
+    }
+
+    public void reset() {
+        synchronized (histograms) {
+            for (LatencyHistogram histogram : histograms.values()) {
+                histogram.reset();
+            }
+        }
+        synchronized (this) {
+            queryScans = 0;
+            queryHits = 0;
+            queryMisses = 0;
+        }
+    }
+
+    @NonNull
+    public String getReport() {
+        StringBuilder result = new StringBuilder();
+        result.append(String.format(Locale.ENGLISH, "%-36s %7s %8s %8s %8s %8s%n", "Stage (ms)", "Count", "p50", "p95", "p99", "Max"));
+        for (Map.Entry<String, LatencyHistogram> entry : getHistograms().entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            result.append(String.format(Locale.ENGLISH, "%-36s %7d %8.2f %8.2f %8.2f %8.2f%n",
+                entry.getKey(),
+                histogram.getCount(),
+                toMillis(histogram.getValueAtPercentile(50)),
+                toMillis(histogram.getValueAtPercentile(95)),
+                toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getMax())));
+        }
+        result.append(getQueryReport());
+        return result.toString();
+    }
+
+    @NonNull
+    private synchronized String getQueryReport() {
+        long queries = queryHits + queryMisses;
+        double hitRate = queries == 0 ? 0 : queryHits * 100.0 / queries;
+        double perScan = queryScans == 0 ? 0 : (double) queries / queryScans;
+        return String.format(Locale.ENGLISH, "WiFiData queries: %.1f per scan, %.1f%% hits (%d hits, %d misses, %d scans)%n",
+            perScan, hitRate, queryHits, queryMisses, queryScans);
+    }
+
+    @NonNull
+    private LatencyHistogram getHistogram(@NonNull String stage) {
+        synchronized (histograms) {
+            LatencyHistogram result = histograms.get(stage);
+            if (result == null) {
+                result = new LatencyHistogram();
+                histograms.put(stage, result);
+            }
+            return result;
+        }
+    }
+
+    private double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -16,20 +16,20 @@
  * along with this program.  If not, see <http://www.gnu.org/licenses/>
  */
 
-package com.vrem.wifianalyzer.wifi.band;
+package com.vrem.wifianalyzer.wifi.scanner;
 
-import org.apache.commons.collections4.Predicate;
+public interface ScanMetrics {
+    long getRequestedInterval();
 
-public class FrequencyPredicate implements Predicate<WiFiBand> {
-    private final int frequency;
+    long getEffectiveInterval();
 
-    public FrequencyPredicate(int frequency) {
-        this.frequency = frequency;
-    }
+    int getRequested();
 
-    @Override
-    public boolean evaluate(WiFiBand object) {
-        return object.getWiFiChannels().isInRange(frequency);
-    }
+    int getStarted();
 
+    int getRejected();
+
+    int getDeferred();
+
+    int getPassive();
 }
@@ -0,0 +1,226 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.net.wifi.ScanResult;
+import android.support.annotation.NonNull;
+
+import com.vrem.wifianalyzer.wifi.scanner.Transformer.Fields;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ScanRecording {
+    static final String SEPARATOR = "|";
+    static final String HEADER = "Time|BSSID|Frequency|Center Frequency 0|Center Frequency 1|Channel Width|Level|Capabilities|SSID";
+    private static final int COLUMNS = 9;
+
+    private final List<Scan> scans;
+    private final FieldAccessor fieldAccessor;
+
+    public ScanRecording() {
+        this.scans = new ArrayList<>();
+        this.fieldAccessor = new FieldAccessor();
+    }
+
+    @NonNull
+    public static ScanRecording read(@NonNull Reader reader) throws IOException {
+        ScanRecording result = new ScanRecording();
+        BufferedReader bufferedReader = new BufferedReader(reader);
+        List<Entry> entries = new ArrayList<>();
+        long time = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = bufferedReader.readLine()) != null) {
+            lineNumber++;
+            if (StringUtils.isBlank(line) || line.startsWith(HEADER)) {
+                continue;
+            }
+            String[] values = StringUtils.splitPreserveAllTokens(line, SEPARATOR, COLUMNS);
+            if (values.length != COLUMNS) {
+                throw new IOException("Invalid scan recording line " + lineNumber + ": " + line);
+            }
+            try {
+                long entryTime = Long.parseLong(values[0]);
+                if (!entries.isEmpty() && entryTime != time) {
+                    result.add(new Scan(time, entries));
+                    entries = new ArrayList<>();
+                }
+                time = entryTime;
+                entries.add(new Entry(values[8], values[1], values[7],
+                    Integer.parseInt(values[2]), Integer.parseInt(values[3]), Integer.parseInt(values[4]),
+                    Integer.parseInt(values[5]), Integer.parseInt(values[6])));
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid scan recording line " + lineNumber + ": " + line, e);
+            }
+        }
+        if (!entries.isEmpty()) {
+            result.add(new Scan(time, entries));
+        }
+        return result;
+    }
+
+    public void write(@NonNull Writer writer) throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+        for (Scan scan : scans) {
+            for (Entry entry : scan.getEntries()) {
+                writer.write(scan.getTime() + SEPARATOR
+                    + entry.getBSSID() + SEPARATOR
+                    + entry.getFrequency() + SEPARATOR
+                    + entry.getCenterFreq0() + SEPARATOR
+                    + entry.getCenterFreq1() + SEPARATOR
+                    + entry.getChannelWidth() + SEPARATOR
+                    + entry.getLevel() + SEPARATOR
+                    + entry.getCapabilities() + SEPARATOR
+                    + StringUtils.replaceChars(entry.getSSID(), "\r\n", "  "));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    public void add(@NonNull Scan scan) {
+        if (!scans.isEmpty() && scan.getTime() < scans.get(scans.size() - 1).getTime()) {
+            throw new IllegalArgumentException("Scan time must not go backwards: " + scan.getTime());
+        }
+        scans.add(scan);
+    }
+
+    public void addScanResults(long time, @NonNull List<ScanResult> scanResults) {
+        List<Entry> entries = new ArrayList<>(scanResults.size());
+        for (ScanResult scanResult : scanResults) {
+            entries.add(new Entry(StringUtils.defaultString(scanResult.SSID), StringUtils.defaultString(scanResult.BSSID),
+                StringUtils.defaultString(scanResult.capabilities), scanResult.frequency,
+                fieldAccessor.getValue(scanResult, Fields.centerFreq0),
+                fieldAccessor.getValue(scanResult, Fields.centerFreq1),
+                fieldAccessor.getValue(scanResult, Fields.channelWidth),
+                scanResult.level));
+        }
+        add(new Scan(time, entries));
+    }
+
+    @NonNull
+    public Scan get(int index) {
+        return scans.get(index);
+    }
+
+    public int size() {
+        return scans.size();
+    }
+
+    public boolean isEmpty() {
+        return scans.isEmpty();
+    }
+
+    public static class Scan {
+        private final long time;
+        private final List<Entry> entries;
+
+        public Scan(long time, @NonNull List<Entry> entries) {
+            this.time = time;
+            this.entries = entries;
+        }
+
+        public long getTime() {
+            return time;
+        }
+
+        @NonNull
+        public List<Entry> getEntries() {
+            return Collections.unmodifiableList(entries);
+        }
+
+        @Override
+        public String toString() {
+            return ToStringBuilder.reflectionToString(this);
+        }
+    }
+
+    public static class Entry {
+        private final String SSID;
+        private final String BSSID;
+        private final String capabilities;
+        private final int frequency;
+        private final int centerFreq0;
+        private final int centerFreq1;
+        private final int channelWidth;
+        private final int level;
+
+        public Entry(@NonNull String SSID, @NonNull String BSSID, @NonNull String capabilities,
+                     int frequency, int centerFreq0, int centerFreq1, int channelWidth, int level) {
+            this.SSID = SSID;
+            this.BSSID = BSSID;
+            this.capabilities = capabilities;
+            this.frequency = frequency;
+            this.centerFreq0 = centerFreq0;
+            this.centerFreq1 = centerFreq1;
+            this.channelWidth = channelWidth;
+            this.level = level;
+        }
+
+        @NonNull
+        public String getSSID() {
+            return SSID;
+        }
+
+        @NonNull
+        public String getBSSID() {
+            return BSSID;
+        }
+
+        @NonNull
+        public String getCapabilities() {
+            return capabilities;
+        }
+
+        public int getFrequency() {
+            return frequency;
+        }
+
+        public int getCenterFreq0() {
+            return centerFreq0;
+        }
+
+        public int getCenterFreq1() {
+            return centerFreq1;
+        }
+
+        public int getChannelWidth() {
+            return channelWidth;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        @Override
+        public String toString() {
+            return ToStringBuilder.reflectionToString(this);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.net.wifi.WifiManager;
+import android.support.annotation.NonNull;
+
+public class ScanResultsReceiver extends BroadcastReceiver {
+    private final ScannerService scannerService;
+
+    public ScanResultsReceiver(@NonNull ScannerService scannerService) {
+        this.scannerService = scannerService;
+    }
+
+    public void register(@NonNull Context context) {
+        context.registerReceiver(this, new IntentFilter(WifiManager.SCAN_RESULTS_AVAILABLE_ACTION));
+    }
+
+    public void unregister(@NonNull Context context) {
+        try {
+            context.unregisterReceiver(this);
+        } catch (IllegalArgumentException e) {
+            // not registered: nothing to do
+        }
+        scannerService.scanResultsUnavailable();
+    }
+
+    @Override
+    public void onReceive(Context context, Intent intent) {
+        if (WifiManager.SCAN_RESULTS_AVAILABLE_ACTION.equals(intent.getAction())
+            && intent.getBooleanExtra(WifiManager.EXTRA_RESULTS_UPDATED, true)) {
+            scannerService.scanResultsAvailable();
+        }
+    }
+}
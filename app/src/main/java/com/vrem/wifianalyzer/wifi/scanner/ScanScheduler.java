@@ -0,0 +1,215 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.os.Build;
+import android.support.annotation.NonNull;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+class ScanScheduler implements ScanMetrics {
+    static final int THROTTLE_SCANS = 4;
+    static final long THROTTLE_WINDOW = TimeUnit.MINUTES.toMillis(2);
+    static final long THROTTLE_SPACING = THROTTLE_WINDOW / THROTTLE_SCANS;
+    static final int BACKOFF_MAX = 5;
+
+    enum Decision {
+        IDLE(false, false),
+        PASSIVE(false, true),
+        ACTIVE(true, false),
+        ACTIVE_PASSIVE(true, true);
+
+        private final boolean scan;
+        private final boolean read;
+
+        Decision(boolean scan, boolean read) {
+            this.scan = scan;
+            this.read = read;
+        }
+
+        boolean isScan() {
+            return scan;
+        }
+
+        boolean isRead() {
+            return read;
+        }
+
+        static Decision find(boolean scan, boolean read) {
+            if (scan) {
+                return read ? ACTIVE_PASSIVE : ACTIVE;
+            }
+            return read ? PASSIVE : IDLE;
+        }
+    }
+
+    private final boolean throttled;
+    private final long[] startTimes;
+    private int startIndex;
+    private int startSize;
+    private int backoff;
+    private long backoffUntil;
+    private boolean listening;
+    private boolean scanPending;
+    private boolean resultsPending;
+    private long requestedInterval;
+    private long firstResults;
+    private long lastResults;
+    private int results;
+    private int requested;
+    private int started;
+    private int rejected;
+    private int deferred;
+    private int passive;
+
+    ScanScheduler(boolean throttled) {
+        this.throttled = throttled;
+        this.startTimes = new long[THROTTLE_SCANS];
+    }
+
+    @NonNull
+    static ScanScheduler makeScanScheduler() {
+        return new ScanScheduler(Build.VERSION.SDK_INT >= Build.VERSION_CODES.P);
+    }
+
+    @NonNull
+    synchronized Decision next(long now, long interval) {
+        requested++;
+        requestedInterval = interval;
+        boolean read = resultsPending;
+        resultsPending = false;
+        boolean scan = isAvailable(now) && !(throttled && read);
+        if (!scan) {
+            deferred++;
+        }
+        return Decision.find(scan, read);
+    }
+
+    synchronized boolean started(long now, boolean accepted) {
+        if (!accepted) {
+            rejected++;
+            backoff = Math.min(backoff + 1, BACKOFF_MAX);
+            backoffUntil = now + Math.min(requestedInterval << backoff, THROTTLE_WINDOW);
+            return false;
+        }
+        started++;
+        backoff = 0;
+        startTimes[startIndex] = now;
+        startIndex = (startIndex + 1) % startTimes.length;
+        startSize = Math.min(startSize + 1, startTimes.length);
+        if (listening) {
+            scanPending = true;
+            if (throttled) {
+                return false;
+            }
+        }
+        results(now);
+        return true;
+    }
+
+    synchronized void resultsAvailable(long now) {
+        listening = true;
+        if (scanPending) {
+            scanPending = false;
+            if (!throttled) {
+                return;
+            }
+        } else {
+            passive++;
+        }
+        resultsPending = true;
+        results(now);
+    }
+
+    synchronized void resultsUnavailable() {
+        listening = false;
+        if (scanPending) {
+            scanPending = false;
+            resultsPending = true;
+        }
+    }
+
+    boolean isThrottled() {
+        return throttled;
+    }
+
+    @Override
+    public synchronized long getRequestedInterval() {
+        return requestedInterval;
+    }
+
+    @Override
+    public synchronized long getEffectiveInterval() {
+        return results < 2 ? 0 : (lastResults - firstResults) / (results - 1);
+    }
+
+    @Override
+    public synchronized int getRequested() {
+        return requested;
+    }
+
+    @Override
+    public synchronized int getStarted() {
+        return started;
+    }
+
+    @Override
+    public synchronized int getRejected() {
+        return rejected;
+    }
+
+    @Override
+    public synchronized int getDeferred() {
+        return deferred;
+    }
+
+    @Override
+    public synchronized int getPassive() {
+        return passive;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+
+    private boolean isAvailable(long now) {
+        if (backoff > 0 && now < backoffUntil) {
+            return false;
+        }
+        if (!throttled || startSize == 0) {
+            return true;
+        }
+        long latest = startTimes[(startIndex + startTimes.length - 1) % startTimes.length];
+        if (now - latest < THROTTLE_SPACING) {
+            return false;
+        }
+        return startSize < startTimes.length || now - startTimes[startIndex] >= THROTTLE_WINDOW;
+    }
+
+    private void results(long now) {
+        if (results == 0) {
+            firstResults = now;
+        }
+        lastResults = now;
+        results++;
+    }
+}
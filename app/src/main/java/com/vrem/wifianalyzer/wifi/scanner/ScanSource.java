@@ -16,25 +16,24 @@
  * along with this program.  If not, see <http://www.gnu.org/licenses/>
  */
 
-package com.vrem.wifianalyzer.wifi.predicate;
+package com.vrem.wifianalyzer.wifi.scanner;
 
-import android.support.annotation.NonNull;
+import android.net.wifi.ScanResult;
+import android.net.wifi.WifiConfiguration;
+import android.net.wifi.WifiInfo;
 
-import com.vrem.wifianalyzer.wifi.model.Strength;
-import com.vrem.wifianalyzer.wifi.model.WiFiDetail;
+import java.util.List;
 
-import org.apache.commons.collections4.Predicate;
+public interface ScanSource {
+    boolean isWifiEnabled();
 
-class StrengthPredicate implements Predicate<WiFiDetail> {
-    private final Strength strength;
+    boolean setWifiEnabled(boolean enabled);
 
-    StrengthPredicate(@NonNull Strength strength) {
-        this.strength = strength;
-    }
+    boolean startScan();
 
-    @Override
-    public boolean evaluate(WiFiDetail object) {
-        return object.getWiFiSignal().getStrength().equals(strength);
-    }
+    List<ScanResult> getScanResults();
 
+    WifiInfo getConnectionInfo();
+
+    List<WifiConfiguration> getConfiguredNetworks();
 }
@@ -21,44 +21,59 @@ package com.vrem.wifianalyzer.wifi.scanner;
 import android.net.wifi.ScanResult;
 import android.net.wifi.WifiConfiguration;
 import android.net.wifi.WifiInfo;
-import android.net.wifi.WifiManager;
 import android.os.Handler;
 import android.support.annotation.NonNull;
 
 import com.vrem.wifianalyzer.settings.Settings;
 import com.vrem.wifianalyzer.wifi.model.WiFiData;
+import com.vrem.wifianalyzer.wifi.model.WiFiDataDelta;
 
 import org.apache.commons.collections4.Closure;
 import org.apache.commons.collections4.IterableUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 class Scanner implements ScannerService {
     private final List<UpdateNotifier> updateNotifiers;
-    private final WifiManager wifiManager;
+    private final ScanSource scanSource;
     private final Settings settings;
+    private final Handler handler;
+    private Executor executor;
     private Transformer transformer;
-    private WiFiData wiFiData;
+    private volatile WiFiData wiFiData;
+    private WiFiData scannedWiFiData;
     private Cache cache;
     private PeriodicScan periodicScan;
+    private ScanScheduler scanScheduler;
+    private ScanInstrumentation scanInstrumentation;
 
-    Scanner(@NonNull WifiManager wifiManager, @NonNull Handler handler, @NonNull Settings settings) {
+    Scanner(@NonNull ScanSource scanSource, @NonNull Handler handler, @NonNull Settings settings) {
         this.updateNotifiers = new ArrayList<>();
-        this.wifiManager = wifiManager;
+        this.scanSource = scanSource;
         this.settings = settings;
+        this.handler = handler;
         this.wiFiData = WiFiData.EMPTY;
+        this.scannedWiFiData = WiFiData.EMPTY;
+        this.setExecutor(Executors.newSingleThreadExecutor(new ScannerThreadFactory()));
         this.setTransformer(new Transformer());
         this.setCache(new Cache());
+        this.setScanScheduler(ScanScheduler.makeScanScheduler());
+        this.setScanInstrumentation(new ScanInstrumentation());
         this.periodicScan = new PeriodicScan(this, handler, settings);
     }
 
     @Override
     public void update() {
-        enableWiFi();
-        scanResults();
-        wiFiData = transformer.transformToWiFiData(cache.getScanResults(), wiFiInfo(), wifiConfiguration());
-        IterableUtils.forEach(updateNotifiers, new UpdateClosure());
+        executor.execute(new ScanTask());
+    }
+
+    @Override
+    public void refresh() {
+        executor.execute(new RefreshTask());
     }
 
     @Override
@@ -67,6 +82,28 @@ class Scanner implements ScannerService {
         return wiFiData;
     }
 
+    @Override
+    public void scanResultsAvailable() {
+        scanScheduler.resultsAvailable(now());
+    }
+
+    @Override
+    public void scanResultsUnavailable() {
+        scanScheduler.resultsUnavailable();
+    }
+
+    @Override
+    @NonNull
+    public ScanMetrics getScanMetrics() {
+        return scanScheduler;
+    }
+
+    @Override
+    @NonNull
+    public ScanInstrumentation getScanInstrumentation() {
+        return scanInstrumentation;
+    }
+
     @Override
     public void register(@NonNull UpdateNotifier updateNotifier) {
         updateNotifiers.add(updateNotifier);
@@ -96,13 +133,18 @@ class Scanner implements ScannerService {
     public void setWiFiOnExit() {
         if (settings.isWiFiOffOnExit()) {
             try {
-                wifiManager.setWifiEnabled(false);
+                scanSource.setWifiEnabled(false);
             } catch (Exception e) {
                 // critical error: do not die
             }
         }
     }
 
+    @NonNull
+    ScanSource getScanSource() {
+        return scanSource;
+    }
+
     @NonNull
     PeriodicScan getPeriodicScan() {
         return periodicScan;
@@ -112,6 +154,10 @@ class Scanner implements ScannerService {
         this.periodicScan = periodicScan;
     }
 
+    void setExecutor(@NonNull Executor executor) {
+        this.executor = executor;
+    }
+
     void setCache(@NonNull Cache cache) {
         this.cache = cache;
     }
@@ -120,35 +166,111 @@ class Scanner implements ScannerService {
         this.transformer = transformer;
     }
 
+    void setScanScheduler(@NonNull ScanScheduler scanScheduler) {
+        this.scanScheduler = scanScheduler;
+    }
+
+    void setScanInstrumentation(@NonNull ScanInstrumentation scanInstrumentation) {
+        this.scanInstrumentation = scanInstrumentation;
+    }
+
     @NonNull
     List<UpdateNotifier> getUpdateNotifiers() {
         return updateNotifiers;
     }
 
     private void enableWiFi() {
+        long start = scanInstrumentation.begin(ScanInstrumentation.ENABLE_WIFI);
         try {
-            if (!wifiManager.isWifiEnabled()) {
-                wifiManager.setWifiEnabled(true);
+            if (!scanSource.isWifiEnabled()) {
+                scanSource.setWifiEnabled(true);
             }
         } catch (Exception e) {
             // critical error: do not die
+        } finally {
+            scanInstrumentation.end(ScanInstrumentation.ENABLE_WIFI, start);
         }
     }
 
     private void scanResults() {
         try {
-            if (wifiManager.startScan()) {
-                List<ScanResult> scanResults = wifiManager.getScanResults();
-                cache.add(scanResults);
+            long now = now();
+            ScanScheduler.Decision decision = scanScheduler.next(now, settings.getScanInterval() * PeriodicScan.DELAY_INTERVAL);
+            boolean read = decision.isRead();
+            if (decision.isScan()) {
+                read |= scanScheduler.started(now, startScan());
+            }
+            if (read) {
+                cache(readScanResults());
             }
         } catch (Exception e) {
             // critical error: do not die
         }
     }
 
+    private boolean startScan() {
+        long start = scanInstrumentation.begin(ScanInstrumentation.START_SCAN);
+        try {
+            return scanSource.startScan();
+        } finally {
+            scanInstrumentation.end(ScanInstrumentation.START_SCAN, start);
+        }
+    }
+
+    private List<ScanResult> readScanResults() {
+        long start = scanInstrumentation.begin(ScanInstrumentation.SCAN_RESULTS);
+        try {
+            return scanSource.getScanResults();
+        } finally {
+            scanInstrumentation.end(ScanInstrumentation.SCAN_RESULTS, start);
+        }
+    }
+
+    private void cache(List<ScanResult> scanResults) {
+        long start = scanInstrumentation.begin(ScanInstrumentation.CACHE_ADD);
+        try {
+            cache.add(scanResults);
+        } finally {
+            scanInstrumentation.end(ScanInstrumentation.CACHE_ADD, start);
+        }
+    }
+
+    private List<CacheResult> cacheResults() {
+        long start = scanInstrumentation.begin(ScanInstrumentation.CACHE_SCAN_RESULTS);
+        try {
+            return cache.getScanResults();
+        } finally {
+            scanInstrumentation.end(ScanInstrumentation.CACHE_SCAN_RESULTS, start);
+        }
+    }
+
+    private WiFiData transform(List<CacheResult> cacheResults) {
+        WifiInfo wifiInfo = wiFiInfo();
+        List<WifiConfiguration> wifiConfigurations = wifiConfiguration();
+        long start = scanInstrumentation.begin(ScanInstrumentation.TRANSFORM);
+        try {
+            return transformer.transformToWiFiData(cacheResults, wifiInfo, wifiConfigurations);
+        } finally {
+            scanInstrumentation.end(ScanInstrumentation.TRANSFORM, start);
+        }
+    }
+
+    private WiFiDataDelta delta(@NonNull WiFiData previous, @NonNull WiFiData result) {
+        long start = scanInstrumentation.begin(ScanInstrumentation.DELTA);
+        try {
+            return WiFiDataDelta.make(previous, result);
+        } finally {
+            scanInstrumentation.end(ScanInstrumentation.DELTA, start);
+        }
+    }
+
+    private long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
     private WifiInfo wiFiInfo() {
         try {
-            return wifiManager.getConnectionInfo();
+            return scanSource.getConnectionInfo();
         } catch (Exception e) {
             // critical error: do not die
             return null;
@@ -157,17 +279,87 @@ class Scanner implements ScannerService {
 
     private List<WifiConfiguration> wifiConfiguration() {
         try {
-            return wifiManager.getConfiguredNetworks();
+            return scanSource.getConfiguredNetworks();
         } catch (Exception e) {
             // critical error: do not die
             return new ArrayList<>();
         }
     }
 
+    private class ScanTask implements Runnable {
+        @Override
+        public void run() {
+            enableWiFi();
+            scanResults();
+            WiFiData result = transform(cacheResults());
+            WiFiData previous = scannedWiFiData;
+            scannedWiFiData = result;
+            handler.post(new NotifyTask(previous, result));
+        }
+    }
+
+    private class RefreshTask implements Runnable {
+        @Override
+        public void run() {
+            WiFiData previous = scannedWiFiData;
+            if (previous == WiFiData.EMPTY) {
+                return;
+            }
+            WiFiData result = new WiFiData(previous.getWiFiDetails(), previous.getWiFiConnection(), previous.getWiFiConfigurations());
+            result.enrich();
+            scannedWiFiData = result;
+            handler.post(new NotifyTask(previous, result));
+        }
+    }
+
+    private class NotifyTask implements Runnable {
+        private final WiFiData previous;
+        private final WiFiData result;
+        private WiFiDataDelta delta;
+
+        private NotifyTask(@NonNull WiFiData previous, @NonNull WiFiData result) {
+            this.previous = previous;
+            this.result = result;
+        }
+
+        @Override
+        public void run() {
+            if (wiFiData != WiFiData.EMPTY) {
+                scanInstrumentation.record(wiFiData);
+            }
+            wiFiData = result;
+            IterableUtils.forEach(updateNotifiers, new UpdateClosure(this));
+        }
+
+        @NonNull
+        private WiFiDataDelta getDelta() {
+            if (delta == null) {
+                delta = delta(previous, result);
+            }
+            return delta;
+        }
+    }
+
     private class UpdateClosure implements Closure<UpdateNotifier> {
+        private final NotifyTask notifyTask;
+
+        private UpdateClosure(@NonNull NotifyTask notifyTask) {
+            this.notifyTask = notifyTask;
+        }
+
         @Override
         public void execute(UpdateNotifier updateNotifier) {
-            updateNotifier.update(wiFiData);
+            String stage = scanInstrumentation.getStage(updateNotifier);
+            long start = scanInstrumentation.begin(stage);
+            try {
+                if (updateNotifier instanceof DeltaUpdateNotifier) {
+                    ((DeltaUpdateNotifier) updateNotifier).update(notifyTask.result, notifyTask.getDelta());
+                } else {
+                    updateNotifier.update(notifyTask.result);
+                }
+            } finally {
+                scanInstrumentation.end(stage, start);
+            }
         }
     }
 }
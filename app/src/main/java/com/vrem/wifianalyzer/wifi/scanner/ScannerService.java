@@ -25,9 +25,21 @@ import com.vrem.wifianalyzer.wifi.model.WiFiData;
 public interface ScannerService {
     void update();
 
+    void refresh();
+
     @NonNull
     WiFiData getWiFiData();
 
+    void scanResultsAvailable();
+
+    void scanResultsUnavailable();
+
+    @NonNull
+    ScanMetrics getScanMetrics();
+
+    @NonNull
+    ScanInstrumentation getScanInstrumentation();
+
     void register(@NonNull UpdateNotifier updateNotifier);
 
     void unregister(@NonNull UpdateNotifier updateNotifier);
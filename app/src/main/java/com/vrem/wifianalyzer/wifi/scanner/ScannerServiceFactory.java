@@ -32,6 +32,12 @@ public class ScannerServiceFactory {
     @NonNull
     public static ScannerService makeScannerService
         (@NonNull WifiManager wifiManager, @NonNull Handler handler, @NonNull Settings settings) {
-        return new Scanner(wifiManager, handler, settings);
+        return makeScannerService(new WiFiManagerScanSource(wifiManager), handler, settings);
+    }
+
+    @NonNull
+    public static ScannerService makeScannerService
+        (@NonNull ScanSource scanSource, @NonNull Handler handler, @NonNull Settings settings) {
+        return new Scanner(scanSource, handler, settings);
     }
 }
@@ -33,11 +33,11 @@ import com.vrem.wifianalyzer.wifi.model.WiFiUtils;
 
 import org.apache.commons.collections4.CollectionUtils;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 
 class Transformer {
+    private final FieldAccessor fieldAccessor = new FieldAccessor();
 
     @NonNull
     WiFiConnection transformWifiInfo(WifiInfo wifiInfo) {
@@ -63,34 +63,25 @@ class Transformer {
 
     @NonNull
     WiFiWidth getWiFiWidth(@NonNull ScanResult scanResult) {
-        try {
-            return EnumUtils.find(WiFiWidth.class, getFieldValue(scanResult, Fields.channelWidth), WiFiWidth.MHZ_20);
-        } catch (Exception e) {
-            return WiFiWidth.MHZ_20;
-        }
+        return EnumUtils.find(WiFiWidth.class, getFieldValue(scanResult, Fields.channelWidth), WiFiWidth.MHZ_20);
     }
 
     int getCenterFrequency(@NonNull ScanResult scanResult, @NonNull WiFiWidth wiFiWidth) {
-        try {
-            int centerFrequency = getFieldValue(scanResult, Fields.centerFreq0);
-            if (centerFrequency == 0) {
-                centerFrequency = scanResult.frequency;
-            } else if (isExtensionFrequency(scanResult, wiFiWidth, centerFrequency)) {
-                centerFrequency = (centerFrequency + scanResult.frequency) / 2;
-            }
-            return centerFrequency;
-        } catch (Exception e) {
-            return scanResult.frequency;
+        int centerFrequency = getFieldValue(scanResult, Fields.centerFreq0);
+        if (centerFrequency == FieldAccessor.VALUE_MISSING) {
+            centerFrequency = scanResult.frequency;
+        } else if (isExtensionFrequency(scanResult, wiFiWidth, centerFrequency)) {
+            centerFrequency = (centerFrequency + scanResult.frequency) / 2;
         }
+        return centerFrequency;
     }
 
     boolean isExtensionFrequency(@NonNull ScanResult scanResult, @NonNull WiFiWidth wiFiWidth, int centerFrequency) {
         return WiFiWidth.MHZ_40.equals(wiFiWidth) && Math.abs(scanResult.frequency - centerFrequency) >= WiFiWidth.MHZ_40.getFrequencyWidthHalf();
     }
 
-    int getFieldValue(@NonNull ScanResult scanResult, @NonNull Fields field) throws NoSuchFieldException, IllegalAccessException {
-        Field declaredField = scanResult.getClass().getDeclaredField(field.name());
-        return (int) declaredField.get(scanResult);
+    int getFieldValue(@NonNull ScanResult scanResult, @NonNull Fields field) {
+        return fieldAccessor.getValue(scanResult, field);
     }
 
     @NonNull
@@ -98,12 +89,14 @@ class Transformer {
         List<WiFiDetail> wiFiDetails = transformCacheResults(cacheResults);
         WiFiConnection wiFiConnection = transformWifiInfo(wifiInfo);
         List<String> wifiConfigurations = transformWifiConfigurations(configuredNetworks);
-        return new WiFiData(wiFiDetails, wiFiConnection, wifiConfigurations);
+        WiFiData wiFiData = new WiFiData(wiFiDetails, wiFiConnection, wifiConfigurations);
+        wiFiData.enrich();
+        return wiFiData;
     }
 
     enum Fields {
         centerFreq0,
-        //        centerFreq1,
+        centerFreq1,
         channelWidth
     }
 
@@ -114,7 +107,7 @@ class Transformer {
             WiFiWidth wiFiWidth = getWiFiWidth(scanResult);
             int centerFrequency = getCenterFrequency(scanResult, wiFiWidth);
             WiFiSignal wiFiSignal = new WiFiSignal(scanResult.frequency, centerFrequency, wiFiWidth, input.getLevelAverage());
-            return new WiFiDetail(scanResult.SSID, scanResult.BSSID, scanResult.capabilities, wiFiSignal);
+            return new WiFiDetail(scanResult.SSID, input.getMacAddress(), scanResult.capabilities, wiFiSignal);
         }
     }
 
@@ -0,0 +1,70 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.net.wifi.ScanResult;
+import android.net.wifi.WifiConfiguration;
+import android.net.wifi.WifiInfo;
+import android.net.wifi.WifiManager;
+import android.support.annotation.NonNull;
+
+import java.util.List;
+
+class WiFiManagerScanSource implements ScanSource {
+    private final WifiManager wifiManager;
+
+    WiFiManagerScanSource(@NonNull WifiManager wifiManager) {
+        this.wifiManager = wifiManager;
+    }
+
+    @Override
+    public boolean isWifiEnabled() {
+        return wifiManager.isWifiEnabled();
+    }
+
+    @Override
+    public boolean setWifiEnabled(boolean enabled) {
+        return wifiManager.setWifiEnabled(enabled);
+    }
+
+    @Override
+    public boolean startScan() {
+        return wifiManager.startScan();
+    }
+
+    @Override
+    public List<ScanResult> getScanResults() {
+        return wifiManager.getScanResults();
+    }
+
+    @Override
+    public WifiInfo getConnectionInfo() {
+        return wifiManager.getConnectionInfo();
+    }
+
+    @Override
+    public List<WifiConfiguration> getConfiguredNetworks() {
+        return wifiManager.getConfiguredNetworks();
+    }
+
+    @NonNull
+    WifiManager getWifiManager() {
+        return wifiManager;
+    }
+}
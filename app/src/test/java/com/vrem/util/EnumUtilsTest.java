@@ -30,6 +30,7 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -51,6 +52,13 @@ public class EnumUtilsTest {
 
     }
 
+    @Test
+    public void testMask() {
+        assertEquals(0, EnumUtils.mask(Collections.<TestObject>emptySet()));
+        assertEquals(5, EnumUtils.mask(Arrays.asList(TestObject.VALUE1, TestObject.VALUE2)));
+        assertEquals(7, EnumUtils.mask(EnumUtils.values(TestObject.class)));
+    }
+
     @Test
     public void testValues() {
         // setup
@@ -61,6 +69,21 @@ public class EnumUtilsTest {
         validate(expected, actual);
     }
 
+    @Test
+    public void testValuesIsEnumSet() {
+        // execute
+        Set<TestObject> actual = EnumUtils.values(TestObject.class);
+        actual.remove(TestObject.VALUE1);
+        // validate
+        assertTrue(actual instanceof EnumSet);
+        assertEquals(3, EnumUtils.values(TestObject.class).size());
+    }
+
+    @Test
+    public void testSize() {
+        assertEquals(3, EnumUtils.size(TestObject.class));
+    }
+
     @Test
     public void testFindUsingValues() {
         // setup
@@ -18,6 +18,8 @@
 
 package com.vrem.util;
 
+import android.content.res.AssetFileDescriptor;
+import android.content.res.AssetManager;
 import android.content.res.Resources;
 
 import org.apache.commons.lang3.StringUtils;
@@ -27,7 +29,12 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.verify;
@@ -37,6 +44,10 @@ import static org.mockito.Mockito.when;
 public class FileUtilsTest {
     @Mock
     private Resources resources;
+    @Mock
+    private AssetManager assetManager;
+    @Mock
+    private AssetFileDescriptor assetFileDescriptor;
 
     @Test
     public void testReadFile() {
@@ -64,4 +75,38 @@ public class FileUtilsTest {
         verify(resources).openRawResource(id);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testMapAsset() throws IOException {
+        // setup
+        String fileName = "asset.db";
+        File file = File.createTempFile("asset", ".db");
+        file.deleteOnExit();
+        try (FileOutputStream outputStream = new FileOutputStream(file)) {
+            outputStream.write("HeaderAssetData".getBytes());
+        }
+        when(assetManager.openFd(fileName)).thenReturn(assetFileDescriptor);
+        when(assetFileDescriptor.createInputStream()).thenReturn(new FileInputStream(file));
+        when(assetFileDescriptor.getStartOffset()).thenReturn(6L);
+        when(assetFileDescriptor.getLength()).thenReturn(5L);
+        // execute
+        ByteBuffer actual = FileUtils.mapAsset(assetManager, fileName);
+        // validate
+        byte[] bytes = new byte[actual.remaining()];
+        actual.get(bytes);
+        assertEquals("Asset", new String(bytes));
+        verify(assetManager).openFd(fileName);
+    }
+
+    @Test
+    public void testMapAssetHandleException() throws IOException {
+        // setup
+        String fileName = "asset.db";
+        when(assetManager.openFd(fileName)).thenThrow(IOException.class);
+        // execute
+        ByteBuffer actual = FileUtils.mapAsset(assetManager, fileName);
+        // validate
+        assertEquals(0, actual.remaining());
+        verify(assetManager).openFd(fileName);
+    }
+
+}
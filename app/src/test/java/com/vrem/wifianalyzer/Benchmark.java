@@ -0,0 +1,108 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer;
+
+import android.support.annotation.NonNull;
+
+import org.apache.commons.collections4.Factory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+public class Benchmark {
+    private static final int WARM_UP = 3;
+    private static final int ROUNDS = 5;
+
+    private final String name;
+    private final int operations;
+
+    public Benchmark(@NonNull String name, int operations) {
+        this.name = name;
+        this.operations = operations;
+    }
+
+    @NonNull
+    public Result run(@NonNull String label, @NonNull Runnable runnable) {
+        for (int i = 0; i < WARM_UP; i++) {
+            runnable.run();
+        }
+        long nanos = Long.MAX_VALUE;
+        long bytes = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long bytesStart = allocatedBytes();
+            long nanosStart = System.nanoTime();
+            runnable.run();
+            nanos = Math.min(nanos, System.nanoTime() - nanosStart);
+            bytes = Math.min(bytes, allocatedBytes() - bytesStart);
+        }
+        Result result = new Result(label, (double) nanos / operations, (double) bytes / operations);
+        System.out.println(String.format(Locale.ENGLISH, "[%s] %s", name, result));
+        return result;
+    }
+
+    public static long retainedBytes(@NonNull Factory<?> factory) {
+        long start = usedBytes();
+        Object result = factory.create();
+        long bytes = usedBytes() - start;
+        System.out.println(String.format(Locale.ENGLISH, "[retained] %-40s %12d B", result.getClass().getSimpleName(), bytes));
+        return bytes;
+    }
+
+    private static long usedBytes() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < WARM_UP; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    public static class Result {
+        private final String label;
+        private final double nanosPerOperation;
+        private final double bytesPerOperation;
+
+        private Result(@NonNull String label, double nanosPerOperation, double bytesPerOperation) {
+            this.label = label;
+            this.nanosPerOperation = nanosPerOperation;
+            this.bytesPerOperation = bytesPerOperation;
+        }
+
+        public double getNanosPerOperation() {
+            return nanosPerOperation;
+        }
+
+        public double getBytesPerOperation() {
+            return bytesPerOperation;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ENGLISH, "%-40s %12.1f ns/op %12.1f B/op", label, nanosPerOperation, bytesPerOperation);
+        }
+    }
+}
@@ -32,6 +32,8 @@ import com.vrem.wifianalyzer.MainActivity;
 import com.vrem.wifianalyzer.MainContextHelper;
 import com.vrem.wifianalyzer.R;
 import com.vrem.wifianalyzer.RobolectricUtil;
+import com.vrem.wifianalyzer.wifi.scanner.ScanInstrumentation;
+import com.vrem.wifianalyzer.wifi.scanner.ScannerService;
 
 import org.junit.After;
 import org.junit.Before;
@@ -49,6 +51,7 @@ import java.util.Date;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -151,6 +154,26 @@ public class AboutFragmentTest {
         validateAlertDialogClickListener(R.id.materialDesignIconsLicense, R.string.al, R.raw.al);
     }
 
+    @Test
+    public void testScanStatisticsLongClickListener() {
+        // setup
+        ScannerService scannerService = MainContextHelper.INSTANCE.getScannerService();
+        ScanInstrumentation scanInstrumentation = mock(ScanInstrumentation.class);
+        when(scannerService.getScanInstrumentation()).thenReturn(scanInstrumentation);
+        when(scanInstrumentation.getReport()).thenReturn("Report");
+        View view = fixture.getView().findViewById(R.id.about_version_info);
+        String expectedTitle = mainActivity.getApplicationContext().getString(R.string.scan_statistics_title);
+        // execute
+        boolean actual = view.performLongClick();
+        // validate
+        assertTrue(actual);
+        AlertDialog alertDialog = ShadowAlertDialog.getLatestAlertDialog();
+        ShadowAlertDialog shadowAlertDialog = Shadows.shadowOf(alertDialog);
+        assertEquals(expectedTitle, shadowAlertDialog.getTitle());
+        assertEquals("Report", shadowAlertDialog.getMessage());
+        verify(scanInstrumentation).getReport();
+    }
+
     private void validateAlertDialogClickListener(int viewId, int titleId, int messageId) {
         // setup
         SupportFragmentTestUtil.startFragment(fixture);
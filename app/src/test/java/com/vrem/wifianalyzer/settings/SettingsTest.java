@@ -27,11 +27,18 @@ import com.vrem.wifianalyzer.navigation.NavigationMenu;
 import com.vrem.wifianalyzer.wifi.accesspoint.AccessPointViewType;
 import com.vrem.wifianalyzer.wifi.accesspoint.ConnectionViewType;
 import com.vrem.wifianalyzer.wifi.band.WiFiBand;
+import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
 import com.vrem.wifianalyzer.wifi.graphutils.GraphLegend;
 import com.vrem.wifianalyzer.wifi.model.GroupBy;
 import com.vrem.wifianalyzer.wifi.model.Security;
 import com.vrem.wifianalyzer.wifi.model.SortBy;
 import com.vrem.wifianalyzer.wifi.model.Strength;
+import com.vrem.wifianalyzer.wifi.model.WiFiDetail;
+import com.vrem.wifianalyzer.wifi.model.WiFiSignal;
+import com.vrem.wifianalyzer.wifi.predicate.FilterPredicate;
+
+import org.apache.commons.collections4.Predicate;
+import org.apache.commons.collections4.PredicateUtils;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -46,7 +53,14 @@ import java.util.Locale;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsSecondArg;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anySetOf;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -78,6 +92,27 @@ public class SettingsTest {
         verify(repository).registerOnSharedPreferenceChangeListener(onSharedPreferenceChangeListener);
     }
 
+    @Test
+    public void testCacheFilter() {
+        // setup
+        Predicate<WiFiDetail> expected = PredicateUtils.truePredicate();
+        // execute
+        fixture.cacheFilter("filter", expected);
+        // validate
+        assertSame(expected, fixture.getFilter("filter"));
+        assertNull(fixture.getFilter("other"));
+    }
+
+    @Test
+    public void testOnSharedPreferenceChangedClearsFilters() {
+        // setup
+        fixture.cacheFilter("filter", PredicateUtils.<WiFiDetail>truePredicate());
+        // execute
+        fixture.onSharedPreferenceChanged(null, "filter_ssid");
+        // validate
+        assertNull(fixture.getFilter("filter"));
+    }
+
     @Test
     public void testGetScanInterval() {
         // setup
@@ -308,6 +343,33 @@ public class SettingsTest {
         verify(repository).save(R.string.wifi_band_key, WiFiBand.GHZ5.toggle().ordinal());
     }
 
+    @Test
+    public void testToggleWiFiBandClearsFilterWithoutListener() {
+        // setup
+        when(repository.getStringAsInteger(R.string.wifi_band_key, WiFiBand.GHZ2.ordinal()))
+            .thenReturn(WiFiBand.GHZ2.ordinal(), WiFiBand.GHZ2.ordinal(), WiFiBand.GHZ5.ordinal());
+        when(repository.getStringSet(anyInt(), anySetOf(String.class))).thenAnswer(returnsSecondArg());
+        Predicate<WiFiDetail> expected = FilterPredicate.makeOtherPredicate(fixture);
+        WiFiDetail wiFiDetail = new WiFiDetail("SSID", "BSSID", "WPA2", new WiFiSignal(5180, 5180, WiFiWidth.MHZ_20, -40));
+        // execute
+        fixture.toggleWiFiBand();
+        Predicate<WiFiDetail> actual = FilterPredicate.makeOtherPredicate(fixture);
+        // validate
+        assertNotSame(expected, actual);
+        assertFalse(expected.evaluate(wiFiDetail));
+        assertTrue(actual.evaluate(wiFiDetail));
+    }
+
+    @Test
+    public void testSaveClearsFilters() {
+        // setup
+        fixture.cacheFilter("filter", PredicateUtils.<WiFiDetail>truePredicate());
+        // execute
+        fixture.saveStrengths(Collections.singleton(Strength.ONE));
+        // validate
+        assertNull(fixture.getFilter("filter"));
+    }
+
     @Test
     public void testGetCountryCode() {
         // setup
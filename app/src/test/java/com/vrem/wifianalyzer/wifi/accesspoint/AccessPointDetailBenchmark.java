@@ -0,0 +1,108 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.accesspoint;
+
+import android.view.View;
+
+import com.vrem.wifianalyzer.Benchmark;
+import com.vrem.wifianalyzer.MainActivity;
+import com.vrem.wifianalyzer.MainContextHelper;
+import com.vrem.wifianalyzer.RobolectricUtil;
+import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
+import com.vrem.wifianalyzer.wifi.model.WiFiAdditional;
+import com.vrem.wifianalyzer.wifi.model.WiFiDetail;
+import com.vrem.wifianalyzer.wifi.model.WiFiSignal;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class AccessPointDetailBenchmark {
+    private static final int ACCESS_POINTS = 500;
+    private static final int[] FREQUENCIES = {2412, 2437, 2462, 5180, 5260, 5500, 5745};
+    private static final String[] CAPABILITIES = {"[WPA2-PSK-CCMP][ESS]", "[WPA-PSK-TKIP][WPA2-PSK-CCMP][WPS][ESS]", "[WEP][ESS]", "[ESS]"};
+
+    private List<WiFiDetail> wiFiDetails;
+    private AccessPointDetail fixture;
+    private View view;
+
+    @Before
+    public void setUp() {
+        MainActivity mainActivity = RobolectricUtil.INSTANCE.getActivity();
+        Random random = new Random(ACCESS_POINTS);
+        wiFiDetails = new ArrayList<>();
+        for (int i = 0; i < ACCESS_POINTS; i++) {
+            int frequency = FREQUENCIES[random.nextInt(FREQUENCIES.length)];
+            WiFiSignal wiFiSignal = new WiFiSignal(frequency, frequency, WiFiWidth.MHZ_20, -30 - random.nextInt(60));
+            String capabilities = CAPABILITIES[random.nextInt(CAPABILITIES.length)];
+            WiFiAdditional wiFiAdditional = new WiFiAdditional("Vendor" + random.nextInt(10), random.nextBoolean());
+            wiFiDetails.add(new WiFiDetail("SSID" + random.nextInt(100), String.format("00:11:22:33:%02x:%02x", i >> 8, i & 0xFF), capabilities, wiFiSignal, wiFiAdditional));
+        }
+        fixture = new AccessPointDetail();
+        view = mainActivity.getLayoutInflater().inflate(AccessPointViewType.COMPLETE.getLayout(), null, false);
+    }
+
+    @After
+    public void tearDown() {
+        MainContextHelper.INSTANCE.restore();
+    }
+
+    @Test
+    public void testMakeView() {
+        // setup
+        Benchmark benchmark = new Benchmark("AccessPointDetail bind", ACCESS_POINTS);
+        // execute
+        Benchmark.Result fresh = benchmark.run("fresh instances", new BindRunnable(true));
+        Benchmark.Result memoized = benchmark.run("memoized instances", new BindRunnable(false));
+        // validate
+        assertTrue(memoized.getNanosPerOperation() > 0);
+        assertTrue(fresh.getNanosPerOperation() > 0);
+    }
+
+    private class BindRunnable implements Runnable {
+        private final boolean fresh;
+
+        private BindRunnable(boolean fresh) {
+            this.fresh = fresh;
+        }
+
+        @Override
+        public void run() {
+            for (WiFiDetail wiFiDetail : wiFiDetails) {
+                WiFiDetail bound = wiFiDetail;
+                if (fresh) {
+                    WiFiSignal wiFiSignal = wiFiDetail.getWiFiSignal();
+                    bound = new WiFiDetail(wiFiDetail.getSSID(), wiFiDetail.getBSSID(), wiFiDetail.getCapabilities(),
+                        new WiFiSignal(wiFiSignal.getPrimaryFrequency(), wiFiSignal.getCenterFrequency(), wiFiSignal.getWiFiWidth(), wiFiSignal.getLevel()),
+                        wiFiDetail.getWiFiAdditional());
+                }
+                fixture.makeView(view, null, bound, false, AccessPointViewType.COMPLETE);
+            }
+        }
+    }
+}
@@ -181,6 +181,28 @@ public class AccessPointsAdapterGroupTest {
         assertEquals("" + wiFiDetail.getWiFiSignal().getPrimaryWiFiChannel().getChannel(), actual);
     }
 
+    @Test
+    public void testIsGroupExpandableWithGroupByWidth() {
+        // setup
+        when(settings.getGroupBy()).thenReturn(GroupBy.WIDTH);
+        // execute
+        fixture.updateGroupBy();
+        // validate
+        assertTrue(fixture.isGroupExpandable());
+    }
+
+    @Test
+    public void testGetGroupExpandKeyWithGroupByWidth() {
+        // setup
+        when(settings.getGroupBy()).thenReturn(GroupBy.WIDTH);
+        fixture.updateGroupBy();
+        WiFiDetail wiFiDetail = withWiFiDetail();
+        // execute
+        String actual = fixture.getGroupExpandKey(wiFiDetail);
+        // validate
+        assertEquals(wiFiDetail.getWiFiSignal().getWiFiWidth().name(), actual);
+    }
+
     @Test
     public void testGetGroupExpandKeyWithGroupByNone() {
         // setup
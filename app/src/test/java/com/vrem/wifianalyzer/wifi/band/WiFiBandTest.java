@@ -50,4 +50,14 @@ public class WiFiBandTest {
         assertTrue(WiFiBand.GHZ5.isGHZ5());
     }
 
+    @Test
+    public void testFind() {
+        assertEquals(WiFiBand.GHZ2, WiFiBand.find(2412));
+        assertEquals(WiFiBand.GHZ2, WiFiBand.find(2484));
+        assertEquals(WiFiBand.GHZ5, WiFiBand.find(5180));
+        assertEquals(WiFiBand.GHZ5, WiFiBand.find(5825));
+        assertEquals(WiFiBand.GHZ2, WiFiBand.find(0));
+        assertEquals(WiFiBand.GHZ2, WiFiBand.find(6000));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.band;
+
+import android.support.v4.util.Pair;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class WiFiChannelsTest {
+    private static final int FREQUENCY_START = 2400;
+    private static final int FREQUENCY_END = 5900;
+    private static final List<Pair<WiFiChannel, WiFiChannel>> SETS_GHZ2 = Arrays.asList(
+        new Pair<>(new WiFiChannel(1, 2412), new WiFiChannel(13, 2472)),
+        new Pair<>(new WiFiChannel(14, 2484), new WiFiChannel(14, 2484)));
+
+    @Test
+    public void testGetWiFiChannelByFrequencyMatchesLinearSearch() {
+        for (WiFiBand wiFiBand : WiFiBand.values()) {
+            WiFiChannels fixture = wiFiBand.getWiFiChannels();
+            for (int frequency = FREQUENCY_START; frequency <= FREQUENCY_END; frequency++) {
+                // execute
+                WiFiChannel actual = fixture.getWiFiChannelByFrequency(frequency);
+                // validate
+                assertEquals(wiFiBand + " " + frequency, linearSearch(wiFiBand, frequency), actual);
+            }
+        }
+    }
+
+    @Test
+    public void testGetWiFiChannelByFrequencyReturnsSharedInstances() {
+        for (WiFiBand wiFiBand : WiFiBand.values()) {
+            WiFiChannels fixture = wiFiBand.getWiFiChannels();
+            for (int frequency = FREQUENCY_START; frequency <= FREQUENCY_END; frequency++) {
+                // execute & validate
+                assertSame(fixture.getWiFiChannelByFrequency(frequency), fixture.getWiFiChannelByFrequency(frequency));
+            }
+        }
+    }
+
+    private WiFiChannel linearSearch(WiFiBand wiFiBand, int frequency) {
+        if (wiFiBand.getWiFiChannels().isInRange(frequency)) {
+            for (Pair<WiFiChannel, WiFiChannel> wiFiChannelPair : WiFiBand.GHZ2.equals(wiFiBand) ? SETS_GHZ2 : WiFiChannelsGHZ5.SETS) {
+                WiFiChannel first = wiFiChannelPair.first;
+                WiFiChannel last = wiFiChannelPair.second;
+                int channel = (int) (((double) (frequency - first.getFrequency()) / WiFiChannels.FREQUENCY_SPREAD) + first.getChannel() + 0.5);
+                if (channel >= first.getChannel() && channel <= last.getChannel()) {
+                    return new WiFiChannel(channel, frequency);
+                }
+            }
+        }
+        return WiFiChannel.UNKNOWN;
+    }
+}
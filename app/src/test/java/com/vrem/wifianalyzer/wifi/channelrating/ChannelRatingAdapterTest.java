@@ -32,8 +32,11 @@ import com.vrem.wifianalyzer.RobolectricUtil;
 import com.vrem.wifianalyzer.settings.Settings;
 import com.vrem.wifianalyzer.wifi.band.WiFiBand;
 import com.vrem.wifianalyzer.wifi.band.WiFiChannel;
+import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
 import com.vrem.wifianalyzer.wifi.model.ChannelAPCount;
+import com.vrem.wifianalyzer.wifi.model.ChannelPlacement;
 import com.vrem.wifianalyzer.wifi.model.ChannelRating;
+import com.vrem.wifianalyzer.wifi.model.ChannelScore;
 import com.vrem.wifianalyzer.wifi.model.SortBy;
 import com.vrem.wifianalyzer.wifi.model.Strength;
 import com.vrem.wifianalyzer.wifi.model.WiFiConnection;
@@ -49,6 +52,7 @@ import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -66,6 +70,7 @@ public class ChannelRatingAdapterTest {
     private Settings settings;
     private ChannelRating channelRating;
     private TextView bestChannels;
+    private TextView recommended;
     private MainActivity mainActivity;
 
     @Before
@@ -74,9 +79,10 @@ public class ChannelRatingAdapterTest {
 
         channelRating = mock(ChannelRating.class);
         bestChannels = new TextView(mainActivity);
+        recommended = new TextView(mainActivity);
         settings = MainContextHelper.INSTANCE.getSettings();
 
-        fixture = new ChannelRatingAdapter(mainActivity, bestChannels);
+        fixture = new ChannelRatingAdapter(mainActivity, bestChannels, recommended);
         fixture.setChannelRating(channelRating);
     }
 
@@ -128,6 +134,7 @@ public class ChannelRatingAdapterTest {
         // validate
         assertEquals(expected, bestChannels.getText());
         verify(channelRating).setWiFiDetails(wiFiDetails);
+        verify(channelRating).getRecommendations(WiFiBand.GHZ5.getWiFiChannels().getAvailableChannels(Locale.US.getCountry()));
         verify(settings).getWiFiBand();
         verify(settings).getCountryCode();
     }
@@ -177,6 +184,24 @@ public class ChannelRatingAdapterTest {
         verify(channelRating).getBestChannels(wiFiChannels);
     }
 
+    @Test
+    public void testRecommended() {
+        // setup
+        String expected = "42 (80MHz), 36 (20MHz), 40 (40MHz)";
+        List<WiFiChannel> wiFiChannels = Collections.emptyList();
+        List<ChannelScore> channelScores = Arrays.asList(
+            new ChannelScore(new ChannelPlacement(new WiFiChannel(42, 5210), WiFiWidth.MHZ_80), 0),
+            new ChannelScore(new ChannelPlacement(new WiFiChannel(36, 5180), WiFiWidth.MHZ_20), 1),
+            new ChannelScore(new ChannelPlacement(new WiFiChannel(40, 5200), WiFiWidth.MHZ_40), 2),
+            new ChannelScore(new ChannelPlacement(new WiFiChannel(44, 5220), WiFiWidth.MHZ_20), 3));
+        when(channelRating.getRecommendations(wiFiChannels)).thenReturn(channelScores);
+        // execute
+        fixture.recommended(wiFiChannels);
+        // validate
+        assertEquals(expected, recommended.getText().toString());
+        verify(channelRating).getRecommendations(wiFiChannels);
+    }
+
     @NonNull
     private List<ChannelAPCount> withChannelAPCounts() {
         List<ChannelAPCount> channelAPCounts = new ArrayList<>();
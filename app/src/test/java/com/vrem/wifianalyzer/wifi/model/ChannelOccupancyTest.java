@@ -0,0 +1,159 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ChannelOccupancyTest {
+    private static final double DELTA = 0.0001;
+
+    private WiFiDetail wiFiDetail1;
+    private WiFiDetail wiFiDetail2;
+    private WiFiDetail wiFiDetail3;
+    private ChannelOccupancy fixture;
+
+    @Before
+    public void setUp() {
+        WiFiConnection wiFiConnection = new WiFiConnection("SSID1", "20:cf:30:ce:1d:71", "192.168.1.15", 11);
+        wiFiDetail1 = new WiFiDetail("SSID1", "20:cf:30:ce:1d:71", StringUtils.EMPTY,
+            new WiFiSignal(2432, 2432, WiFiWidth.MHZ_20, -30), new WiFiAdditional(StringUtils.EMPTY, wiFiConnection));
+        wiFiDetail2 = makeWiFiDetail(2442, 2442, WiFiWidth.MHZ_20, -70);
+        wiFiDetail3 = makeWiFiDetail(2452, 2442, WiFiWidth.MHZ_40, -60);
+        fixture = new ChannelOccupancy(Arrays.asList(wiFiDetail1, wiFiDetail2, wiFiDetail3));
+    }
+
+    @Test
+    public void testEmpty() {
+        // execute & validate
+        assertEquals(0, ChannelOccupancy.EMPTY.getCount(2437));
+        assertEquals(Strength.ZERO, ChannelOccupancy.EMPTY.getStrength(2437));
+        assertEquals(0, ChannelOccupancy.EMPTY.getOverlap(2437), DELTA);
+        assertFalse(ChannelOccupancy.EMPTY.hasCenterFrequency(2412, 2484));
+    }
+
+    @Test
+    public void testGetCount() {
+        // execute & validate
+        assertEquals(0, fixture.getCount(2412));
+        assertEquals(0, fixture.getCount(2417));
+        assertEquals(2, fixture.getCount(2422));
+        assertEquals(3, fixture.getCount(2432));
+        assertEquals(3, fixture.getCount(2442));
+        assertEquals(2, fixture.getCount(2452));
+        assertEquals(1, fixture.getCount(2462));
+        assertEquals(0, fixture.getCount(2467));
+    }
+
+    @Test
+    public void testGetStrengthIgnoresConnected() {
+        // setup
+        Strength expected = wiFiDetail3.getWiFiSignal().getStrength();
+        // execute & validate
+        assertEquals(expected, fixture.getStrength(2422));
+        assertEquals(expected, fixture.getStrength(2432));
+        assertEquals(expected, fixture.getStrength(2462));
+        assertEquals(Strength.ZERO, fixture.getStrength(2412));
+    }
+
+    @Test
+    public void testGetOverlap() {
+        // execute & validate
+        assertEquals(0, fixture.getOverlap(2402), DELTA);
+        assertEquals(0.5 + 0.5, fixture.getOverlap(2422), DELTA);
+        assertEquals(0.5 + 1 + 1, fixture.getOverlap(2442), DELTA);
+        assertEquals(0.25, fixture.getOverlap(2467), DELTA);
+    }
+
+    @Test
+    public void testHasCenterFrequency() {
+        // execute & validate
+        assertTrue(fixture.hasCenterFrequency(2432, 2432));
+        assertTrue(fixture.hasCenterFrequency(2400, 2500));
+        assertFalse(fixture.hasCenterFrequency(2433, 2441));
+        assertFalse(fixture.hasCenterFrequency(2442, 2432));
+    }
+
+    @Test
+    public void testMatchesLinearScan() {
+        // setup
+        Random random = new Random(2018);
+        List<WiFiDetail> wiFiDetails = new ArrayList<>();
+        WiFiWidth[] wiFiWidths = WiFiWidth.values();
+        for (int i = 0; i < 300; i++) {
+            int frequency = 5170 + 5 * random.nextInt(130);
+            wiFiDetails.add(makeWiFiDetail(frequency, frequency + 10 * random.nextInt(3), wiFiWidths[random.nextInt(wiFiWidths.length)], -30 - random.nextInt(70)));
+        }
+        // execute
+        fixture = new ChannelOccupancy(wiFiDetails);
+        // validate
+        for (int frequency = 5100; frequency < 5900; frequency += 5) {
+            int count = 0;
+            Strength strength = Strength.ZERO;
+            for (WiFiDetail wiFiDetail : wiFiDetails) {
+                if (wiFiDetail.getWiFiSignal().isInRange(frequency)) {
+                    count++;
+                    strength = Strength.values()[Math.max(strength.ordinal(), wiFiDetail.getWiFiSignal().getStrength().ordinal())];
+                }
+            }
+            assertEquals(count, fixture.getCount(frequency));
+            assertEquals(strength, fixture.getStrength(frequency));
+            assertEquals(linearOverlap(wiFiDetails, frequency), fixture.getOverlap(frequency), DELTA);
+        }
+    }
+
+    @Test
+    public void testDoesNotChangeWiFiDetails() {
+        // setup
+        List<WiFiDetail> expected = Arrays.asList(wiFiDetail3, wiFiDetail2, wiFiDetail1);
+        List<WiFiDetail> actual = new ArrayList<>(expected);
+        // execute
+        new ChannelOccupancy(Collections.unmodifiableList(actual));
+        // validate
+        assertEquals(expected, actual);
+    }
+
+    private double linearOverlap(List<WiFiDetail> wiFiDetails, int frequency) {
+        double result = 0;
+        for (WiFiDetail wiFiDetail : wiFiDetails) {
+            WiFiSignal wiFiSignal = wiFiDetail.getWiFiSignal();
+            int overlap = Math.min(wiFiSignal.getFrequencyEnd(), frequency + 10) - Math.max(wiFiSignal.getFrequencyStart(), frequency - 10);
+            result += Math.max(0, overlap) / 20.0;
+        }
+        return result;
+    }
+
+    private WiFiDetail makeWiFiDetail(int primaryFrequency, int centerFrequency, WiFiWidth wiFiWidth, int level) {
+        return new WiFiDetail("SSID", "BSSID", StringUtils.EMPTY,
+            new WiFiSignal(primaryFrequency, centerFrequency, wiFiWidth, level), WiFiAdditional.EMPTY);
+    }
+}
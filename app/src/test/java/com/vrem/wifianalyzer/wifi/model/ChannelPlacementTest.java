@@ -0,0 +1,127 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import com.vrem.wifianalyzer.wifi.band.WiFiBand;
+import com.vrem.wifianalyzer.wifi.band.WiFiChannel;
+import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ChannelPlacementTest {
+    private static final WiFiChannel CHANNEL_36 = new WiFiChannel(36, 5180);
+    private static final WiFiChannel CHANNEL_40 = new WiFiChannel(40, 5200);
+
+    @Test
+    public void testChannelPlacement() {
+        // execute
+        ChannelPlacement fixture = new ChannelPlacement(CHANNEL_36, WiFiWidth.MHZ_80);
+        // validate
+        assertEquals(CHANNEL_36, fixture.getWiFiChannel());
+        assertEquals(WiFiWidth.MHZ_80, fixture.getWiFiWidth());
+        assertEquals(5210, fixture.getCenterFrequency());
+    }
+
+    @Test
+    public void testGetCenterFrequency() {
+        assertEquals(5180, new ChannelPlacement(CHANNEL_36, WiFiWidth.MHZ_20).getCenterFrequency());
+        assertEquals(5190, new ChannelPlacement(CHANNEL_36, WiFiWidth.MHZ_40).getCenterFrequency());
+    }
+
+    @Test
+    public void testMakeChannelPlacementsGHZ2() {
+        // setup
+        List<WiFiChannel> wiFiChannels = WiFiBand.GHZ2.getWiFiChannels().getAvailableChannels(Locale.US.getCountry());
+        // execute
+        List<ChannelPlacement> actual = ChannelPlacement.makeChannelPlacements(wiFiChannels);
+        // validate
+        assertEquals(18, actual.size());
+        assertEquals(11, count(actual, WiFiWidth.MHZ_20));
+        assertEquals(7, count(actual, WiFiWidth.MHZ_40));
+        assertEquals(0, count(actual, WiFiWidth.MHZ_80));
+        assertTrue(actual.contains(new ChannelPlacement(wiFiChannels.get(6), WiFiWidth.MHZ_40)));
+        assertFalse(actual.contains(new ChannelPlacement(wiFiChannels.get(7), WiFiWidth.MHZ_40)));
+    }
+
+    @Test
+    public void testMakeChannelPlacementsGHZ5() {
+        // setup
+        List<WiFiChannel> wiFiChannels = WiFiBand.GHZ5.getWiFiChannels().getAvailableChannels(Locale.US.getCountry());
+        // execute
+        List<ChannelPlacement> actual = ChannelPlacement.makeChannelPlacements(wiFiChannels);
+        // validate
+        assertEquals(43, actual.size());
+        assertEquals(25, count(actual, WiFiWidth.MHZ_20));
+        assertEquals(12, count(actual, WiFiWidth.MHZ_40));
+        assertEquals(6, count(actual, WiFiWidth.MHZ_80));
+        assertTrue(actual.contains(new ChannelPlacement(CHANNEL_36, WiFiWidth.MHZ_80)));
+        assertFalse(actual.contains(new ChannelPlacement(CHANNEL_40, WiFiWidth.MHZ_40)));
+    }
+
+    @Test
+    public void testMakeChannelPlacementsGHZ5RequiresAllBondedChannels() {
+        // setup
+        List<WiFiChannel> wiFiChannels = WiFiBand.GHZ5.getWiFiChannels().getAvailableChannels("CA");
+        // execute
+        List<ChannelPlacement> actual = ChannelPlacement.makeChannelPlacements(wiFiChannels);
+        // validate
+        assertEquals(10, count(actual, WiFiWidth.MHZ_40));
+        assertEquals(5, count(actual, WiFiWidth.MHZ_80));
+    }
+
+    @Test
+    public void testEquals() {
+        // setup
+        ChannelPlacement fixture = new ChannelPlacement(CHANNEL_36, WiFiWidth.MHZ_40);
+        // execute & validate
+        assertEquals(fixture, new ChannelPlacement(CHANNEL_36, WiFiWidth.MHZ_40));
+        assertEquals(fixture.hashCode(), new ChannelPlacement(CHANNEL_36, WiFiWidth.MHZ_40).hashCode());
+        assertNotEquals(fixture, new ChannelPlacement(CHANNEL_36, WiFiWidth.MHZ_20));
+        assertNotEquals(fixture, new ChannelPlacement(CHANNEL_40, WiFiWidth.MHZ_40));
+    }
+
+    @Test
+    public void testCompareTo() {
+        // setup
+        ChannelPlacement fixture = new ChannelPlacement(CHANNEL_40, WiFiWidth.MHZ_40);
+        // execute & validate
+        assertEquals(0, fixture.compareTo(new ChannelPlacement(CHANNEL_40, WiFiWidth.MHZ_40)));
+        assertTrue(fixture.compareTo(new ChannelPlacement(CHANNEL_36, WiFiWidth.MHZ_20)) < 0);
+        assertTrue(fixture.compareTo(new ChannelPlacement(CHANNEL_36, WiFiWidth.MHZ_40)) > 0);
+        assertTrue(fixture.compareTo(new ChannelPlacement(CHANNEL_36, WiFiWidth.MHZ_80)) > 0);
+    }
+
+    private int count(List<ChannelPlacement> channelPlacements, WiFiWidth wiFiWidth) {
+        int result = 0;
+        for (ChannelPlacement channelPlacement : channelPlacements) {
+            if (wiFiWidth.equals(channelPlacement.getWiFiWidth())) {
+                result++;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import com.vrem.wifianalyzer.Benchmark;
+import com.vrem.wifianalyzer.wifi.band.WiFiBand;
+import com.vrem.wifianalyzer.wifi.band.WiFiChannel;
+import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+public class ChannelRatingBenchmark {
+    private static final int ACCESS_POINTS = 1000;
+
+    private List<WiFiDetail> wiFiDetails;
+    private List<WiFiChannel> wiFiChannels;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(ACCESS_POINTS);
+        WiFiWidth[] wiFiWidths = {WiFiWidth.MHZ_20, WiFiWidth.MHZ_40, WiFiWidth.MHZ_80};
+        wiFiChannels = WiFiBand.GHZ5.getWiFiChannels().getWiFiChannels();
+        wiFiDetails = new ArrayList<>();
+        for (int i = 0; i < ACCESS_POINTS; i++) {
+            int frequency = wiFiChannels.get(random.nextInt(wiFiChannels.size())).getFrequency();
+            WiFiSignal wiFiSignal = new WiFiSignal(frequency, frequency, wiFiWidths[random.nextInt(wiFiWidths.length)], -40 - random.nextInt(60));
+            wiFiDetails.add(new WiFiDetail("SSID" + i, String.format("00:11:22:33:%02x:%02x", i >> 8, i & 0xFF), "[ESS]", wiFiSignal));
+        }
+    }
+
+    @Test
+    public void testRateAllChannels() {
+        // setup
+        final ChannelRating channelRating = new ChannelRating();
+        channelRating.setWiFiDetails(wiFiDetails);
+        Benchmark benchmark = new Benchmark("Rate " + wiFiChannels.size() + " channels", 1);
+        // execute
+        Benchmark.Result linear = benchmark.run("Linear scan per channel", new Runnable() {
+            @Override
+            public void run() {
+                for (WiFiChannel wiFiChannel : wiFiChannels) {
+                    linearCount(wiFiChannel);
+                    linearStrength(wiFiChannel);
+                }
+            }
+        });
+        Benchmark.Result occupancy = benchmark.run("ChannelOccupancy", new Runnable() {
+            @Override
+            public void run() {
+                ChannelOccupancy channelOccupancy = new ChannelOccupancy(wiFiDetails);
+                for (WiFiChannel wiFiChannel : wiFiChannels) {
+                    channelOccupancy.getCount(wiFiChannel.getFrequency());
+                    channelOccupancy.getStrength(wiFiChannel.getFrequency());
+                }
+            }
+        });
+        // validate
+        assertTrue(occupancy.getNanosPerOperation() < linear.getNanosPerOperation());
+        assertTrue(occupancy.getBytesPerOperation() < linear.getBytesPerOperation());
+    }
+
+    private int linearCount(WiFiChannel wiFiChannel) {
+        List<WiFiDetail> results = new ArrayList<>();
+        for (WiFiDetail wiFiDetail : wiFiDetails) {
+            if (wiFiDetail.getWiFiSignal().isInRange(wiFiChannel.getFrequency())) {
+                results.add(wiFiDetail);
+            }
+        }
+        return results.size();
+    }
+
+    private Strength linearStrength(WiFiChannel wiFiChannel) {
+        Strength strength = Strength.ZERO;
+        for (WiFiDetail wiFiDetail : wiFiDetails) {
+            if (wiFiDetail.getWiFiSignal().isInRange(wiFiChannel.getFrequency())) {
+                strength = Strength.values()[Math.max(strength.ordinal(), wiFiDetail.getWiFiSignal().getStrength().ordinal())];
+            }
+        }
+        return strength;
+    }
+}
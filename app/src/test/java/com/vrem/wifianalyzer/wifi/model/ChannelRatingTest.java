@@ -31,8 +31,12 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class ChannelRatingTest {
     private WiFiDetail wiFiDetail1;
@@ -132,6 +136,49 @@ public class ChannelRatingTest {
         assertEquals(expectedCount, channelAPCount.getCount());
     }
 
+    @Test
+    public void testGetChannelOccupancy() {
+        // setup
+        WiFiChannel wiFiChannel = wiFiDetail3.getWiFiSignal().getCenterWiFiChannel();
+        // execute
+        fixture.setWiFiDetails(Arrays.asList(wiFiDetail1, wiFiDetail2, wiFiDetail3, wiFiDetail4));
+        // validate
+        ChannelOccupancy actual = fixture.getChannelOccupancy();
+        assertEquals(fixture.getCount(wiFiChannel), actual.getCount(wiFiChannel.getFrequency()));
+        assertEquals(fixture.getStrength(wiFiChannel), actual.getStrength(wiFiChannel.getFrequency()));
+    }
+
+    @Test
+    public void testGetRecommendations() {
+        // setup
+        ChannelScorer channelScorer = mock(ChannelScorer.class);
+        List<WiFiChannel> wiFiChannels = WiFiBand.GHZ2.getWiFiChannels().getAvailableChannels(Locale.US.getCountry());
+        List<ChannelPlacement> channelPlacements = ChannelPlacement.makeChannelPlacements(wiFiChannels);
+        List<ChannelScore> expected = Collections.singletonList(new ChannelScore(channelPlacements.get(0), 0));
+        fixture.setWiFiDetails(Arrays.asList(wiFiDetail2, wiFiDetail3));
+        fixture.setChannelScorer(channelScorer);
+        when(channelScorer.score(fixture.getWiFiDetails(), channelPlacements)).thenReturn(expected);
+        // execute
+        List<ChannelScore> actual = fixture.getRecommendations(wiFiChannels);
+        // validate
+        assertEquals(expected, actual);
+        verify(channelScorer).score(fixture.getWiFiDetails(), channelPlacements);
+    }
+
+    @Test
+    public void testGetRecommendationsAvoidsBusyChannels() {
+        // setup
+        List<WiFiChannel> wiFiChannels = WiFiBand.GHZ2.getWiFiChannels().getAvailableChannels(Locale.US.getCountry());
+        fixture.setWiFiDetails(Arrays.asList(wiFiDetail1, wiFiDetail2, wiFiDetail3, wiFiDetail4));
+        // execute
+        List<ChannelScore> actual = fixture.getRecommendations(wiFiChannels);
+        // validate
+        assertEquals(ChannelPlacement.makeChannelPlacements(wiFiChannels).size(), actual.size());
+        ChannelPlacement best = actual.get(0).getChannelPlacement();
+        assertEquals(WiFiWidth.MHZ_20, best.getWiFiWidth());
+        assertEquals(1, best.getWiFiChannel().getChannel());
+    }
+
     @Test
     public void testSetWiFiChannelsRemovesGuestAccessPoint() {
         // setup
@@ -0,0 +1,58 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import com.vrem.wifianalyzer.wifi.band.WiFiChannel;
+import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ChannelScoreTest {
+    private static final ChannelPlacement PLACEMENT_20 = new ChannelPlacement(new WiFiChannel(36, 5180), WiFiWidth.MHZ_20);
+    private static final ChannelPlacement PLACEMENT_80 = new ChannelPlacement(new WiFiChannel(36, 5180), WiFiWidth.MHZ_80);
+
+    @Test
+    public void testChannelScore() {
+        // execute
+        ChannelScore fixture = new ChannelScore(PLACEMENT_20, 0.001);
+        // validate
+        assertEquals(PLACEMENT_20, fixture.getChannelPlacement());
+        assertEquals(0.001, fixture.getInterference(), 0);
+        assertEquals(-30, fixture.getInterferenceDbm(), 1e-9);
+    }
+
+    @Test
+    public void testGetInterferenceDbmWithoutInterference() {
+        assertEquals(Double.NEGATIVE_INFINITY, new ChannelScore(PLACEMENT_20, 0).getInterferenceDbm(), 0);
+    }
+
+    @Test
+    public void testCompareTo() {
+        // setup
+        ChannelScore fixture = new ChannelScore(PLACEMENT_20, 1);
+        // execute & validate
+        assertTrue(fixture.compareTo(new ChannelScore(PLACEMENT_20, 2)) < 0);
+        assertTrue(fixture.compareTo(new ChannelScore(PLACEMENT_20, 0.5)) > 0);
+        assertTrue(fixture.compareTo(new ChannelScore(PLACEMENT_80, 1)) > 0);
+        assertEquals(0, fixture.compareTo(new ChannelScore(PLACEMENT_20, 1)));
+    }
+}
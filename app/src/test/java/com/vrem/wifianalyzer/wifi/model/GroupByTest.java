@@ -18,6 +18,7 @@
 
 package com.vrem.wifianalyzer.wifi.model;
 
+import com.vrem.wifianalyzer.wifi.band.WiFiBand;
 import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
 
 import org.apache.commons.lang3.StringUtils;
@@ -25,7 +26,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertNotEquals;
 
 public class GroupByTest {
     private WiFiDetail wiFiDetail1;
@@ -33,80 +34,63 @@ public class GroupByTest {
 
     @Before
     public void setUp() {
-        wiFiDetail1 = new WiFiDetail("SSID1", "BSSID1", StringUtils.EMPTY,
-            new WiFiSignal(2462, 2462, WiFiWidth.MHZ_20, -35), WiFiAdditional.EMPTY);
+        wiFiDetail1 = new WiFiDetail("SSID1", "BSSID1", "[WPA2-PSK-CCMP][ESS]",
+            new WiFiSignal(2462, 2462, WiFiWidth.MHZ_20, -35), new WiFiAdditional("Vendor1", false));
         wiFiDetail2 = new WiFiDetail("SSID2", "BSSID2", StringUtils.EMPTY,
-            new WiFiSignal(2432, 2432, WiFiWidth.MHZ_20, -55), WiFiAdditional.EMPTY);
+            new WiFiSignal(5180, 5210, WiFiWidth.MHZ_80, -55), WiFiAdditional.EMPTY);
     }
 
 
     @Test
     public void testGroupByNumber() {
-        assertEquals(3, GroupBy.values().length);
+        assertEquals(7, GroupBy.values().length);
     }
 
     @Test
-    public void testGroupBy() {
-        assertTrue(GroupBy.NONE.groupByComparator() instanceof GroupBy.None);
-        assertTrue(GroupBy.SSID.groupByComparator() instanceof GroupBy.SSIDGroupBy);
-        assertTrue(GroupBy.CHANNEL.groupByComparator() instanceof GroupBy.ChannelGroupBy);
+    public void testNoneGroupKey() {
+        assertEquals(wiFiDetail1, GroupBy.NONE.getGroupKey(wiFiDetail1));
+        assertNotEquals(GroupBy.NONE.getGroupKey(wiFiDetail1), GroupBy.NONE.getGroupKey(wiFiDetail2));
     }
 
     @Test
-    public void testSortOrder() {
-        assertTrue(GroupBy.NONE.sortOrderComparator() instanceof GroupBy.None);
-        assertTrue(GroupBy.SSID.sortOrderComparator() instanceof GroupBy.SSIDSortOrder);
-        assertTrue(GroupBy.CHANNEL.sortOrderComparator() instanceof GroupBy.ChannelSortOrder);
+    public void testSSIDGroupKey() {
+        // setup
+        WiFiDetail other = new WiFiDetail("ssid1", "BSSID3", StringUtils.EMPTY,
+            new WiFiSignal(2432, 2432, WiFiWidth.MHZ_20, -55), WiFiAdditional.EMPTY);
+        // execute & validate
+        assertEquals("SSID1", GroupBy.SSID.getGroupKey(wiFiDetail1));
+        assertEquals(GroupBy.SSID.getGroupKey(wiFiDetail1), GroupBy.SSID.getGroupKey(other));
+        assertNotEquals(GroupBy.SSID.getGroupKey(wiFiDetail1), GroupBy.SSID.getGroupKey(wiFiDetail2));
     }
 
     @Test
-    public void testNoneComparator() {
-        // setup
-        GroupBy.None comparator = new GroupBy.None();
-        // execute & validate
-        assertEquals(0, comparator.compare(wiFiDetail1, wiFiDetail1));
-        assertEquals(0, comparator.compare(wiFiDetail2, wiFiDetail2));
-        assertEquals(1, comparator.compare(wiFiDetail1, wiFiDetail2));
-        assertEquals(1, comparator.compare(wiFiDetail2, wiFiDetail1));
+    public void testChannelGroupKey() {
+        assertEquals(11, GroupBy.CHANNEL.getGroupKey(wiFiDetail1));
+        assertEquals(36, GroupBy.CHANNEL.getGroupKey(wiFiDetail2));
     }
 
     @Test
-    public void testChannelGroupByComparator() {
-        // setup
-        GroupBy.ChannelGroupBy comparator = new GroupBy.ChannelGroupBy();
-        // execute & validate
-        assertEquals(0, comparator.compare(wiFiDetail1, wiFiDetail1));
-        assertEquals(1, comparator.compare(wiFiDetail1, wiFiDetail2));
-        assertEquals(-1, comparator.compare(wiFiDetail2, wiFiDetail1));
+    public void testVendorGroupKey() {
+        assertEquals("Vendor1", GroupBy.VENDOR.getGroupKey(wiFiDetail1));
+        assertEquals(StringUtils.EMPTY, GroupBy.VENDOR.getGroupKey(wiFiDetail2));
     }
 
     @Test
-    public void testChannelSortOrder() {
-        // setup
-        GroupBy.ChannelSortOrder comparator = new GroupBy.ChannelSortOrder();
-        // execute & validate
-        assertEquals(0, comparator.compare(wiFiDetail1, wiFiDetail1));
-        assertEquals(1, comparator.compare(wiFiDetail1, wiFiDetail2));
-        assertEquals(-1, comparator.compare(wiFiDetail2, wiFiDetail1));
+    public void testSecurityGroupKey() {
+        assertEquals(Security.WPA2, GroupBy.SECURITY.getGroupKey(wiFiDetail1));
+        assertEquals(Security.NONE, GroupBy.SECURITY.getGroupKey(wiFiDetail2));
     }
 
     @Test
-    public void testSSIDGroupByComparator() {
-        // setup
-        GroupBy.SSIDGroupBy comparator = new GroupBy.SSIDGroupBy();
-        // execute & validate
-        assertEquals(0, comparator.compare(wiFiDetail1, wiFiDetail1));
-        assertEquals(-1, comparator.compare(wiFiDetail1, wiFiDetail2));
-        assertEquals(1, comparator.compare(wiFiDetail2, wiFiDetail1));
+    public void testBandGroupKey() {
+        assertEquals(WiFiBand.GHZ2, GroupBy.BAND.getGroupKey(wiFiDetail1));
+        assertEquals(WiFiBand.GHZ5, GroupBy.BAND.getGroupKey(wiFiDetail2));
     }
 
     @Test
-    public void testSSIDSortOrderComparatorEquals() {
-        GroupBy.SSIDSortOrder comparator = new GroupBy.SSIDSortOrder();
-        // execute & validate
-        assertEquals(0, comparator.compare(wiFiDetail1, wiFiDetail1));
-        assertEquals(-1, comparator.compare(wiFiDetail1, wiFiDetail2));
-        assertEquals(1, comparator.compare(wiFiDetail2, wiFiDetail1));
+    public void testWidthGroupKey() {
+        assertEquals(WiFiWidth.MHZ_20, GroupBy.WIDTH.getGroupKey(wiFiDetail1));
+        assertEquals(WiFiWidth.MHZ_80, GroupBy.WIDTH.getGroupKey(wiFiDetail2));
     }
 
-}
\ No newline at end of file
+}
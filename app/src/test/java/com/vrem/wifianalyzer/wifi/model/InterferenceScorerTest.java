@@ -0,0 +1,192 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import com.vrem.wifianalyzer.wifi.band.WiFiBand;
+import com.vrem.wifianalyzer.wifi.band.WiFiChannel;
+import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class InterferenceScorerTest {
+    private static final double DELTA = 1e-9;
+
+    private List<ChannelPlacement> channelPlacements;
+    private InterferenceScorer fixture;
+
+    @Before
+    public void setUp() {
+        List<WiFiChannel> wiFiChannels = WiFiBand.GHZ5.getWiFiChannels().getAvailableChannels(Locale.US.getCountry());
+        channelPlacements = ChannelPlacement.makeChannelPlacements(wiFiChannels);
+        fixture = new InterferenceScorer();
+    }
+
+    @Test
+    public void testGetMaskLevel() {
+        assertEquals(0, InterferenceScorer.getMaskLevel(WiFiWidth.MHZ_20, 0), DELTA);
+        assertEquals(0, InterferenceScorer.getMaskLevel(WiFiWidth.MHZ_20, -9), DELTA);
+        assertEquals(-10, InterferenceScorer.getMaskLevel(WiFiWidth.MHZ_20, 10), DELTA);
+        assertEquals(-20, InterferenceScorer.getMaskLevel(WiFiWidth.MHZ_20, 11), DELTA);
+        assertEquals(-28, InterferenceScorer.getMaskLevel(WiFiWidth.MHZ_20, -20), DELTA);
+        assertEquals(-40, InterferenceScorer.getMaskLevel(WiFiWidth.MHZ_20, 30), DELTA);
+        assertEquals(Double.NEGATIVE_INFINITY, InterferenceScorer.getMaskLevel(WiFiWidth.MHZ_20, 31), 0);
+        assertEquals(-28, InterferenceScorer.getMaskLevel(WiFiWidth.MHZ_80, 80), DELTA);
+    }
+
+    @Test
+    public void testGetOverlapMatrixIsBuiltOncePerBand() {
+        // execute
+        InterferenceScorer.OverlapMatrix actual = fixture.getOverlapMatrix(WiFiBand.GHZ5);
+        // validate
+        assertSame(actual, fixture.getOverlapMatrix(WiFiBand.GHZ5));
+        assertTrue(actual != fixture.getOverlapMatrix(WiFiBand.GHZ2));
+    }
+
+    @Test
+    public void testGetOverlap() {
+        // setup
+        InterferenceScorer.OverlapMatrix overlapMatrix = fixture.getOverlapMatrix(WiFiBand.GHZ5);
+        // execute & validate
+        assertEquals(1, overlapMatrix.getOverlap(WiFiWidth.MHZ_20, WiFiWidth.MHZ_20, 0), DELTA);
+        assertEquals(1, overlapMatrix.getOverlap(WiFiWidth.MHZ_80, WiFiWidth.MHZ_80, 0), DELTA);
+        assertEquals(overlapMatrix.getOverlap(WiFiWidth.MHZ_20, WiFiWidth.MHZ_20, 15),
+            overlapMatrix.getOverlap(WiFiWidth.MHZ_20, WiFiWidth.MHZ_20, -15), 0);
+        assertTrue(overlapMatrix.getOverlap(WiFiWidth.MHZ_20, WiFiWidth.MHZ_20, 20) < overlapMatrix.getOverlap(WiFiWidth.MHZ_20, WiFiWidth.MHZ_20, 15));
+        assertTrue(overlapMatrix.getOverlap(WiFiWidth.MHZ_20, WiFiWidth.MHZ_20, 20) > 0);
+        assertEquals(0, overlapMatrix.getOverlap(WiFiWidth.MHZ_20, WiFiWidth.MHZ_20, 45), 0);
+        assertEquals(0.25, overlapMatrix.getOverlap(WiFiWidth.MHZ_80, WiFiWidth.MHZ_20, 0), 0.01);
+        assertEquals(0, overlapMatrix.getOverlap(WiFiWidth.MHZ_160, WiFiWidth.MHZ_80, overlapMatrix.getReach() + 1), 0);
+    }
+
+    @Test
+    public void testScoreWithoutPlacements() {
+        // execute
+        List<ChannelScore> actual = fixture.score(Collections.singletonList(makeWiFiDetail(5180, WiFiWidth.MHZ_20, -50)), Collections.<ChannelPlacement>emptyList());
+        // validate
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    public void testScoreWithoutAccessPoints() {
+        // execute
+        List<ChannelScore> actual = fixture.score(Collections.<WiFiDetail>emptyList(), channelPlacements);
+        // validate
+        assertEquals(channelPlacements.size(), actual.size());
+        for (ChannelScore channelScore : actual) {
+            assertEquals(0, channelScore.getInterference(), 0);
+        }
+        assertEquals(WiFiWidth.MHZ_80, actual.get(0).getChannelPlacement().getWiFiWidth());
+    }
+
+    @Test
+    public void testScoreAccumulatesPowerInMilliWatts() {
+        // setup
+        ChannelPlacement expected = new ChannelPlacement(new WiFiChannel(36, 5180), WiFiWidth.MHZ_20);
+        List<WiFiDetail> wiFiDetails = Arrays.asList(makeWiFiDetail(5180, WiFiWidth.MHZ_20, -50), makeWiFiDetail(5180, WiFiWidth.MHZ_20, -50));
+        // execute
+        List<ChannelScore> actual = fixture.score(wiFiDetails, channelPlacements);
+        // validate
+        ChannelScore channelScore = find(actual, expected);
+        assertEquals(2e-5, channelScore.getInterference(), DELTA);
+        assertEquals(-50 + 10 * Math.log10(2), channelScore.getInterferenceDbm(), DELTA);
+    }
+
+    @Test
+    public void testScoreMatchesOverlapMatrix() {
+        // setup
+        InterferenceScorer.OverlapMatrix overlapMatrix = fixture.getOverlapMatrix(WiFiBand.GHZ5);
+        WiFiDetail wiFiDetail = makeWiFiDetail(5200, WiFiWidth.MHZ_40, -60);
+        int center = wiFiDetail.getWiFiSignal().getCenterFrequency();
+        // execute
+        List<ChannelScore> actual = fixture.score(Collections.singletonList(wiFiDetail), channelPlacements);
+        // validate
+        for (ChannelScore channelScore : actual) {
+            ChannelPlacement channelPlacement = channelScore.getChannelPlacement();
+            double expected = 1e-6 * overlapMatrix.getOverlap(WiFiWidth.MHZ_40, channelPlacement.getWiFiWidth(), channelPlacement.getCenterFrequency() - center);
+            assertEquals(expected, channelScore.getInterference(), DELTA);
+        }
+    }
+
+    @Test
+    public void testScoreIgnoresConnectedAccessPoint() {
+        // setup
+        WiFiConnection wiFiConnection = new WiFiConnection("SSID", "20:cf:30:ce:1d:71", "192.168.1.15", 11);
+        WiFiDetail wiFiDetail = new WiFiDetail("SSID", "20:cf:30:ce:1d:71", StringUtils.EMPTY,
+            new WiFiSignal(5180, 5180, WiFiWidth.MHZ_20, -40), new WiFiAdditional(StringUtils.EMPTY, wiFiConnection));
+        // execute
+        List<ChannelScore> actual = fixture.score(Collections.singletonList(wiFiDetail), channelPlacements);
+        // validate
+        for (ChannelScore channelScore : actual) {
+            assertEquals(0, channelScore.getInterference(), 0);
+        }
+    }
+
+    @Test
+    public void testScoreRecommendsQuietPlacements() {
+        // setup
+        List<WiFiDetail> wiFiDetails = Arrays.asList(
+            makeWiFiDetail(5180, WiFiWidth.MHZ_80, -50),
+            makeWiFiDetail(5260, WiFiWidth.MHZ_80, -55),
+            makeWiFiDetail(5500, WiFiWidth.MHZ_80, -60),
+            makeWiFiDetail(5580, WiFiWidth.MHZ_80, -60),
+            makeWiFiDetail(5660, WiFiWidth.MHZ_80, -60));
+        // execute
+        List<ChannelScore> actual = fixture.score(wiFiDetails, channelPlacements);
+        // validate
+        assertEquals(165, actual.get(0).getChannelPlacement().getWiFiChannel().getChannel());
+        assertEquals(0, actual.get(0).getInterference(), 0);
+        assertEquals(149, findFirst(actual, WiFiWidth.MHZ_80).getWiFiChannel().getChannel());
+        assertEquals(157, findFirst(actual, WiFiWidth.MHZ_40).getWiFiChannel().getChannel());
+    }
+
+    private ChannelPlacement findFirst(List<ChannelScore> channelScores, WiFiWidth wiFiWidth) {
+        for (ChannelScore channelScore : channelScores) {
+            if (wiFiWidth.equals(channelScore.getChannelPlacement().getWiFiWidth())) {
+                return channelScore.getChannelPlacement();
+            }
+        }
+        throw new AssertionError(wiFiWidth);
+    }
+
+    private ChannelScore find(List<ChannelScore> channelScores, ChannelPlacement channelPlacement) {
+        for (ChannelScore channelScore : channelScores) {
+            if (channelPlacement.equals(channelScore.getChannelPlacement())) {
+                return channelScore;
+            }
+        }
+        throw new AssertionError(channelPlacement);
+    }
+
+    private WiFiDetail makeWiFiDetail(int primaryFrequency, WiFiWidth wiFiWidth, int level) {
+        int centerFrequency = primaryFrequency + (wiFiWidth.getFrequencyWidth() - WiFiWidth.MHZ_20.getFrequencyWidth()) / 2;
+        return new WiFiDetail("SSID", "11:22:33:44:55:66", StringUtils.EMPTY,
+            new WiFiSignal(primaryFrequency, centerFrequency, wiFiWidth, level), WiFiAdditional.EMPTY);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import com.vrem.wifianalyzer.Benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MacAddressBenchmark {
+    private static final int ACCESS_POINTS = 2000;
+    private static final int ROUNDS = 20;
+
+    private List<String> bssids;
+    private List<MacAddress> macAddresses;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(2018);
+        bssids = new ArrayList<>();
+        macAddresses = new ArrayList<>();
+        for (int i = 0; i < ACCESS_POINTS; i++) {
+            String bssid = String.format(Locale.ENGLISH, "%02x:%02x:%02x:%02x:%02x:%02x",
+                random.nextInt(256), random.nextInt(256), random.nextInt(256), random.nextInt(256), random.nextInt(256), random.nextInt(256));
+            bssids.add(bssid);
+            macAddresses.add(MacAddress.of(bssid));
+        }
+    }
+
+    @Test
+    public void testHashMap() {
+        // setup
+        Benchmark benchmark = new Benchmark("BSSID hash map put+get", ACCESS_POINTS * ROUNDS);
+        // execute
+        Benchmark.Result strings = benchmark.run("String", new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < ROUNDS; i++) {
+                    Map<String, String> map = new HashMap<>();
+                    for (String bssid : bssids) {
+                        map.put(new String(bssid), bssid);
+                    }
+                    for (String bssid : bssids) {
+                        map.get(new String(bssid));
+                    }
+                }
+            }
+        });
+        Benchmark.Result values = benchmark.run("MacAddress", new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < ROUNDS; i++) {
+                    Map<MacAddress, MacAddress> map = new HashMap<>();
+                    for (MacAddress macAddress : macAddresses) {
+                        map.put(macAddress, macAddress);
+                    }
+                    for (MacAddress macAddress : macAddresses) {
+                        map.get(macAddress);
+                    }
+                }
+            }
+        });
+        // validate
+        assertTrue(values.getBytesPerOperation() < strings.getBytesPerOperation());
+    }
+
+    @Test
+    public void testSort() {
+        // setup
+        Benchmark benchmark = new Benchmark("BSSID sort", ACCESS_POINTS * ROUNDS);
+        // execute
+        Benchmark.Result strings = benchmark.run("String.toUpperCase", new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < ROUNDS; i++) {
+                    Collections.sort(new ArrayList<>(bssids), new UpperCaseComparator());
+                }
+            }
+        });
+        Benchmark.Result values = benchmark.run("MacAddress", new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < ROUNDS; i++) {
+                    Collections.sort(new ArrayList<>(macAddresses));
+                }
+            }
+        });
+        // validate
+        assertTrue(values.getNanosPerOperation() < strings.getNanosPerOperation());
+    }
+
+    @Test
+    public void testSortOrderMatchesUpperCase() {
+        // setup
+        List<String> expected = new ArrayList<>(bssids);
+        Collections.sort(expected, new UpperCaseComparator());
+        List<MacAddress> sorted = new ArrayList<>(macAddresses);
+        // execute
+        Collections.sort(sorted);
+        // validate
+        for (int i = 0; i < ACCESS_POINTS; i++) {
+            assertEquals(expected.get(i), sorted.get(i).toString());
+        }
+    }
+
+    private static class UpperCaseComparator implements Comparator<String> {
+        @Override
+        public int compare(String lhs, String rhs) {
+            return lhs.toUpperCase().compareTo(rhs.toUpperCase());
+        }
+    }
+}
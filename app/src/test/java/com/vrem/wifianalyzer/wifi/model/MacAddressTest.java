@@ -0,0 +1,149 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MacAddressTest {
+
+    @Test
+    public void testParse() {
+        assertEquals(0x0123456789ABL, MacAddress.parse("01:23:45:67:89:ab"));
+        assertEquals(0x0123456789ABL, MacAddress.parse("01:23:45:67:89:AB"));
+        assertEquals(0L, MacAddress.parse("00:00:00:00:00:00"));
+        assertEquals(0xFFFFFFFFFFFFL, MacAddress.parse("ff:ff:ff:ff:ff:ff"));
+    }
+
+    @Test
+    public void testParseWithInvalidBSSID() {
+        assertEquals(MacAddress.INVALID, MacAddress.parse(null));
+        assertEquals(MacAddress.INVALID, MacAddress.parse(""));
+        assertEquals(MacAddress.INVALID, MacAddress.parse("BBSID1"));
+        assertEquals(MacAddress.INVALID, MacAddress.parse("01:23:45:67:89:a"));
+        assertEquals(MacAddress.INVALID, MacAddress.parse("01-23-45-67-89-ab"));
+        assertEquals(MacAddress.INVALID, MacAddress.parse("01:23:45:67:89:ag"));
+    }
+
+    @Test
+    public void testHash() {
+        assertNotEquals(MacAddress.hash(1L), MacAddress.hash(2L));
+        assertEquals(MacAddress.hash(0x0123456789ABL), MacAddress.hash(0x0123456789ABL));
+    }
+
+    @Test
+    public void testOf() {
+        // execute
+        MacAddress actual = MacAddress.of("01:23:45:67:89:ab");
+        // validate
+        assertTrue(actual.isValid());
+        assertEquals(0x0123456789ABL, actual.getValue());
+        assertEquals(0x012345, actual.getOui());
+        assertEquals("01:23:45:67:89:ab", actual.toString());
+    }
+
+    @Test
+    public void testOfWithInvalid() {
+        // execute
+        MacAddress actual = MacAddress.of("BSSID1");
+        // validate
+        assertFalse(actual.isValid());
+        assertEquals(MacAddress.INVALID, actual.getValue());
+        assertEquals(-1, actual.getOui());
+        assertEquals("BSSID1", actual.toString());
+    }
+
+    @Test
+    public void testOfWithEmpty() {
+        assertSame(MacAddress.EMPTY, MacAddress.of(null));
+        assertSame(MacAddress.EMPTY, MacAddress.of(StringUtils.EMPTY));
+    }
+
+    @Test
+    public void testEquals() {
+        assertEquals(MacAddress.of("01:23:45:67:89:ab"), MacAddress.of("01:23:45:67:89:AB"));
+        assertEquals(MacAddress.of("bssid1"), MacAddress.of("BSSID1"));
+        assertNotEquals(MacAddress.of("01:23:45:67:89:ab"), MacAddress.of("01:23:45:67:89:ac"));
+        assertNotEquals(MacAddress.of("BSSID1"), MacAddress.of("BSSID2"));
+        assertNotEquals(MacAddress.of("01:23:45:67:89:ab"), MacAddress.of("BSSID1"));
+        assertNotEquals(MacAddress.of("BSSID1"), MacAddress.of("01:23:45:67:89:ab"));
+    }
+
+    @Test
+    public void testHashCode() {
+        assertEquals(MacAddress.of("01:23:45:67:89:ab").hashCode(), MacAddress.of("01:23:45:67:89:AB").hashCode());
+        assertEquals(MacAddress.of("bssid1").hashCode(), MacAddress.of("BSSID1").hashCode());
+    }
+
+    @Test
+    public void testCompareToMatchesUpperCaseText() {
+        // setup
+        List<String> values = Arrays.asList("b0:23:45:67:89:ab", "BSSID1", "0a:23:45:67:89:ab", "A0:23:45:67:89:AB",
+            "01:23:45:67:89:ab", "bssid0", "01:23:45:67:89:AC", "*");
+        for (String lhs : values) {
+            for (String rhs : values) {
+                // execute
+                int actual = MacAddress.of(lhs).compareTo(MacAddress.of(rhs));
+                // validate
+                assertEquals(lhs + " " + rhs, Integer.signum(lhs.toUpperCase().compareTo(rhs.toUpperCase())), Integer.signum(actual));
+            }
+        }
+    }
+
+    @Test
+    public void testIsLocallyAdministered() {
+        assertTrue(MacAddress.of("02:23:45:67:89:ab").isLocallyAdministered());
+        assertTrue(MacAddress.of("da:a1:19:12:34:56").isLocallyAdministered());
+        assertFalse(MacAddress.of("01:23:45:67:89:ab").isLocallyAdministered());
+        assertFalse(MacAddress.of("BSSID1").isLocallyAdministered());
+    }
+
+    @Test
+    public void testMatches() {
+        // setup
+        MacAddress macAddress = MacAddress.of("20:cf:30:ce:1d:71");
+        // execute & validate
+        assertTrue(macAddress.matches(MacAddress.of("22:CF:30:CE:1D:72"), 0x00FFFFFFFFF0L));
+        assertFalse(macAddress.matches(MacAddress.of("22:CF:30:CE:1E:72"), 0x00FFFFFFFFF0L));
+        assertTrue(macAddress.matches(MacAddress.of("20:cf:30:00:00:00"), MacAddress.OUI_MASK));
+        assertFalse(macAddress.matches(MacAddress.of("BSSID1"), MacAddress.OUI_MASK));
+        assertFalse(MacAddress.of("BSSID1").matches(MacAddress.of("BSSID1"), MacAddress.OUI_MASK));
+    }
+
+    @Test
+    public void testSortWithMixedValues() {
+        // setup
+        List<MacAddress> actual = Arrays.asList(MacAddress.of("BSSID1"), MacAddress.of("01:23:45:67:89:ab"), MacAddress.EMPTY);
+        // execute
+        Collections.sort(actual);
+        // validate
+        assertEquals(Arrays.asList(MacAddress.EMPTY, MacAddress.of("01:23:45:67:89:ab"), MacAddress.of("BSSID1")), actual);
+    }
+
+}
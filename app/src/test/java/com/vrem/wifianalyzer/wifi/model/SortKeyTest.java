@@ -0,0 +1,85 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SortKeyTest {
+
+    @Test
+    public void testSortKey() {
+        // setup
+        WiFiDetail wiFiDetail = makeWiFiDetail("ssid", "20:cf:30:ce:1d:71", 2437, -40);
+        // execute
+        SortKey actual = new SortKey(wiFiDetail);
+        // validate
+        assertEquals("SSID", actual.getSSID());
+        assertEquals(0x20CF30CE1D71L, actual.getBSSID());
+        assertEquals(6, actual.getChannel());
+        assertEquals(-40, actual.getLevel());
+    }
+
+    @Test
+    public void testSortKeyIsComputedOnce() {
+        // setup
+        WiFiDetail wiFiDetail = makeWiFiDetail("ssid", "20:cf:30:ce:1d:71", 2437, -40);
+        // execute
+        SortKey actual = wiFiDetail.getSortKey();
+        // validate
+        assertSame(actual, wiFiDetail.getSortKey());
+        assertSame(actual, new WiFiDetail(wiFiDetail, WiFiAdditional.EMPTY).getSortKey());
+    }
+
+    @Test
+    public void testCompare() {
+        // setup
+        SortKey fixture = makeSortKey("ssid", "20:cf:30:ce:1d:71", 2437, -40);
+        SortKey other = makeSortKey("SSID", "20:cf:30:ce:1d:72", 2412, -50);
+        // execute & validate
+        assertEquals(0, fixture.compareSSID(other));
+        assertTrue(fixture.compareStrength(other) < 0);
+        assertTrue(fixture.compareChannel(other) > 0);
+        assertTrue(fixture.compareBSSID(other) < 0);
+    }
+
+    @Test
+    public void testCompareInvalidBSSID() {
+        // setup
+        SortKey fixture = makeSortKey("ssid", "invalid-b", 2437, -40);
+        SortKey other = makeSortKey("ssid", "INVALID-A", 2437, -40);
+        // execute & validate
+        assertTrue(fixture.compareBSSID(other) > 0);
+        assertTrue(other.compareBSSID(fixture) < 0);
+        assertEquals(0, fixture.compareBSSID(makeSortKey("ssid", "INVALID-B", 2437, -40)));
+    }
+
+    private SortKey makeSortKey(String ssid, String bssid, int frequency, int level) {
+        return new SortKey(makeWiFiDetail(ssid, bssid, frequency, level));
+    }
+
+    private WiFiDetail makeWiFiDetail(String ssid, String bssid, int frequency, int level) {
+        return new WiFiDetail(ssid, bssid, "[ESS]", new WiFiSignal(frequency, frequency, WiFiWidth.MHZ_20, level));
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import com.vrem.wifianalyzer.Benchmark;
+import com.vrem.wifianalyzer.MainContextHelper;
+import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
+
+import org.apache.commons.collections4.Predicate;
+import org.apache.commons.collections4.PredicateUtils;
+import org.apache.commons.lang3.builder.CompareToBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class WiFiDataBenchmark {
+    private static final int[] ACCESS_POINTS = {100, 1000, 5000};
+    private static final int[] FREQUENCIES = {2412, 2437, 2462, 5180, 5260, 5500, 5745};
+
+    @Before
+    public void setUp() {
+        MainContextHelper.INSTANCE.getVendorService();
+    }
+
+    @After
+    public void tearDown() {
+        MainContextHelper.INSTANCE.restore();
+    }
+
+    @Test
+    public void testGetWiFiDetails() {
+        for (int accessPoints : ACCESS_POINTS) {
+            // setup
+            List<WiFiDetail> wiFiDetails = makeWiFiDetails(accessPoints);
+            Benchmark benchmark = new Benchmark("WiFiData.getWiFiDetails " + accessPoints + " APs", accessPoints);
+            // execute
+            Benchmark.Result legacy = benchmark.run("legacy comparators", new LegacyRunnable(wiFiDetails));
+            Benchmark.Result sortKeys = benchmark.run("sort keys, hash grouping", new QueryRunnable(wiFiDetails));
+            // validate
+            assertTrue(sortKeys.getBytesPerOperation() < legacy.getBytesPerOperation());
+        }
+    }
+
+    @Test
+    public void testSortKeysMatchLegacyOrder() {
+        // setup
+        List<WiFiDetail> wiFiDetails = makeWiFiDetails(ACCESS_POINTS[1]);
+        WiFiData wiFiData = new WiFiData(wiFiDetails, WiFiConnection.EMPTY, Collections.<String>emptyList());
+        for (SortBy sortBy : SortBy.values()) {
+            for (GroupBy groupBy : new GroupBy[]{GroupBy.NONE, GroupBy.SSID, GroupBy.CHANNEL}) {
+                // execute
+                List<WiFiDetail> actual = wiFiData.getWiFiDetails(PredicateUtils.<WiFiDetail>truePredicate(), sortBy, groupBy);
+                List<WiFiDetail> expected = legacy(wiFiDetails, sortBy, groupBy);
+                // validate
+                assertEquals(expected, actual);
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i).getChildren(), actual.get(i).getChildren());
+                }
+            }
+        }
+    }
+
+    private static List<WiFiDetail> makeWiFiDetails(int accessPoints) {
+        Random random = new Random(accessPoints);
+        List<WiFiDetail> results = new ArrayList<>();
+        for (int i = 0; i < accessPoints; i++) {
+            int frequency = FREQUENCIES[random.nextInt(FREQUENCIES.length)];
+            WiFiSignal wiFiSignal = new WiFiSignal(frequency, frequency, WiFiWidth.MHZ_20, -30 - random.nextInt(60));
+            String ssid = (random.nextBoolean() ? "ssid" : "SSID") + random.nextInt(accessPoints / 4);
+            results.add(new WiFiDetail(ssid, String.format("00:11:22:33:%02x:%02x", i >> 8, i & 0xFF), "[ESS]", wiFiSignal));
+        }
+        return results;
+    }
+
+    private static List<WiFiDetail> legacy(List<WiFiDetail> wiFiDetails, SortBy sortBy, GroupBy groupBy) {
+        List<WiFiDetail> sorted = new ArrayList<>();
+        for (WiFiDetail wiFiDetail : wiFiDetails) {
+            sorted.add(new WiFiDetail(wiFiDetail, wiFiDetail.getWiFiAdditional()));
+        }
+        Comparator<WiFiDetail> comparator = new LegacyComparator(sortBy.ordinal());
+        if (GroupBy.NONE.equals(groupBy)) {
+            Collections.sort(sorted, comparator);
+            return sorted;
+        }
+        Comparator<WiFiDetail> groupComparator = new LegacyGroupComparator(GroupBy.SSID.equals(groupBy));
+        Collections.sort(sorted, new LegacyComparator(GroupBy.SSID.equals(groupBy) ? SortBy.SSID.ordinal() : SortBy.CHANNEL.ordinal()));
+        List<WiFiDetail> results = new ArrayList<>();
+        WiFiDetail parent = null;
+        for (WiFiDetail wiFiDetail : sorted) {
+            if (parent == null || groupComparator.compare(parent, wiFiDetail) != 0) {
+                parent = new WiFiDetail(wiFiDetail, wiFiDetail.getWiFiAdditional());
+                results.add(parent);
+            } else {
+                parent.addChild(wiFiDetail);
+            }
+        }
+        for (WiFiDetail result : results) {
+            Collections.sort(result.getChildren(), comparator);
+        }
+        Collections.sort(results, comparator);
+        return results;
+    }
+
+    private static class LegacyComparator implements Comparator<WiFiDetail> {
+        private final int sortBy;
+
+        private LegacyComparator(int sortBy) {
+            this.sortBy = sortBy;
+        }
+
+        @Override
+        public int compare(WiFiDetail lhs, WiFiDetail rhs) {
+            CompareToBuilder compareToBuilder = new CompareToBuilder();
+            if (sortBy == SortBy.CHANNEL.ordinal()) {
+                compareToBuilder.append(lhs.getWiFiSignal().getPrimaryWiFiChannel().getChannel(), rhs.getWiFiSignal().getPrimaryWiFiChannel().getChannel());
+            }
+            if (sortBy == SortBy.SSID.ordinal()) {
+                compareToBuilder.append(lhs.getSSID().toUpperCase(), rhs.getSSID().toUpperCase());
+            }
+            compareToBuilder.append(rhs.getWiFiSignal().getLevel(), lhs.getWiFiSignal().getLevel());
+            if (sortBy != SortBy.SSID.ordinal()) {
+                compareToBuilder.append(lhs.getSSID().toUpperCase(), rhs.getSSID().toUpperCase());
+            }
+            return compareToBuilder
+                .append(lhs.getMacAddress(), rhs.getMacAddress())
+                .toComparison();
+        }
+    }
+
+    private static class LegacyGroupComparator implements Comparator<WiFiDetail> {
+        private final boolean ssid;
+
+        private LegacyGroupComparator(boolean ssid) {
+            this.ssid = ssid;
+        }
+
+        @Override
+        public int compare(WiFiDetail lhs, WiFiDetail rhs) {
+            if (ssid) {
+                return new CompareToBuilder().append(lhs.getSSID().toUpperCase(), rhs.getSSID().toUpperCase()).toComparison();
+            }
+            return new CompareToBuilder()
+                .append(lhs.getWiFiSignal().getPrimaryWiFiChannel().getChannel(), rhs.getWiFiSignal().getPrimaryWiFiChannel().getChannel())
+                .toComparison();
+        }
+    }
+
+    private static List<WiFiDetail> enrich(List<WiFiDetail> wiFiDetails) {
+        WiFiData wiFiData = new WiFiData(wiFiDetails, WiFiConnection.EMPTY, Collections.<String>emptyList());
+        return wiFiData.getWiFiDetails(PredicateUtils.<WiFiDetail>truePredicate(), SortBy.STRENGTH);
+    }
+
+    private static class LegacyRunnable implements Runnable {
+        private final List<WiFiDetail> wiFiDetails;
+
+        private LegacyRunnable(List<WiFiDetail> wiFiDetails) {
+            this.wiFiDetails = enrich(wiFiDetails);
+        }
+
+        @Override
+        public void run() {
+            legacy(wiFiDetails, SortBy.STRENGTH, GroupBy.SSID);
+        }
+    }
+
+    private static class QueryRunnable implements Runnable {
+        private final WiFiData wiFiData;
+
+        private QueryRunnable(List<WiFiDetail> wiFiDetails) {
+            this.wiFiData = new WiFiData(wiFiDetails, WiFiConnection.EMPTY, Collections.<String>emptyList());
+            this.wiFiData.enrich();
+        }
+
+        @Override
+        public void run() {
+            wiFiData.getWiFiDetails(new UncachedPredicate(), SortBy.STRENGTH, GroupBy.SSID);
+        }
+    }
+
+    private static class UncachedPredicate implements Predicate<WiFiDetail> {
+        @Override
+        public boolean evaluate(WiFiDetail object) {
+            return true;
+        }
+    }
+}
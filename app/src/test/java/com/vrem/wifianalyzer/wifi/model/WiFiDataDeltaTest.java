@@ -0,0 +1,120 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class WiFiDataDeltaTest {
+    private static final String BSSID_1 = "BSSID1";
+    private static final String BSSID_2 = "BSSID2";
+    private static final String BSSID_3 = "BSSID3";
+    private static final String BSSID_4 = "BSSID4";
+
+    @Test
+    public void testEmpty() {
+        assertTrue(WiFiDataDelta.EMPTY.isEmpty());
+        assertEquals(0, WiFiDataDelta.EMPTY.getUnchanged());
+    }
+
+    @Test
+    public void testMakeFromEmpty() {
+        // setup
+        WiFiDetail wiFiDetail1 = makeWiFiDetail(BSSID_1, -50);
+        WiFiDetail wiFiDetail2 = makeWiFiDetail(BSSID_2, -60);
+        // execute
+        WiFiDataDelta actual = WiFiDataDelta.make(WiFiData.EMPTY, makeWiFiData(wiFiDetail1, wiFiDetail2));
+        // validate
+        assertFalse(actual.isEmpty());
+        assertEquals(Arrays.asList(wiFiDetail1, wiFiDetail2), actual.getAdded());
+        assertTrue(actual.getRemoved().isEmpty());
+        assertTrue(actual.getChanged().isEmpty());
+        assertEquals(0, actual.getUnchanged());
+    }
+
+    @Test
+    public void testMakeWithSameData() {
+        // setup
+        WiFiData previous = makeWiFiData(makeWiFiDetail(BSSID_1, -50), makeWiFiDetail(BSSID_2, -60));
+        WiFiData current = makeWiFiData(makeWiFiDetail(BSSID_2, -60), makeWiFiDetail(BSSID_1, -50));
+        // execute
+        WiFiDataDelta actual = WiFiDataDelta.make(previous, current);
+        // validate
+        assertTrue(actual.isEmpty());
+        assertEquals(2, actual.getUnchanged());
+    }
+
+    @Test
+    public void testMake() {
+        // setup
+        WiFiDetail removed = makeWiFiDetail(BSSID_1, -50);
+        WiFiDetail unchanged = makeWiFiDetail(BSSID_2, -60);
+        WiFiDetail previous = makeWiFiDetail(BSSID_3, -70);
+        WiFiDetail current = makeWiFiDetail(BSSID_3, -75);
+        WiFiDetail added = makeWiFiDetail(BSSID_4, -80);
+        // execute
+        WiFiDataDelta actual = WiFiDataDelta.make(makeWiFiData(removed, unchanged, previous), makeWiFiData(added, current, unchanged));
+        // validate
+        assertEquals(Collections.singletonList(added), actual.getAdded());
+        assertEquals(Collections.singletonList(removed), actual.getRemoved());
+        List<WiFiDetailChange> changed = actual.getChanged();
+        assertEquals(1, changed.size());
+        assertEquals(previous, changed.get(0).getPrevious());
+        assertEquals(current, changed.get(0).getCurrent());
+        assertTrue(changed.get(0).isChanged(WiFiDetailChange.Field.LEVEL));
+        assertEquals(1, actual.getUnchanged());
+    }
+
+    @Test
+    public void testMakeToEmpty() {
+        // setup
+        WiFiDetail wiFiDetail1 = makeWiFiDetail(BSSID_1, -50);
+        WiFiDetail wiFiDetail2 = makeWiFiDetail(BSSID_2, -60);
+        // execute
+        WiFiDataDelta actual = WiFiDataDelta.make(makeWiFiData(wiFiDetail1, wiFiDetail2), WiFiData.EMPTY);
+        // validate
+        assertEquals(Arrays.asList(wiFiDetail1, wiFiDetail2), actual.getRemoved());
+        assertTrue(actual.getAdded().isEmpty());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetAddedIsUnmodifiable() {
+        // setup
+        WiFiDataDelta fixture = WiFiDataDelta.make(WiFiData.EMPTY, makeWiFiData(makeWiFiDetail(BSSID_1, -50)));
+        // execute
+        fixture.getAdded().clear();
+    }
+
+    private WiFiData makeWiFiData(WiFiDetail... wiFiDetails) {
+        return new WiFiData(Arrays.asList(wiFiDetails), WiFiConnection.EMPTY, Collections.emptyList());
+    }
+
+    private WiFiDetail makeWiFiDetail(String bssid, int level) {
+        return new WiFiDetail("SSID", bssid, "WPA", new WiFiSignal(2437, 2437, WiFiWidth.MHZ_20, level));
+    }
+}
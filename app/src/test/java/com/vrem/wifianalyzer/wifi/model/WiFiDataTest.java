@@ -29,6 +29,7 @@ import com.vrem.wifianalyzer.wifi.predicate.WiFiBandPredicate;
 import org.apache.commons.collections4.Closure;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.collections4.Predicate;
+import org.apache.commons.collections4.PredicateUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.After;
 import org.junit.Before;
@@ -41,9 +42,11 @@ import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
-import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -124,6 +127,54 @@ public class WiFiDataTest {
         assertEquals(SSID_3, actual.get(3).getSSID());
     }
 
+    @Test
+    public void testGetWiFiDetailsWithGroupByChannel() {
+        // setup
+        Predicate<WiFiDetail> predicate = new WiFiBandPredicate(WiFiBand.GHZ2);
+        // execute
+        List<WiFiDetail> actual = fixture.getWiFiDetails(predicate, SortBy.STRENGTH, GroupBy.CHANNEL);
+        // validate
+        assertEquals(3, actual.size());
+        assertEquals(BSSID_2, actual.get(0).getBSSID());
+        assertEquals(BSSID_4, actual.get(1).getBSSID());
+        assertEquals(BSSID_1, actual.get(2).getBSSID());
+        List<WiFiDetail> children = actual.get(0).getChildren();
+        assertEquals(3, children.size());
+        assertEquals(BSSID_2 + "_2", children.get(0).getBSSID());
+        assertEquals(BSSID_2 + "_3", children.get(1).getBSSID());
+        assertEquals(BSSID_2 + "_1", children.get(2).getBSSID());
+        assertEquals(BSSID_3, actual.get(1).getChildren().get(0).getBSSID());
+        assertTrue(actual.get(2).getChildren().isEmpty());
+    }
+
+    @Test
+    public void testGetWiFiDetailsWithGroupByBand() {
+        // setup
+        Predicate<WiFiDetail> predicate = new WiFiBandPredicate(WiFiBand.GHZ2);
+        // execute
+        List<WiFiDetail> actual = fixture.getWiFiDetails(predicate, SortBy.SSID, GroupBy.BAND);
+        // validate
+        assertEquals(1, actual.size());
+        assertEquals(BSSID_2, actual.get(0).getBSSID());
+        List<WiFiDetail> children = actual.get(0).getChildren();
+        assertEquals(6, children.size());
+        assertEquals(BSSID_1, children.get(0).getBSSID());
+        assertEquals(BSSID_4, children.get(5).getBSSID());
+    }
+
+    @Test
+    public void testGetWiFiDetailsWithGroupByVendor() {
+        // setup
+        Predicate<WiFiDetail> predicate = new WiFiBandPredicate(WiFiBand.GHZ2);
+        // execute
+        List<WiFiDetail> actual = fixture.getWiFiDetails(predicate, SortBy.STRENGTH, GroupBy.VENDOR);
+        // validate
+        assertEquals(7, actual.size());
+        for (WiFiDetail wiFiDetail : actual) {
+            assertTrue(wiFiDetail.getChildren().isEmpty());
+        }
+    }
+
     @Test
     public void testGetWiFiDetailsWithVendorName() {
         // setup
@@ -136,7 +187,76 @@ public class WiFiDataTest {
         assertEquals(VENDOR_NAME + BSSID_1, actual.get(2).getWiFiAdditional().getVendorName());
         assertEquals(VENDOR_NAME + BSSID_3, actual.get(3).getWiFiAdditional().getVendorName());
 
-        verify(vendorService, times(7)).findVendorName(anyString());
+        verify(vendorService, times(7)).findVendorName(any(MacAddress.class));
+    }
+
+    @Test
+    public void testGetWiFiDetailsWithSameQueryIsCached() {
+        // setup
+        List<WiFiDetail> expected = fixture.getWiFiDetails(new WiFiBandPredicate(WiFiBand.GHZ2), SortBy.STRENGTH, GroupBy.SSID);
+        // execute
+        List<WiFiDetail> actual = fixture.getWiFiDetails(new WiFiBandPredicate(WiFiBand.GHZ2), SortBy.STRENGTH, GroupBy.SSID);
+        // validate
+        assertEquals(expected, actual);
+        assertNotSame(expected, actual);
+        assertEquals(1, fixture.getQueryHits());
+        assertEquals(1, fixture.getQueryMisses());
+        verify(vendorService, times(7)).findVendorName(any(MacAddress.class));
+    }
+
+    @Test
+    public void testGetWiFiDetailsWithSameQueryDoesNotShareChildren() {
+        // setup
+        Predicate<WiFiDetail> predicate = new WiFiBandPredicate(WiFiBand.GHZ2);
+        List<WiFiDetail> expected = fixture.getWiFiDetails(predicate, SortBy.STRENGTH, GroupBy.SSID);
+        List<WiFiDetail> children = expected.get(0).getChildren();
+        int size = children.size();
+        // execute
+        children.clear();
+        children.add(WiFiDetail.EMPTY);
+        List<WiFiDetail> actual = fixture.getWiFiDetails(predicate, SortBy.STRENGTH, GroupBy.SSID);
+        // validate
+        assertNotSame(expected.get(0), actual.get(0));
+        assertEquals(size, actual.get(0).getChildren().size());
+        assertFalse(actual.get(0).getChildren().contains(WiFiDetail.EMPTY));
+    }
+
+    @Test
+    public void testGetWiFiDetailsWithPredicateWithoutValueEqualityIsNotCached() {
+        // setup
+        Predicate<WiFiDetail> predicate = PredicateUtils.truePredicate();
+        // execute
+        fixture.getWiFiDetails(predicate, SortBy.STRENGTH);
+        fixture.getWiFiDetails(predicate, SortBy.STRENGTH);
+        // validate
+        assertEquals(0, fixture.getQueryHits());
+        assertEquals(0, fixture.getQueryMisses());
+    }
+
+    @Test
+    public void testGetWiFiDetailsWithDifferentQueriesAreNotShared() {
+        // setup
+        Predicate<WiFiDetail> predicate = new WiFiBandPredicate(WiFiBand.GHZ2);
+        // execute
+        fixture.getWiFiDetails(predicate, SortBy.STRENGTH, GroupBy.SSID);
+        fixture.getWiFiDetails(predicate, SortBy.SSID, GroupBy.SSID);
+        fixture.getWiFiDetails(predicate, SortBy.SSID);
+        fixture.getWiFiDetails(new WiFiBandPredicate(WiFiBand.GHZ5), SortBy.SSID);
+        // validate
+        assertEquals(1, fixture.getQueryHits());
+        assertEquals(3, fixture.getQueryMisses());
+    }
+
+    @Test
+    public void testGetWiFiDetailsReturnsModifiableCopy() {
+        // setup
+        Predicate<WiFiDetail> predicate = new WiFiBandPredicate(WiFiBand.GHZ2);
+        List<WiFiDetail> expected = fixture.getWiFiDetails(predicate, SortBy.SSID);
+        // execute
+        expected.clear();
+        List<WiFiDetail> actual = fixture.getWiFiDetails(predicate, SortBy.SSID);
+        // validate
+        assertEquals(7, actual.size());
     }
 
     @Test
@@ -154,6 +274,47 @@ public class WiFiDataTest {
         assertEquals(BSSID_2 + "_1", children.get(2).getBSSID());
     }
 
+    @Test
+    public void testEnrichLooksUpVendorsOnce() {
+        // setup
+        Predicate<WiFiDetail> predicate = new WiFiBandPredicate(WiFiBand.GHZ2);
+        // execute
+        fixture.enrich();
+        fixture.getWiFiDetails(predicate, SortBy.STRENGTH, GroupBy.SSID);
+        fixture.getWiFiDetails(predicate, SortBy.SSID);
+        fixture.getConnection();
+        // validate
+        verify(vendorService, times(7)).findVendorName(any(MacAddress.class));
+    }
+
+    @Test
+    public void testGetWiFiDetailsSharesEnrichedWiFiDetails() {
+        // setup
+        Predicate<WiFiDetail> predicate = new WiFiBandPredicate(WiFiBand.GHZ2);
+        List<WiFiDetail> expected = fixture.getWiFiDetails(predicate, SortBy.SSID);
+        // execute
+        List<WiFiDetail> actual = fixture.getWiFiDetails(predicate, SortBy.STRENGTH);
+        // validate
+        for (WiFiDetail wiFiDetail : actual) {
+            assertSame(expected.get(expected.indexOf(wiFiDetail)), wiFiDetail);
+        }
+        assertSame(fixture.getConnection(), expected.get(expected.indexOf(fixture.getConnection())));
+    }
+
+    @Test
+    public void testGetWiFiDetailsWithGroupByDoesNotChangeSharedWiFiDetails() {
+        // setup
+        Predicate<WiFiDetail> predicate = new WiFiBandPredicate(WiFiBand.GHZ2);
+        fixture.getWiFiDetails(predicate, SortBy.STRENGTH, GroupBy.SSID);
+        // execute
+        List<WiFiDetail> actual = fixture.getWiFiDetails(predicate, SortBy.STRENGTH);
+        // validate
+        assertEquals(7, actual.size());
+        for (WiFiDetail wiFiDetail : actual) {
+            assertTrue(wiFiDetail.getChildren().isEmpty());
+        }
+    }
+
     @Test
     public void testGetConnection() {
         // execute
@@ -205,7 +366,7 @@ public class WiFiDataTest {
     private class VendorNameClosure implements Closure<WiFiDetail> {
         @Override
         public void execute(WiFiDetail wiFiDetail) {
-            when(vendorService.findVendorName(wiFiDetail.getBSSID())).thenReturn(VENDOR_NAME + wiFiDetail.getBSSID());
+            when(vendorService.findVendorName(wiFiDetail.getMacAddress())).thenReturn(VENDOR_NAME + wiFiDetail.getBSSID());
         }
     }
 }
\ No newline at end of file
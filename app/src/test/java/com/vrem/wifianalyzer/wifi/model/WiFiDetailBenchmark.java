@@ -0,0 +1,127 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import com.vrem.wifianalyzer.Benchmark;
+import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+public class WiFiDetailBenchmark {
+    private static final int ACCESS_POINTS = 2000;
+    private static final int[] FREQUENCIES = {2412, 2437, 2462, 5180, 5260, 5500, 5745};
+    private static final String[] CAPABILITIES = {"[WPA2-PSK-CCMP][ESS]", "[WPA-PSK-TKIP][WPA2-PSK-CCMP][WPS][ESS]", "[WEP][ESS]", "[ESS]"};
+
+    private List<WiFiDetail> wiFiDetails;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(ACCESS_POINTS);
+        wiFiDetails = new ArrayList<>();
+        for (int i = 0; i < ACCESS_POINTS; i++) {
+            int frequency = FREQUENCIES[random.nextInt(FREQUENCIES.length)];
+            WiFiSignal wiFiSignal = new WiFiSignal(frequency, frequency, WiFiWidth.MHZ_20, -30 - random.nextInt(60));
+            String capabilities = CAPABILITIES[random.nextInt(CAPABILITIES.length)];
+            wiFiDetails.add(new WiFiDetail("SSID" + random.nextInt(100), String.format("00:11:22:33:%02x:%02x", i >> 8, i & 0xFF), capabilities, wiFiSignal));
+        }
+    }
+
+    @Test
+    public void testSortByChannel() {
+        // setup
+        Benchmark benchmark = new Benchmark("SortBy.CHANNEL", ACCESS_POINTS);
+        // execute
+        Benchmark.Result fresh = benchmark.run("fresh instances", new SortRunnable(wiFiDetails, true));
+        Benchmark.Result memoized = benchmark.run("memoized instances", new SortRunnable(wiFiDetails, false));
+        // validate
+        assertTrue(memoized.getNanosPerOperation() > 0);
+        assertTrue(fresh.getNanosPerOperation() > 0);
+    }
+
+    @Test
+    public void testDerivedValues() {
+        // setup
+        Benchmark benchmark = new Benchmark("Derived values per access point", ACCESS_POINTS);
+        // execute
+        Benchmark.Result fresh = benchmark.run("fresh instances", new DerivedRunnable(wiFiDetails, true));
+        Benchmark.Result memoized = benchmark.run("memoized instances", new DerivedRunnable(wiFiDetails, false));
+        // validate
+        assertTrue(memoized.getNanosPerOperation() < fresh.getNanosPerOperation());
+    }
+
+    private static List<WiFiDetail> copy(List<WiFiDetail> wiFiDetails, boolean fresh) {
+        List<WiFiDetail> results = new ArrayList<>(wiFiDetails.size());
+        for (WiFiDetail wiFiDetail : wiFiDetails) {
+            if (fresh) {
+                WiFiSignal wiFiSignal = wiFiDetail.getWiFiSignal();
+                results.add(new WiFiDetail(wiFiDetail.getSSID(), wiFiDetail.getBSSID(), wiFiDetail.getCapabilities(),
+                    new WiFiSignal(wiFiSignal.getPrimaryFrequency(), wiFiSignal.getCenterFrequency(), wiFiSignal.getWiFiWidth(), wiFiSignal.getLevel())));
+            } else {
+                results.add(wiFiDetail);
+            }
+        }
+        return results;
+    }
+
+    private static class SortRunnable implements Runnable {
+        private final List<WiFiDetail> wiFiDetails;
+        private final boolean fresh;
+
+        private SortRunnable(List<WiFiDetail> wiFiDetails, boolean fresh) {
+            this.wiFiDetails = wiFiDetails;
+            this.fresh = fresh;
+        }
+
+        @Override
+        public void run() {
+            List<WiFiDetail> results = copy(wiFiDetails, fresh);
+            Collections.sort(results, SortBy.CHANNEL.comparator());
+        }
+    }
+
+    private static class DerivedRunnable implements Runnable {
+        private final List<WiFiDetail> wiFiDetails;
+        private final boolean fresh;
+
+        private DerivedRunnable(List<WiFiDetail> wiFiDetails, boolean fresh) {
+            this.wiFiDetails = wiFiDetails;
+            this.fresh = fresh;
+        }
+
+        @Override
+        public void run() {
+            for (WiFiDetail wiFiDetail : copy(wiFiDetails, fresh)) {
+                WiFiSignal wiFiSignal = wiFiDetail.getWiFiSignal();
+                wiFiDetail.getTitle();
+                wiFiDetail.getSecurity();
+                wiFiSignal.getStrength();
+                wiFiSignal.getChannelDisplay();
+                wiFiSignal.getDistance();
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model;
+
+import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class WiFiDetailChangeTest {
+    private static final String SSID = "SSID";
+    private static final String BSSID = "BSSID";
+
+    private final WiFiDetail previous = makeWiFiDetail(SSID, 2437, 2437, WiFiWidth.MHZ_20, -50);
+
+    @Test
+    public void testCompareWithSameValues() {
+        // setup
+        WiFiDetail current = makeWiFiDetail(SSID, 2437, 2437, WiFiWidth.MHZ_20, -50);
+        // execute & validate
+        assertEquals(0, WiFiDetailChange.compare(previous, current));
+    }
+
+    @Test
+    public void testCompareWithLevel() {
+        // setup
+        WiFiDetail current = makeWiFiDetail(SSID, 2437, 2437, WiFiWidth.MHZ_20, -60);
+        // execute & validate
+        assertEquals(WiFiDetailChange.Field.LEVEL.mask(), WiFiDetailChange.compare(previous, current));
+    }
+
+    @Test
+    public void testCompareWithPrimaryFrequency() {
+        // setup
+        WiFiDetail current = makeWiFiDetail(SSID, 2412, 2437, WiFiWidth.MHZ_20, -50);
+        // execute & validate
+        assertEquals(WiFiDetailChange.Field.CHANNEL.mask(), WiFiDetailChange.compare(previous, current));
+    }
+
+    @Test
+    public void testCompareWithCenterFrequency() {
+        // setup
+        WiFiDetail current = makeWiFiDetail(SSID, 2437, 2447, WiFiWidth.MHZ_20, -50);
+        // execute & validate
+        assertEquals(WiFiDetailChange.Field.CHANNEL.mask(), WiFiDetailChange.compare(previous, current));
+    }
+
+    @Test
+    public void testCompareWithWidth() {
+        // setup
+        WiFiDetail current = makeWiFiDetail(SSID, 2437, 2437, WiFiWidth.MHZ_40, -50);
+        // execute & validate
+        assertEquals(WiFiDetailChange.Field.WIDTH.mask(), WiFiDetailChange.compare(previous, current));
+    }
+
+    @Test
+    public void testCompareWithSSID() {
+        // setup
+        WiFiDetail current = makeWiFiDetail("OTHER", 2437, 2437, WiFiWidth.MHZ_20, -50);
+        // execute & validate
+        assertEquals(WiFiDetailChange.Field.SSID.mask(), WiFiDetailChange.compare(previous, current));
+    }
+
+    @Test
+    public void testIsChanged() {
+        // setup
+        WiFiDetail current = makeWiFiDetail("OTHER", 2437, 2437, WiFiWidth.MHZ_20, -60);
+        // execute
+        WiFiDetailChange fixture = new WiFiDetailChange(previous, current, WiFiDetailChange.compare(previous, current));
+        // validate
+        assertTrue(fixture.isChanged(WiFiDetailChange.Field.LEVEL));
+        assertTrue(fixture.isChanged(WiFiDetailChange.Field.SSID));
+        assertFalse(fixture.isChanged(WiFiDetailChange.Field.CHANNEL));
+        assertFalse(fixture.isChanged(WiFiDetailChange.Field.WIDTH));
+        assertEquals(previous, fixture.getPrevious());
+        assertEquals(current, fixture.getCurrent());
+    }
+
+    private WiFiDetail makeWiFiDetail(String ssid, int primaryFrequency, int centerFrequency, WiFiWidth wiFiWidth, int level) {
+        return new WiFiDetail(ssid, BSSID, "WPA", new WiFiSignal(primaryFrequency, centerFrequency, wiFiWidth, level));
+    }
+}
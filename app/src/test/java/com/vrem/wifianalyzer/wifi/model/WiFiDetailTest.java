@@ -18,6 +18,7 @@
 
 package com.vrem.wifianalyzer.wifi.model;
 
+import com.vrem.wifianalyzer.wifi.band.WiFiBand;
 import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
 
 import org.apache.commons.lang3.StringUtils;
@@ -27,6 +28,7 @@ import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class WiFiDetailTest {
@@ -123,4 +125,36 @@ public class WiFiDetailTest {
         assertEquals(expected.getWiFiSignal(), actual.getWiFiSignal());
     }
 
+    @Test
+    public void testWiFiDetailCopyConstructorKeepsDerivedValues() {
+        // setup
+        String expected = fixture.getTitle();
+        // execute
+        WiFiDetail actual = new WiFiDetail(fixture, WiFiAdditional.EMPTY);
+        // validate
+        assertSame(expected, actual.getTitle());
+        assertEquals(Security.WPA, actual.getSecurity());
+    }
+
+    @Test
+    public void testGetOrdinalBits() {
+        // setup
+        int expected = 1 << (WiFiDetail.ORDINAL_SHIFT_BAND + WiFiBand.GHZ2.ordinal())
+            | 1 << (WiFiDetail.ORDINAL_SHIFT_STRENGTH + wiFiSignal.getStrength().ordinal())
+            | 1 << (WiFiDetail.ORDINAL_SHIFT_SECURITY + Security.WPA.ordinal());
+        // execute
+        int actual = fixture.getOrdinalBits();
+        // validate
+        assertEquals(expected, actual);
+        assertEquals(expected, new WiFiDetail(fixture, WiFiAdditional.EMPTY).getOrdinalBits());
+    }
+
+    @Test
+    public void testDerivedValuesAreComputedOnce() {
+        // execute & validate
+        assertSame(fixture.getTitle(), fixture.getTitle());
+        assertEquals(Security.WPA, fixture.getSecurity());
+        assertEquals(Security.WPA, fixture.getSecurity());
+    }
+
 }
\ No newline at end of file
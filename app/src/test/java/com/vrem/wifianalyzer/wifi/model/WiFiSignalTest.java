@@ -29,6 +29,7 @@ import java.util.Locale;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class WiFiSignalTest {
@@ -144,4 +145,26 @@ public class WiFiSignalTest {
         assertEquals("5(6)", fixture.getChannelDisplay());
     }
 
+    @Test
+    public void testDerivedValuesAreComputedOnce() {
+        // execute & validate
+        assertSame(fixture.getPrimaryWiFiChannel(), fixture.getPrimaryWiFiChannel());
+        assertSame(fixture.getCenterWiFiChannel(), fixture.getCenterWiFiChannel());
+        assertSame(fixture.getDistance(), fixture.getDistance());
+        assertSame(fixture.getChannelDisplay(), fixture.getChannelDisplay());
+        assertEquals(Strength.calculate(LEVEL), fixture.getStrength());
+    }
+
+    @Test
+    public void testToStringDoesNotIncludeDerivedValues() {
+        // setup
+        String expected = fixture.toString();
+        fixture.getChannelDisplay();
+        fixture.getDistance();
+        // execute
+        String actual = fixture.toString();
+        // validate
+        assertEquals(expected, actual);
+    }
+
 }
\ No newline at end of file
@@ -29,8 +29,6 @@ import com.vrem.wifianalyzer.wifi.model.WiFiDetail;
 import com.vrem.wifianalyzer.wifi.model.WiFiSignal;
 
 import org.apache.commons.collections4.Predicate;
-import org.apache.commons.collections4.functors.AllPredicate;
-import org.apache.commons.collections4.functors.TruePredicate;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -41,8 +39,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -125,17 +126,31 @@ public class FilterPredicateTest {
     }
 
     @Test
-    public void testGetPredicateWithSomeValuesIsAnyPredicate() {
+    public void testEvaluateWithSSIDPatterns() {
+        // setup
+        when(settings.getSSIDs()).thenReturn(new HashSet<>(Arrays.asList("~:(?i)^home$", "~:/^AP-[0-9]+$/", "Cafe$")));
+        fixture = FilterPredicate.makeAccessPointsPredicate(settings);
+        // execute & validate
+        assertTrue(fixture.evaluate(makeWiFiDetail("HOME", WPA2)));
+        assertTrue(fixture.evaluate(makeWiFiDetail("AP-42", WPA2)));
+        assertFalse(fixture.evaluate(makeWiFiDetail("MyHome", WPA2)));
+        assertFalse(fixture.evaluate(makeWiFiDetail("AP-42x", WPA2)));
+        assertTrue(fixture.evaluate(makeWiFiDetail("Cafe$Guest", WPA2)));
+        assertFalse(fixture.evaluate(makeWiFiDetail("Cafe", WPA2)));
+    }
+
+    @Test
+    public void testIsMatchAllWithSomeValues() {
         // setup
         fixture = FilterPredicate.makeAccessPointsPredicate(settings);
         // execute
-        Predicate<WiFiDetail> actual = ((FilterPredicate) fixture).getPredicate();
+        boolean actual = ((FilterPredicate) fixture).isMatchAll();
         // validate
-        assertTrue(actual instanceof AllPredicate);
+        assertFalse(actual);
     }
 
     @Test
-    public void testGetPredicateWithAllValuesIsTruePredicate() {
+    public void testIsMatchAllWithAllValues() {
         // setup
         when(settings.getSSIDs()).thenReturn(Collections.emptySet());
         when(settings.getWiFiBands()).thenReturn(EnumUtils.values(WiFiBand.class));
@@ -144,9 +159,94 @@ public class FilterPredicateTest {
 
         fixture = FilterPredicate.makeAccessPointsPredicate(settings);
         // execute
-        Predicate<WiFiDetail> actual = ((FilterPredicate) fixture).getPredicate();
+        boolean actual = ((FilterPredicate) fixture).isMatchAll();
+        // validate
+        assertTrue(actual);
+        assertTrue(fixture.evaluate(makeWiFiDetail("WIFI", "WPA")));
+    }
+
+    @Test
+    public void testEvaluateWithWiFiBandToFalse() {
+        // setup
+        fixture = FilterPredicate.makeOtherPredicate(settings);
+        WiFiDetail wiFiDetail = makeWiFiDetail(SSID, WPA2);
+        // execute
+        boolean actual = fixture.evaluate(wiFiDetail);
+        // validate
+        assertFalse(actual);
+    }
+
+    @Test
+    public void testEvaluateWithStrengthToFalse() {
+        // setup
+        when(settings.getStrengths()).thenReturn(Collections.singleton(Strength.ZERO));
+        fixture = FilterPredicate.makeAccessPointsPredicate(settings);
+        WiFiDetail wiFiDetail = makeWiFiDetail(SSID, WPA2);
+        // execute
+        boolean actual = fixture.evaluate(wiFiDetail);
+        // validate
+        assertFalse(actual);
+    }
+
+    @Test
+    public void testEvaluateWithEmptySelectionToFalse() {
+        // setup
+        when(settings.getSecurities()).thenReturn(Collections.<Security>emptySet());
+        fixture = FilterPredicate.makeAccessPointsPredicate(settings);
+        WiFiDetail wiFiDetail = makeWiFiDetail(SSID, WPA2);
+        // execute
+        boolean actual = fixture.evaluate(wiFiDetail);
+        // validate
+        assertFalse(actual);
+    }
+
+    @Test
+    public void testMakeAccessPointsPredicateIsCachedInSettings() {
+        // setup
+        fixture = FilterPredicate.makeAccessPointsPredicate(settings);
+        when(settings.getFilter(FilterPredicate.ACCESS_POINTS)).thenReturn(fixture);
+        // execute
+        Predicate<WiFiDetail> actual = FilterPredicate.makeAccessPointsPredicate(settings);
+        // validate
+        assertSame(fixture, actual);
+        verify(settings).cacheFilter(FilterPredicate.ACCESS_POINTS, fixture);
+        verify(settings).getSSIDs();
+    }
+
+    @Test
+    public void testMakeOtherPredicateIsCachedInSettings() {
+        // setup
+        fixture = FilterPredicate.makeOtherPredicate(settings);
+        when(settings.getFilter(FilterPredicate.OTHER)).thenReturn(fixture);
+        // execute
+        Predicate<WiFiDetail> actual = FilterPredicate.makeOtherPredicate(settings);
+        // validate
+        assertSame(fixture, actual);
+        verify(settings).cacheFilter(FilterPredicate.OTHER, fixture);
+        verify(settings).getWiFiBand();
+    }
+
+    @Test
+    public void testEqualsWithSameSettings() {
+        // setup
+        fixture = FilterPredicate.makeAccessPointsPredicate(settings);
+        // execute
+        Predicate<WiFiDetail> actual = FilterPredicate.makeAccessPointsPredicate(settings);
+        // validate
+        assertEquals(fixture, actual);
+        assertEquals(fixture.hashCode(), actual.hashCode());
+    }
+
+    @Test
+    public void testEqualsWithDifferentSettings() {
+        // setup
+        fixture = FilterPredicate.makeAccessPointsPredicate(settings);
+        when(settings.getStrengths()).thenReturn(Collections.singleton(Strength.TWO));
+        // execute
+        Predicate<WiFiDetail> actual = FilterPredicate.makeAccessPointsPredicate(settings);
         // validate
-        assertTrue(actual instanceof TruePredicate);
+        assertNotEquals(fixture, actual);
+        assertNotEquals(fixture, FilterPredicate.makeOtherPredicate(settings));
     }
 
     private WiFiDetail makeWiFiDetail(String ssid, String security) {
@@ -0,0 +1,202 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.predicate;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SSIDMatcherTest {
+
+    @Test
+    public void testIsEmpty() {
+        // execute & validate
+        assertTrue(new SSIDMatcher(Collections.<String>emptyList()).isEmpty());
+        assertFalse(new SSIDMatcher(Collections.singletonList("SSID")).isEmpty());
+        assertFalse(new SSIDMatcher(Collections.singletonList("~:/SS.D/")).isEmpty());
+        assertFalse(new SSIDMatcher(Collections.singletonList("~:^")).isEmpty());
+    }
+
+    @Test
+    public void testMatchesContains() {
+        // setup
+        SSIDMatcher fixture = new SSIDMatcher(Arrays.asList("Home", "Office"));
+        // execute & validate
+        assertTrue(fixture.matches("MyHome"));
+        assertTrue(fixture.matches("HomeNet"));
+        assertTrue(fixture.matches("Office"));
+        assertFalse(fixture.matches("home"));
+        assertFalse(fixture.matches("Guest"));
+        assertFalse(fixture.matches(""));
+    }
+
+    @Test
+    public void testMatchesSyntaxAsTextWithoutPatternPrefix() {
+        // setup
+        SSIDMatcher fixture = new SSIDMatcher(Arrays.asList("Cafe$", "^Lobby", "/net/", "(?i)x"));
+        // execute & validate
+        assertTrue(fixture.matches("Cafe$Guest"));
+        assertTrue(fixture.matches("My^Lobby"));
+        assertTrue(fixture.matches("a/net/b"));
+        assertTrue(fixture.matches("(?i)x"));
+        assertFalse(fixture.matches("Cafe"));
+        assertFalse(fixture.matches("Lobby"));
+        assertFalse(fixture.matches("net"));
+        assertFalse(fixture.matches("X"));
+    }
+
+    @Test
+    public void testMatchesEmptyText() {
+        // setup
+        SSIDMatcher fixture = new SSIDMatcher(Collections.singletonList(""));
+        // execute & validate
+        assertTrue(fixture.matches("SSID"));
+        assertTrue(fixture.matches(""));
+    }
+
+    @Test
+    public void testMatchesOverlappingPatterns() {
+        // setup
+        SSIDMatcher fixture = new SSIDMatcher(Arrays.asList("he", "she", "hers", "his"));
+        // execute & validate
+        assertTrue(fixture.matches("ushers"));
+        assertTrue(fixture.matches("ahishe"));
+        assertTrue(fixture.matches("xxhexx"));
+        assertFalse(fixture.matches("hi"));
+        assertFalse(fixture.matches("sh"));
+    }
+
+    @Test
+    public void testMatchesCaseSensitiveVerifiesAfterFolding() {
+        // setup
+        SSIDMatcher fixture = new SSIDMatcher(Arrays.asList("abAB", "~:(?i)xyz"));
+        // execute & validate
+        assertTrue(fixture.matches("aabAB"));
+        assertFalse(fixture.matches("aabab"));
+        assertTrue(fixture.matches("XyZ"));
+        assertTrue(fixture.matches("__xyz__"));
+    }
+
+    @Test
+    public void testMatchesPrefix() {
+        // setup
+        SSIDMatcher fixture = new SSIDMatcher(Collections.singletonList("~:^Home"));
+        // execute & validate
+        assertTrue(fixture.matches("Home"));
+        assertTrue(fixture.matches("HomeNet"));
+        assertFalse(fixture.matches("MyHome"));
+        assertFalse(fixture.matches("homeNet"));
+    }
+
+    @Test
+    public void testMatchesSuffix() {
+        // setup
+        SSIDMatcher fixture = new SSIDMatcher(Collections.singletonList("~:(?i)_5g$"));
+        // execute & validate
+        assertTrue(fixture.matches("Home_5G"));
+        assertTrue(fixture.matches("_5g"));
+        assertFalse(fixture.matches("Home_5G_EXT"));
+    }
+
+    @Test
+    public void testMatchesExact() {
+        // setup
+        SSIDMatcher fixture = new SSIDMatcher(Arrays.asList("~:^Home$", "~:(?i)^guest$"));
+        // execute & validate
+        assertTrue(fixture.matches("Home"));
+        assertTrue(fixture.matches("GUEST"));
+        assertFalse(fixture.matches("HomeHome"));
+        assertFalse(fixture.matches("MyHome"));
+        assertFalse(fixture.matches("Guests"));
+    }
+
+    @Test
+    public void testMatchesExactEmpty() {
+        // setup
+        SSIDMatcher fixture = new SSIDMatcher(Collections.singletonList("~:^$"));
+        // execute & validate
+        assertTrue(fixture.matches(""));
+        assertFalse(fixture.matches("SSID"));
+    }
+
+    @Test
+    public void testMatchesRegex() {
+        // setup
+        SSIDMatcher fixture = new SSIDMatcher(Arrays.asList("~:/^AP-[0-9]+$/", "~:(?i)/net$/"));
+        // execute & validate
+        assertTrue(fixture.matches("AP-123"));
+        assertTrue(fixture.matches("HomeNET"));
+        assertFalse(fixture.matches("AP-12a"));
+        assertFalse(fixture.matches("ap-123"));
+    }
+
+    @Test
+    public void testMatchesInvalidRegexAsText() {
+        // setup
+        SSIDMatcher fixture = new SSIDMatcher(Collections.singletonList("~:/[/"));
+        // execute & validate
+        assertTrue(fixture.matches("a/[/b"));
+        assertFalse(fixture.matches("a[b"));
+    }
+
+    @Test
+    public void testMatchesAll() {
+        // setup
+        SSIDMatcher fixture = new SSIDMatcher(Arrays.asList("Home", "~:^"));
+        // execute & validate
+        assertTrue(fixture.matches("Guest"));
+        assertTrue(fixture.matches(""));
+    }
+
+    @Test
+    public void testMatchesSameAsContains() {
+        // setup
+        Random random = new Random(7);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            values.add(randomText(random, 1 + random.nextInt(4)));
+        }
+        SSIDMatcher fixture = new SSIDMatcher(values);
+        for (int i = 0; i < 1000; i++) {
+            String ssid = randomText(random, random.nextInt(16));
+            boolean expected = false;
+            for (String value : values) {
+                expected |= ssid.contains(value);
+            }
+            // execute & validate
+            assertEquals(ssid, expected, fixture.matches(ssid));
+        }
+    }
+
+    private String randomText(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = "abcABC".charAt(random.nextInt(6));
+        }
+        return new String(chars);
+    }
+}
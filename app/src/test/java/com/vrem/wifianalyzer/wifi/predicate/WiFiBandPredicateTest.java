@@ -28,7 +28,9 @@ import com.vrem.wifianalyzer.wifi.model.WiFiSignal;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 public class WiFiBandPredicateTest {
@@ -51,6 +53,14 @@ public class WiFiBandPredicateTest {
         assertTrue(new WiFiBandPredicate(WiFiBand.GHZ5).evaluate(wiFiDetail));
     }
 
+    @Test
+    public void testEquals() {
+        // execute & validate
+        assertEquals(new WiFiBandPredicate(WiFiBand.GHZ2), new WiFiBandPredicate(WiFiBand.GHZ2));
+        assertEquals(new WiFiBandPredicate(WiFiBand.GHZ2).hashCode(), new WiFiBandPredicate(WiFiBand.GHZ2).hashCode());
+        assertNotEquals(new WiFiBandPredicate(WiFiBand.GHZ2), new WiFiBandPredicate(WiFiBand.GHZ5));
+    }
+
     @NonNull
     private WiFiDetail makeWiFiDetail(int frequency) {
         WiFiSignal wiFiSignal = new WiFiSignal(frequency, frequency, WiFiWidth.MHZ_20, 1);
@@ -0,0 +1,152 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.net.wifi.ScanResult;
+
+import com.vrem.wifianalyzer.wifi.model.MacAddress;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CacheEntryTest {
+    @Mock
+    private ScanResult scanResult1;
+    @Mock
+    private ScanResult scanResult2;
+    @Mock
+    private ScanResult scanResult3;
+
+    private CacheEntry fixture;
+
+    @Before
+    public void setUp() {
+        scanResult1.level = -50;
+        scanResult2.level = -40;
+        scanResult3.level = -40;
+        fixture = new CacheEntry(MacAddress.of("00:00:00:00:00:01"));
+    }
+
+    @Test
+    public void testCacheEntry() {
+        assertEquals(1L, fixture.getKey());
+        assertTrue(fixture.isEmpty());
+        assertEquals(0, fixture.getSize());
+    }
+
+    @Test
+    public void testAdd() {
+        // execute
+        fixture.add(1, scanResult1);
+        fixture.add(2, scanResult2);
+        // validate
+        assertFalse(fixture.isEmpty());
+        assertEquals(2, fixture.getSize());
+        assertEquals(scanResult2, fixture.getScanResult());
+    }
+
+    @Test
+    public void testAddGrowsCapacity() {
+        // execute
+        for (int i = 0; i < 10; i++) {
+            fixture.add(1, scanResult1);
+        }
+        fixture.add(2, scanResult2);
+        // validate
+        assertEquals(11, fixture.getSize());
+        assertEquals(scanResult2, fixture.getScanResult());
+    }
+
+    @Test
+    public void testExpire() {
+        // setup
+        fixture.add(1, scanResult1);
+        fixture.add(2, scanResult2);
+        fixture.add(3, scanResult3);
+        // execute
+        fixture.expire(3);
+        // validate
+        assertEquals(1, fixture.getSize());
+        assertEquals(scanResult3, fixture.getScanResult());
+    }
+
+    @Test
+    public void testExpireAll() {
+        // setup
+        fixture.add(1, scanResult1);
+        // execute
+        fixture.expire(2);
+        // validate
+        assertTrue(fixture.isEmpty());
+    }
+
+    @Test
+    public void testGetCacheResult() {
+        // setup
+        fixture.add(1, scanResult1);
+        fixture.add(2, scanResult2);
+        // execute
+        CacheResult actual = fixture.getCacheResult(0);
+        // validate
+        assertEquals(scanResult2, actual.getScanResult());
+        assertEquals(-45, actual.getLevelAverage());
+    }
+
+    @Test
+    public void testGetCacheResultWithAdjust() {
+        // setup
+        fixture.add(1, scanResult1);
+        // execute
+        CacheResult actual = fixture.getCacheResult(10);
+        // validate
+        assertEquals(scanResult1, actual.getScanResult());
+        assertEquals(-60, actual.getLevelAverage());
+    }
+
+    @Test
+    public void testGetCacheResultWithSameLevelPrefersOlderScan() {
+        // setup
+        fixture.add(1, scanResult2);
+        fixture.add(2, scanResult3);
+        // execute
+        CacheResult actual = fixture.getCacheResult(0);
+        // validate
+        assertEquals(scanResult2, actual.getScanResult());
+    }
+
+    @Test
+    public void testGetCacheResultWithSameLevelInSameScanPrefersLast() {
+        // setup
+        fixture.add(1, scanResult2);
+        fixture.add(1, scanResult3);
+        // execute
+        CacheResult actual = fixture.getCacheResult(0);
+        // validate
+        assertEquals(scanResult3, actual.getScanResult());
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.net.wifi.ScanResult;
+
+import com.vrem.wifianalyzer.wifi.model.MacAddress;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class CacheIndexTest {
+    private CacheIndex fixture;
+
+    @Before
+    public void setUp() {
+        fixture = new CacheIndex();
+    }
+
+    @Test
+    public void testFind() {
+        // execute
+        CacheEntry actual = fixture.find("01:23:45:67:89:ab");
+        // validate
+        assertEquals(1, fixture.size());
+        assertEquals(0x0123456789ABL, actual.getKey());
+        assertSame(actual, fixture.find("01:23:45:67:89:AB"));
+        assertNotSame(actual, fixture.find("01:23:45:67:89:ac"));
+        assertEquals(2, fixture.size());
+    }
+
+    @Test
+    public void testFindWithInvalidBSSID() {
+        // execute
+        CacheEntry actual = fixture.find("BSSID1");
+        // validate
+        assertEquals(MacAddress.INVALID, actual.getKey());
+        assertSame(actual, fixture.find("BSSID1"));
+        assertNotSame(actual, fixture.find("BSSID2"));
+        assertEquals(2, fixture.size());
+    }
+
+    @Test
+    public void testFindWithManyBSSIDs() {
+        // setup
+        int count = 500;
+        // execute
+        for (int i = 0; i < count; i++) {
+            fixture.find(makeBSSID(i)).add(1, makeScanResult(makeBSSID(i)));
+        }
+        // validate
+        assertEquals(count, fixture.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(makeBSSID(i), fixture.find(makeBSSID(i)).getScanResult().BSSID);
+        }
+        assertEquals(count, fixture.size());
+    }
+
+    @Test
+    public void testExpire() {
+        // setup
+        fixture.find("01:23:45:67:89:ab").add(1, makeScanResult("01:23:45:67:89:ab"));
+        fixture.find("BSSID1").add(1, makeScanResult("BSSID1"));
+        CacheEntry expected1 = fixture.find("01:23:45:67:89:ac");
+        expected1.add(2, makeScanResult("01:23:45:67:89:ac"));
+        CacheEntry expected2 = fixture.find("BSSID2");
+        expected2.add(2, makeScanResult("BSSID2"));
+        // execute
+        fixture.expire(2);
+        // validate
+        assertEquals(2, fixture.size());
+        assertSame(expected1, fixture.find("01:23:45:67:89:ac"));
+        assertSame(expected2, fixture.find("BSSID2"));
+        assertEquals(2, fixture.size());
+    }
+
+    private String makeBSSID(int value) {
+        return String.format(Locale.ENGLISH, "00:11:22:33:%02x:%02x", value / 256, value % 256);
+    }
+
+    private ScanResult makeScanResult(String bssid) {
+        ScanResult scanResult = mock(ScanResult.class);
+        scanResult.BSSID = bssid;
+        return scanResult;
+    }
+
+}
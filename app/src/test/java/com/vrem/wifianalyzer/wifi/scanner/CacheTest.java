@@ -35,9 +35,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -83,35 +87,36 @@ public class CacheTest {
         // execute
         fixture.add(null);
         // validate
-        assertTrue(fixture.getCachedScanResults().isEmpty());
+        assertTrue(fixture.getScanResults().isEmpty());
     }
 
     @Test
     public void testAddWithSizeAvailable() {
         // setup
-        List<ScanResult> scanResults = Collections.emptyList();
+        scanResult1.BSSID = "BBSID1";
+        scanResult1.level = 10;
         // execute
-        fixture.add(scanResults);
+        fixture.add(Collections.singletonList(scanResult1));
         // validate
-        assertEquals(scanResults, fixture.getCachedScanResults().getFirst());
+        List<CacheResult> actuals = fixture.getScanResults();
+        assertEquals(1, actuals.size());
+        validate(scanResult1, 10, actuals.get(0));
     }
 
     @Test
     public void testAddCompliesToMaxCacheSizeWithSizeAvailable() {
         // setup
-        int cacheSize = 2;
-        List<List<ScanResult>> expected = new ArrayList<>();
+        withScanResults();
+        LegacyCache legacyCache = new LegacyCache();
+        legacyCache.add(Arrays.asList(scanResult1, scanResult4));
+        legacyCache.add(Arrays.asList(scanResult2, scanResult5));
+        legacyCache.add(Arrays.asList(scanResult3, scanResult6));
         // execute
-        for (int i = 0; i < cacheSize; i++) {
-            List<ScanResult> scanResults = Collections.emptyList();
-            expected.add(scanResults);
-            fixture.add(scanResults);
-        }
+        List<CacheResult> actuals = fixture.getScanResults();
         // validate
-        assertEquals(cacheSize, expected.size());
-        assertEquals(cacheSize, fixture.getCachedScanResults().size());
-        assertEquals(expected.get(cacheSize - 1), fixture.getCachedScanResults().getFirst());
-        assertEquals(expected.get(cacheSize - 2), fixture.getCachedScanResults().getLast());
+        assertEquals(2, fixture.getCacheSize());
+        validate("Cache", legacyCache.getScanResults(), actuals);
+        validate(scanResult3, 25, actuals.get(0));
     }
 
     @Test
@@ -155,38 +160,55 @@ public class CacheTest {
         // execute
         fixture.add(null);
         // validate
-        assertTrue(fixture.getCachedScanResults().isEmpty());
+        assertTrue(fixture.getScanResults().isEmpty());
     }
 
     @Test
     public void testAdd() {
         // setup
         when(configuration.isSizeAvailable()).thenReturn(false);
-        List<ScanResult> scanResults = Collections.emptyList();
+        scanResult1.BSSID = "BBSID1";
+        scanResult1.level = 20;
         // execute
-        fixture.add(scanResults);
+        fixture.add(Collections.singletonList(scanResult1));
         // validate
-        assertEquals(scanResults, fixture.getCachedScanResults().getFirst());
+        List<CacheResult> actuals = fixture.getScanResults();
+        assertEquals(1, actuals.size());
+        validate(scanResult1, 10, actuals.get(0));
     }
 
     @Test
     public void testAddCompliesToMaxCacheSize() {
         // setup
-        int expectedSize = 1;
-        int cacheSize = 2;
         when(configuration.isSizeAvailable()).thenReturn(false);
-        List<List<ScanResult>> expected = new ArrayList<>();
+        scanResult1.BSSID = scanResult2.BSSID = "BBSID1";
+        scanResult1.level = 20;
+        scanResult2.level = 40;
+        scanResult4.BSSID = "BBSID2";
+        LegacyCache legacyCache = new LegacyCache();
+        legacyCache.add(Arrays.asList(scanResult1, scanResult4));
+        legacyCache.add(Collections.singletonList(scanResult2));
         // execute
-        for (int i = 0; i < cacheSize; i++) {
-            List<ScanResult> scanResults = Collections.emptyList();
-            expected.add(scanResults);
-            fixture.add(scanResults);
-        }
+        fixture.add(Arrays.asList(scanResult1, scanResult4));
+        fixture.add(Collections.singletonList(scanResult2));
         // validate
-        assertEquals(cacheSize, expected.size());
-        assertEquals(expectedSize, fixture.getCachedScanResults().size());
-        assertEquals(expected.get(cacheSize - 1), fixture.getCachedScanResults().getFirst());
-        assertEquals(expected.get(cacheSize - 2), fixture.getCachedScanResults().getLast());
+        List<CacheResult> actuals = fixture.getScanResults();
+        validate("Cache", legacyCache.getScanResults(), actuals);
+        assertEquals(1, actuals.size());
+        validate(scanResult2, 30, actuals.get(0));
+    }
+
+    @Test
+    public void testAddWithNullsShrinksCache() {
+        // setup
+        withScanResults();
+        // execute
+        fixture.add(null);
+        // validate
+        List<CacheResult> actuals = fixture.getScanResults();
+        assertEquals(2, actuals.size());
+        validate(scanResult3, 30, actuals.get(0));
+        validate(scanResult6, 10, actuals.get(1));
     }
 
     @Test
@@ -214,6 +236,60 @@ public class CacheTest {
         verify(settings, never()).getScanInterval();
     }
 
+    @Test
+    public void testGetScanResultsMatchesLegacyCache() {
+        // setup
+        Random random = new Random(2018);
+        List<ScanResult> accessPoints = makeAccessPoints(random, 60);
+        LegacyCache legacyCache = new LegacyCache();
+        for (int scan = 0; scan < 200; scan++) {
+            when(settings.getScanInterval()).thenReturn(1 + random.nextInt(12));
+            when(configuration.isSizeAvailable()).thenReturn(random.nextInt(5) != 0);
+            List<ScanResult> scanResults = random.nextInt(15) == 0 ? null : makeScan(random, accessPoints);
+            // execute
+            fixture.add(scanResults);
+            legacyCache.add(scanResults);
+            // validate
+            validate("Scan:" + scan, legacyCache.getScanResults(), fixture.getScanResults());
+        }
+    }
+
+    private List<ScanResult> makeAccessPoints(Random random, int count) {
+        List<ScanResult> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ScanResult scanResult = mock(ScanResult.class);
+            scanResult.BSSID = i % 20 == 0
+                ? "BSSID-" + i
+                : String.format(Locale.ENGLISH, "%02x:%02x:%02x:%02x:%02x:%02x",
+                random.nextInt(256), random.nextInt(256), random.nextInt(256), random.nextInt(256), random.nextInt(256), i);
+            results.add(scanResult);
+        }
+        return results;
+    }
+
+    private List<ScanResult> makeScan(Random random, List<ScanResult> accessPoints) {
+        List<ScanResult> results = new ArrayList<>();
+        for (ScanResult accessPoint : accessPoints) {
+            int copies = random.nextInt(4) == 0 ? 0 : random.nextInt(10) == 0 ? 2 : 1;
+            for (int i = 0; i < copies; i++) {
+                ScanResult scanResult = mock(ScanResult.class);
+                scanResult.BSSID = accessPoint.BSSID;
+                scanResult.level = -30 - random.nextInt(8) * 5;
+                results.add(scanResult);
+            }
+        }
+        Collections.shuffle(results, random);
+        return results;
+    }
+
+    private void validate(String message, List<CacheResult> expected, List<CacheResult> actual) {
+        assertEquals(message, expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(message + " Index:" + i, expected.get(i).getScanResult(), actual.get(i).getScanResult());
+            assertEquals(message + " Index:" + i, expected.get(i).getLevelAverage(), actual.get(i).getLevelAverage());
+        }
+    }
+
     private void validate(ScanResult expectedScanResult, int expectedLevel, CacheResult actual) {
         assertEquals(expectedScanResult, actual.getScanResult());
         assertEquals(expectedLevel, actual.getLevelAverage());
@@ -0,0 +1,119 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.net.wifi.ScanResult;
+
+import com.vrem.wifianalyzer.wifi.scanner.Transformer.Fields;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class FieldAccessorTest {
+    private FieldAccessor fixture;
+
+    @Before
+    public void setUp() {
+        fixture = new FieldAccessor();
+    }
+
+    @Test
+    public void testGetValue() {
+        // setup
+        Values values = new Values();
+        // execute & validate
+        assertEquals(values.centerFreq0, fixture.getValue(values, Fields.centerFreq0));
+        assertEquals(values.channelWidth, fixture.getValue(values, Fields.channelWidth));
+    }
+
+    @Test
+    public void testGetValueWithCenterFreq1() {
+        assertEquals(5250, fixture.getValue(new OtherValues(), Fields.centerFreq1));
+    }
+
+    @Test
+    public void testGetValueIsResolvedPerClass() {
+        // setup
+        Values values = new Values();
+        OtherValues otherValues = new OtherValues();
+        // execute & validate
+        assertEquals(values.channelWidth, fixture.getValue(values, Fields.channelWidth));
+        assertEquals(otherValues.channelWidth, fixture.getValue(otherValues, Fields.channelWidth));
+        assertEquals(values.channelWidth, fixture.getValue(values, Fields.channelWidth));
+    }
+
+    @Test
+    public void testGetValueWithFieldNotAccessible() {
+        assertEquals(FieldAccessor.VALUE_MISSING, fixture.getValue(new Values(), Fields.centerFreq1));
+    }
+
+    @Test
+    public void testGetValueWithFieldMissing() {
+        assertEquals(FieldAccessor.VALUE_MISSING, fixture.getValue(new OtherValues(), Fields.centerFreq0));
+        assertEquals(FieldAccessor.VALUE_MISSING, fixture.getValue(mock(ScanResult.class), Fields.channelWidth));
+    }
+
+    @Test
+    public void testSetValue() {
+        // setup
+        Values values = new Values();
+        // execute
+        fixture.setValue(values, Fields.channelWidth, 3);
+        // validate
+        assertEquals(3, values.channelWidth);
+    }
+
+    @Test
+    public void testSetValueWithCenterFreq1() {
+        // setup
+        OtherValues otherValues = new OtherValues();
+        // execute
+        fixture.setValue(otherValues, Fields.centerFreq1, 5290);
+        // validate
+        assertEquals(5290, otherValues.centerFreq1);
+    }
+
+    @Test
+    public void testSetValueWithFieldNotAvailable() {
+        // setup
+        Values values = new Values();
+        OtherValues otherValues = new OtherValues();
+        // execute
+        fixture.setValue(values, Fields.centerFreq1, 5250);
+        fixture.setValue(otherValues, Fields.centerFreq0, 5250);
+        // validate
+        assertEquals(5210, values.centerFreq1);
+        assertEquals("5180", otherValues.centerFreq0);
+    }
+
+    static class Values {
+        public int centerFreq0 = 5180;
+        public int channelWidth = 2;
+        private int centerFreq1 = 5210;
+    }
+
+    static class OtherValues {
+        public int channelWidth = 3;
+        public String centerFreq0 = "5180";
+        public int centerFreq1 = 5250;
+    }
+}
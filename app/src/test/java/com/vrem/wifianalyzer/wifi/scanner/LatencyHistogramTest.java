@@ -0,0 +1,143 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+    private LatencyHistogram fixture;
+
+    @Before
+    public void setUp() {
+        fixture = new LatencyHistogram();
+    }
+
+    @Test
+    public void testEmpty() {
+        // validate
+        assertEquals(0, fixture.getCount());
+        assertEquals(0, fixture.getMax());
+        assertEquals(0, fixture.getMean(), 0);
+        assertEquals(0, fixture.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void testIndexIsExactBelowSubBucketCount() {
+        for (int i = 0; i < LatencyHistogram.SUB_BUCKET_COUNT; i++) {
+            // execute & validate
+            assertEquals(i, LatencyHistogram.index(i));
+            assertEquals(i, LatencyHistogram.highestEquivalentValue(i));
+        }
+    }
+
+    @Test
+    public void testIndexRelativeError() {
+        for (long value = 1; value <= LatencyHistogram.MAX_VALUE; value = value * 3 / 2 + 1) {
+            // execute
+            long actual = LatencyHistogram.highestEquivalentValue(LatencyHistogram.index(value));
+            // validate
+            assertTrue(actual >= value);
+            assertTrue((actual - value) <= value / (LatencyHistogram.SUB_BUCKET_HALF - 1));
+        }
+    }
+
+    @Test
+    public void testIndexIsMonotonic() {
+        // setup
+        int previous = 0;
+        for (long value = 0; value < 100000; value++) {
+            // execute
+            int actual = LatencyHistogram.index(value);
+            // validate
+            assertTrue(actual >= previous);
+            assertTrue(actual - previous <= 1);
+            previous = actual;
+        }
+    }
+
+    @Test
+    public void testRecord() {
+        // execute
+        fixture.record(10);
+        fixture.record(30);
+        fixture.record(-5);
+        // validate
+        assertEquals(3, fixture.getCount());
+        assertEquals(30, fixture.getMax());
+        assertEquals(40.0 / 3, fixture.getMean(), 0.001);
+    }
+
+    @Test
+    public void testRecordClampsToMaxValue() {
+        // execute
+        fixture.record(Long.MAX_VALUE);
+        // validate
+        assertEquals(LatencyHistogram.MAX_VALUE, fixture.getMax());
+        assertEquals(LatencyHistogram.MAX_VALUE, fixture.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testGetValueAtPercentile() {
+        // setup
+        for (int i = 1; i <= 1000; i++) {
+            fixture.record(i * 100);
+        }
+        // execute & validate
+        assertWithinError(50000, fixture.getValueAtPercentile(50));
+        assertWithinError(95000, fixture.getValueAtPercentile(95));
+        assertWithinError(99000, fixture.getValueAtPercentile(99));
+        assertEquals(100000, fixture.getValueAtPercentile(100));
+        assertWithinError(100, fixture.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void testReset() {
+        // setup
+        fixture.record(100);
+        // execute
+        fixture.reset();
+        // validate
+        assertEquals(0, fixture.getCount());
+        assertEquals(0, fixture.getMax());
+        assertEquals(0, fixture.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testCopy() {
+        // setup
+        fixture.record(100);
+        fixture.record(200);
+        // execute
+        LatencyHistogram actual = fixture.copy();
+        fixture.reset();
+        // validate
+        assertEquals(2, actual.getCount());
+        assertEquals(200, actual.getMax());
+        assertWithinError(100, actual.getValueAtPercentile(50));
+    }
+
+    private void assertWithinError(long expected, long actual) {
+        assertTrue(actual >= expected);
+        assertTrue(actual - expected <= expected / (LatencyHistogram.SUB_BUCKET_HALF - 1));
+    }
+}
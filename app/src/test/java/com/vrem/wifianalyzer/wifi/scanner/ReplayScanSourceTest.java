@@ -0,0 +1,228 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.net.wifi.ScanResult;
+import android.os.Handler;
+
+import com.vrem.wifianalyzer.MainContextHelper;
+import com.vrem.wifianalyzer.settings.Settings;
+import com.vrem.wifianalyzer.wifi.model.WiFiData;
+import com.vrem.wifianalyzer.wifi.model.WiFiDetail;
+
+import org.apache.commons.collections4.Factory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReplayScanSourceTest {
+    private static final String RECORDING = ScanRecording.HEADER + "\n"
+        + "10000|aa:bb:cc:dd:ee:01|2437|0|0|0|-50|[WPA2-PSK-CCMP][ESS]|home\n"
+        + "10000|aa:bb:cc:dd:ee:02|2462|0|0|0|-70|[ESS]|guest\n"
+        + "15000|aa:bb:cc:dd:ee:01|2437|0|0|0|-60|[WPA2-PSK-CCMP][ESS]|home\n"
+        + "20000|aa:bb:cc:dd:ee:03|5180|0|0|0|-80|[ESS]|office\n";
+
+    private ScanRecording scanRecording;
+
+    @Before
+    public void setUp() throws IOException {
+        scanRecording = ScanRecording.read(new StringReader(RECORDING));
+    }
+
+    @After
+    public void tearDown() {
+        MainContextHelper.INSTANCE.restore();
+    }
+
+    @Test
+    public void testStartScanWithStepSpeed() {
+        // setup
+        ReplayScanSource fixture = makeReplayScanSource(ReplayScanSource.SPEED_STEP);
+        // execute & validate
+        assertTrue(fixture.startScan());
+        assertEquals(2, fixture.getScanResults().size());
+        assertTrue(fixture.startScan());
+        assertEquals(1, fixture.getScanResults().size());
+        assertEquals(-60, fixture.getScanResults().get(0).level);
+        assertFalse(fixture.isFinished());
+        assertTrue(fixture.startScan());
+        assertTrue(fixture.isFinished());
+        assertTrue(fixture.startScan());
+        assertEquals(2, fixture.getIndex());
+    }
+
+    @Test
+    public void testStartScanWithRealTimeSpeed() {
+        // setup
+        ReplayScanSource fixture = spy(makeReplayScanSource(ReplayScanSource.SPEED_REAL_TIME));
+        doReturn(1000L, 5999L, 6000L, 60000L).when(fixture).now();
+        // execute & validate
+        fixture.startScan();
+        assertEquals(0, fixture.getIndex());
+        fixture.startScan();
+        assertEquals(0, fixture.getIndex());
+        fixture.startScan();
+        assertEquals(1, fixture.getIndex());
+        fixture.startScan();
+        assertEquals(2, fixture.getIndex());
+    }
+
+    @Test
+    public void testStartScanWithAcceleratedSpeed() {
+        // setup
+        ReplayScanSource fixture = spy(makeReplayScanSource(10));
+        doReturn(0L, 1000L).when(fixture).now();
+        // execute
+        fixture.startScan();
+        fixture.startScan();
+        // validate
+        assertEquals(2, fixture.getIndex());
+    }
+
+    @Test
+    public void testStartScanReusesScanResultsWithinSameScan() {
+        // setup
+        ReplayScanSource fixture = spy(makeReplayScanSource(ReplayScanSource.SPEED_REAL_TIME));
+        doReturn(0L, 10L).when(fixture).now();
+        fixture.startScan();
+        List<ScanResult> expected = fixture.getScanResults();
+        // execute
+        fixture.startScan();
+        // validate
+        assertTrue(expected == fixture.getScanResults());
+    }
+
+    @Test
+    public void testStartScanWithEmptyRecording() {
+        // setup
+        ReplayScanSource fixture = new ReplayScanSource(new ScanRecording(), ReplayScanSource.SPEED_STEP);
+        // execute & validate
+        assertFalse(fixture.startScan());
+        assertTrue(fixture.getScanResults().isEmpty());
+    }
+
+    @Test
+    public void testMakeScanResults() {
+        // setup
+        ReplayScanSource fixture = makeReplayScanSource(ReplayScanSource.SPEED_STEP);
+        // execute
+        fixture.startScan();
+        // validate
+        ScanResult actual = fixture.getScanResults().get(1);
+        assertEquals("guest", actual.SSID);
+        assertEquals("aa:bb:cc:dd:ee:02", actual.BSSID);
+        assertEquals("[ESS]", actual.capabilities);
+        assertEquals(2462, actual.frequency);
+        assertEquals(-70, actual.level);
+    }
+
+    @Test
+    public void testWiFiState() {
+        // setup
+        ReplayScanSource fixture = makeReplayScanSource(ReplayScanSource.SPEED_STEP);
+        // execute & validate
+        assertTrue(fixture.isWifiEnabled());
+        assertTrue(fixture.setWifiEnabled(false));
+        assertNull(fixture.getConnectionInfo());
+        assertTrue(fixture.getConfiguredNetworks().isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReplayScanSourceWithNegativeSpeed() {
+        new ReplayScanSource(scanRecording, -1);
+    }
+
+    @Test
+    public void testReplayThroughScannerPipeline() {
+        // setup
+        when(MainContextHelper.INSTANCE.getSettings().getScanInterval()).thenReturn(1);
+        when(MainContextHelper.INSTANCE.getConfiguration().isSizeAvailable()).thenReturn(true);
+        MainContextHelper.INSTANCE.getVendorService();
+        Handler handler = mock(Handler.class);
+        when(handler.post(any(Runnable.class))).thenAnswer(new RunAnswer());
+        UpdateNotifier updateNotifier = mock(UpdateNotifier.class);
+        Scanner scanner = (Scanner) ScannerServiceFactory.makeScannerService(
+            makeReplayScanSource(ReplayScanSource.SPEED_STEP), handler, mock(Settings.class));
+        scanner.setExecutor(new DirectExecutor());
+        scanner.register(updateNotifier);
+        ArgumentCaptor<WiFiData> captor = ArgumentCaptor.forClass(WiFiData.class);
+        // execute
+        for (int i = 0; i < scanRecording.size(); i++) {
+            scanner.update();
+        }
+        // validate
+        verify(updateNotifier, times(3)).update(captor.capture());
+        List<WiFiData> actual = captor.getAllValues();
+        assertEquals(2, actual.get(0).getWiFiDetails().size());
+        assertEquals(2, actual.get(1).getWiFiDetails().size());
+        List<WiFiDetail> wiFiDetails = actual.get(2).getWiFiDetails();
+        assertEquals(3, wiFiDetails.size());
+        assertEquals("aa:bb:cc:dd:ee:01", wiFiDetails.get(0).getBSSID());
+        assertEquals(-55, wiFiDetails.get(0).getWiFiSignal().getLevel());
+        assertEquals(wiFiDetails, scanner.getWiFiData().getWiFiDetails());
+    }
+
+    private ReplayScanSource makeReplayScanSource(float speed) {
+        ReplayScanSource result = new ReplayScanSource(scanRecording, speed);
+        result.setScanResultFactory(new ScanResultFactory());
+        return result;
+    }
+
+    private static class ScanResultFactory implements Factory<ScanResult> {
+        @Override
+        public ScanResult create() {
+            return mock(ScanResult.class);
+        }
+    }
+
+    private static class DirectExecutor implements Executor {
+        @Override
+        public void execute(Runnable runnable) {
+            runnable.run();
+        }
+    }
+
+    private static class RunAnswer implements Answer<Boolean> {
+        @Override
+        public Boolean answer(InvocationOnMock invocation) {
+            invocation.<Runnable>getArgument(0).run();
+            return true;
+        }
+    }
+}
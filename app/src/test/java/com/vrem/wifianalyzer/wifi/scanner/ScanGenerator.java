@@ -0,0 +1,304 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.net.wifi.ScanResult;
+import android.support.annotation.NonNull;
+
+import org.apache.commons.collections4.Factory;
+import org.apache.commons.collections4.FactoryUtils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.mockito.Mockito.mock;
+
+public class ScanGenerator {
+    static final int LEVEL_MIN = -95;
+    static final int LEVEL_MAX = -25;
+    static final String GUEST_SUFFIX = "-Guest";
+
+    private static final String[] OUIS = {"00:1a:1e", "00:0b:86", "70:3a:0e", "f0:9f:c2", "00:3a:98", "b4:fb:e4", "24:a4:3c", "a0:63:91"};
+    private static final String[] CAPABILITIES = {
+        "[WPA2-PSK-CCMP][ESS]", "[WPA2-EAP-CCMP][ESS]", "[WPA-PSK-TKIP][WPA2-PSK-CCMP][ESS]",
+        "[WPA2-PSK-CCMP][WPS][ESS]", "[WEP][ESS]", "[ESS]"};
+    private static final int[] CENTERS_80 = {5210, 5290, 5530, 5610, 5690, 5775};
+    private static final int[] CENTERS_160 = {5250, 5570};
+    private static final int GHZ2_CHANNELS = 13;
+    private static final int GHZ2_FIRST = 2412;
+
+    private final Random random;
+    private final List<AccessPoint> accessPoints;
+    private int accessPointCount;
+    private double ghz5Ratio;
+    private int[] widthWeights;
+    private double levelStep;
+    private double churn;
+    private double hidden;
+    private double guests;
+    private long interval;
+    private double churnDue;
+    private long time;
+    private int nextId;
+
+    public ScanGenerator(long seed) {
+        this.random = new Random(seed);
+        this.accessPoints = new ArrayList<>();
+        this.accessPointCount = 500;
+        this.ghz5Ratio = 0.5;
+        this.widthWeights = new int[]{30, 25, 35, 10};
+        this.levelStep = 2.0;
+        this.churn = 0.02;
+        this.hidden = 0.05;
+        this.guests = 0.1;
+        this.interval = 5000;
+    }
+
+    @NonNull
+    public static Factory<ScanResult> scanResultFactory() {
+        try {
+            return FactoryUtils.instantiateFactory(ScanResult.class);
+        } catch (IllegalArgumentException e) {
+            return new MockScanResultFactory();
+        }
+    }
+
+    @NonNull
+    public ScanGenerator setAccessPoints(int accessPointCount) {
+        this.accessPointCount = accessPointCount;
+        return this;
+    }
+
+    @NonNull
+    public ScanGenerator setGHz5Ratio(double ghz5Ratio) {
+        this.ghz5Ratio = ghz5Ratio;
+        return this;
+    }
+
+    @NonNull
+    public ScanGenerator setWidthWeights(int mhz20, int mhz40, int mhz80, int mhz160) {
+        this.widthWeights = new int[]{mhz20, mhz40, mhz80, mhz160};
+        return this;
+    }
+
+    @NonNull
+    public ScanGenerator setLevelStep(double levelStep) {
+        this.levelStep = levelStep;
+        return this;
+    }
+
+    @NonNull
+    public ScanGenerator setChurn(double churn) {
+        this.churn = churn;
+        return this;
+    }
+
+    @NonNull
+    public ScanGenerator setHidden(double hidden) {
+        this.hidden = hidden;
+        return this;
+    }
+
+    @NonNull
+    public ScanGenerator setGuests(double guests) {
+        this.guests = guests;
+        return this;
+    }
+
+    @NonNull
+    public ScanGenerator setInterval(long interval) {
+        this.interval = interval;
+        return this;
+    }
+
+    @NonNull
+    public ScanRecording generate(int scans) {
+        ScanRecording result = new ScanRecording();
+        for (int i = 0; i < scans; i++) {
+            result.add(next());
+        }
+        return result;
+    }
+
+    @NonNull
+    public ScanRecording.Scan next() {
+        if (accessPoints.isEmpty()) {
+            populate();
+        } else {
+            walk();
+            replace();
+        }
+        List<ScanRecording.Entry> entries = new ArrayList<>(accessPoints.size());
+        for (AccessPoint accessPoint : accessPoints) {
+            entries.add(accessPoint.toEntry());
+        }
+        ScanRecording.Scan scan = new ScanRecording.Scan(time, entries);
+        time += interval;
+        return scan;
+    }
+
+    private void populate() {
+        while (accessPoints.size() < accessPointCount) {
+            AccessPoint host = makeAccessPoint();
+            accessPoints.add(host);
+            if (accessPoints.size() < accessPointCount && random.nextDouble() < guests) {
+                accessPoints.add(host.makeGuest());
+            }
+        }
+    }
+
+    private void walk() {
+        for (AccessPoint accessPoint : accessPoints) {
+            accessPoint.walk();
+        }
+    }
+
+    private void replace() {
+        churnDue += churn * accessPoints.size();
+        while (churnDue >= 1 && !accessPoints.isEmpty()) {
+            AccessPoint removed = accessPoints.get(random.nextInt(accessPoints.size()));
+            AccessPoint host = removed.host == null ? removed : removed.host;
+            Iterator<AccessPoint> iterator = accessPoints.iterator();
+            while (iterator.hasNext()) {
+                AccessPoint accessPoint = iterator.next();
+                if (accessPoint == host || accessPoint.host == host) {
+                    iterator.remove();
+                    churnDue--;
+                }
+            }
+        }
+        populate();
+    }
+
+    @NonNull
+    private AccessPoint makeAccessPoint() {
+        int id = nextId++;
+        String oui = OUIS[random.nextInt(OUIS.length)];
+        String bssid = String.format(Locale.ENGLISH, "%s:%02x:%02x:%x0", oui, (id >> 12) & 0xff, (id >> 4) & 0xff, id & 0xf);
+        String ssid = random.nextDouble() < hidden ? "" : "Venue-" + (id % Math.max(1, accessPointCount / 8));
+        String capabilities = CAPABILITIES[random.nextInt(CAPABILITIES.length)];
+        double level = LEVEL_MIN + random.nextDouble() * (LEVEL_MAX - LEVEL_MIN);
+        AccessPoint result = new AccessPoint(ssid, bssid, capabilities, level);
+        if (random.nextDouble() < ghz5Ratio) {
+            channel5(result);
+        } else {
+            channel2(result);
+        }
+        return result;
+    }
+
+    private void channel2(@NonNull AccessPoint accessPoint) {
+        int channel = random.nextInt(GHZ2_CHANNELS);
+        accessPoint.frequency = GHZ2_FIRST + channel * 5;
+        if (pickWidth(2) == 1) {
+            accessPoint.channelWidth = 1;
+            accessPoint.centerFreq0 = channel < 4 ? accessPoint.frequency + 10 : accessPoint.frequency - 10;
+        }
+    }
+
+    private void channel5(@NonNull AccessPoint accessPoint) {
+        int width = pickWidth(widthWeights.length);
+        if (width == 3) {
+            int center = CENTERS_160[random.nextInt(CENTERS_160.length)];
+            accessPoint.frequency = center - 70 + 20 * random.nextInt(8);
+            accessPoint.centerFreq0 = center;
+        } else {
+            int center = CENTERS_80[random.nextInt(CENTERS_80.length)];
+            int index = random.nextInt(4);
+            accessPoint.frequency = center - 30 + 20 * index;
+            if (width == 2) {
+                accessPoint.centerFreq0 = center;
+            } else if (width == 1) {
+                accessPoint.centerFreq0 = index < 2 ? center - 20 : center + 20;
+            }
+        }
+        accessPoint.channelWidth = width;
+    }
+
+    private int pickWidth(int count) {
+        int total = 0;
+        for (int i = 0; i < count; i++) {
+            total += widthWeights[i];
+        }
+        if (total <= 0) {
+            return 0;
+        }
+        int value = random.nextInt(total);
+        for (int i = 0; i < count; i++) {
+            value -= widthWeights[i];
+            if (value < 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private class AccessPoint {
+        private final String ssid;
+        private final String bssid;
+        private final String capabilities;
+        private AccessPoint host;
+        private int frequency;
+        private int centerFreq0;
+        private int channelWidth;
+        private double level;
+
+        private AccessPoint(@NonNull String ssid, @NonNull String bssid, @NonNull String capabilities, double level) {
+            this.ssid = ssid;
+            this.bssid = bssid;
+            this.capabilities = capabilities;
+            this.level = level;
+        }
+
+        @NonNull
+        private AccessPoint makeGuest() {
+            int firstOctet = Integer.parseInt(bssid.substring(0, 2), 16) | 0x02;
+            String guestBSSID = String.format(Locale.ENGLISH, "%02x", firstOctet) + bssid.substring(2, bssid.length() - 1) + "1";
+            AccessPoint result = new AccessPoint(ssid.isEmpty() ? "" : ssid + GUEST_SUFFIX, guestBSSID, "[ESS]", level);
+            result.host = this;
+            result.frequency = frequency;
+            result.centerFreq0 = centerFreq0;
+            result.channelWidth = channelWidth;
+            return result;
+        }
+
+        private void walk() {
+            if (host == null) {
+                level = Math.max(LEVEL_MIN, Math.min(LEVEL_MAX, level + random.nextGaussian() * levelStep));
+            } else {
+                level = host.level - random.nextInt(3);
+            }
+        }
+
+        @NonNull
+        private ScanRecording.Entry toEntry() {
+            return new ScanRecording.Entry(ssid, bssid, capabilities, frequency, centerFreq0, 0, channelWidth, (int) Math.round(level));
+        }
+    }
+
+    private static class MockScanResultFactory implements Factory<ScanResult> {
+        @Override
+        public ScanResult create() {
+            return mock(ScanResult.class);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ScanGeneratorTest {
+    private static final int ACCESS_POINTS = 1000;
+
+    @Test
+    public void testGenerateAccessPointCount() {
+        // setup
+        ScanGenerator fixture = new ScanGenerator(1).setAccessPoints(ACCESS_POINTS);
+        // execute
+        ScanRecording actual = fixture.generate(10);
+        // validate
+        assertEquals(10, actual.size());
+        for (int i = 0; i < actual.size(); i++) {
+            assertEquals(ACCESS_POINTS, actual.get(i).getEntries().size());
+            assertEquals(i * 5000L, actual.get(i).getTime());
+        }
+    }
+
+    @Test
+    public void testGenerateIsDeterministic() {
+        // execute
+        ScanRecording.Scan expected = new ScanGenerator(7).generate(5).get(4);
+        ScanRecording.Scan actual = new ScanGenerator(7).generate(5).get(4);
+        // validate
+        assertEquals(expected.getEntries().size(), actual.getEntries().size());
+        for (int i = 0; i < expected.getEntries().size(); i++) {
+            assertEquals(expected.getEntries().get(i).getBSSID(), actual.getEntries().get(i).getBSSID());
+            assertEquals(expected.getEntries().get(i).getLevel(), actual.getEntries().get(i).getLevel());
+        }
+    }
+
+    @Test
+    public void testGenerateUniqueBSSIDs() {
+        // setup
+        ScanGenerator fixture = new ScanGenerator(3).setAccessPoints(ACCESS_POINTS).setGuests(0.5);
+        // execute
+        List<ScanRecording.Entry> actual = fixture.next().getEntries();
+        // validate
+        Set<String> bssids = new HashSet<>();
+        for (ScanRecording.Entry entry : actual) {
+            assertEquals(17, entry.getBSSID().length());
+            assertTrue(bssids.add(entry.getBSSID()));
+        }
+    }
+
+    @Test
+    public void testGenerateBandMix() {
+        // setup
+        ScanGenerator fixture = new ScanGenerator(5).setAccessPoints(ACCESS_POINTS).setGHz5Ratio(1).setGuests(0);
+        // execute
+        List<ScanRecording.Entry> actual = fixture.next().getEntries();
+        // validate
+        for (ScanRecording.Entry entry : actual) {
+            assertTrue(entry.getFrequency() > 5000);
+        }
+    }
+
+    @Test
+    public void testGenerateWidthMix() {
+        // setup
+        ScanGenerator fixture = new ScanGenerator(5).setAccessPoints(ACCESS_POINTS).setGHz5Ratio(1).setWidthWeights(0, 0, 1, 0);
+        // execute
+        List<ScanRecording.Entry> actual = fixture.next().getEntries();
+        // validate
+        for (ScanRecording.Entry entry : actual) {
+            assertEquals(2, entry.getChannelWidth());
+            assertTrue(Math.abs(entry.getCenterFreq0() - entry.getFrequency()) <= 30);
+        }
+    }
+
+    @Test
+    public void testGenerateHidden() {
+        // setup
+        ScanGenerator fixture = new ScanGenerator(9).setAccessPoints(ACCESS_POINTS).setHidden(1);
+        // execute
+        List<ScanRecording.Entry> actual = fixture.next().getEntries();
+        // validate
+        for (ScanRecording.Entry entry : actual) {
+            assertTrue(entry.getSSID().isEmpty());
+        }
+    }
+
+    @Test
+    public void testGenerateGuests() {
+        // setup
+        ScanGenerator fixture = new ScanGenerator(11).setAccessPoints(ACCESS_POINTS).setGuests(1).setHidden(0);
+        // execute
+        List<ScanRecording.Entry> actual = fixture.next().getEntries();
+        // validate
+        int guests = 0;
+        for (int i = 1; i < actual.size(); i++) {
+            ScanRecording.Entry guest = actual.get(i);
+            if (guest.getSSID().endsWith(ScanGenerator.GUEST_SUFFIX)) {
+                ScanRecording.Entry host = actual.get(i - 1);
+                assertEquals(host.getBSSID().substring(2, 16), guest.getBSSID().substring(2, 16));
+                assertFalse(host.getBSSID().equals(guest.getBSSID()));
+                assertEquals(host.getFrequency(), guest.getFrequency());
+                guests++;
+            }
+        }
+        assertEquals(ACCESS_POINTS / 2, guests);
+    }
+
+    @Test
+    public void testGenerateLevelRandomWalk() {
+        // setup
+        ScanGenerator fixture = new ScanGenerator(13).setAccessPoints(ACCESS_POINTS).setChurn(0).setLevelStep(2);
+        // execute
+        List<ScanRecording.Entry> previous = fixture.next().getEntries();
+        List<ScanRecording.Entry> current = fixture.next().getEntries();
+        // validate
+        int changed = 0;
+        for (int i = 0; i < previous.size(); i++) {
+            assertEquals(previous.get(i).getBSSID(), current.get(i).getBSSID());
+            assertTrue(current.get(i).getLevel() >= ScanGenerator.LEVEL_MIN - 3);
+            assertTrue(current.get(i).getLevel() <= ScanGenerator.LEVEL_MAX);
+            if (previous.get(i).getLevel() != current.get(i).getLevel()) {
+                changed++;
+            }
+        }
+        assertTrue(changed > ACCESS_POINTS / 2);
+    }
+
+    @Test
+    public void testGenerateChurn() {
+        // setup
+        ScanGenerator fixture = new ScanGenerator(17).setAccessPoints(ACCESS_POINTS).setChurn(0.1).setGuests(0);
+        // execute
+        List<ScanRecording.Entry> previous = fixture.next().getEntries();
+        List<ScanRecording.Entry> current = fixture.next().getEntries();
+        // validate
+        Map<String, ScanRecording.Entry> bssids = new HashMap<>();
+        for (ScanRecording.Entry entry : previous) {
+            bssids.put(entry.getBSSID(), entry);
+        }
+        int replaced = 0;
+        for (ScanRecording.Entry entry : current) {
+            if (!bssids.containsKey(entry.getBSSID())) {
+                replaced++;
+            }
+        }
+        assertEquals(ACCESS_POINTS / 10, replaced);
+        assertEquals(ACCESS_POINTS, current.size());
+    }
+}
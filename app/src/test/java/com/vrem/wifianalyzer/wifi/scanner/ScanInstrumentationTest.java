@@ -0,0 +1,165 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import com.vrem.wifianalyzer.wifi.model.WiFiConnection;
+import com.vrem.wifianalyzer.wifi.model.WiFiData;
+import com.vrem.wifianalyzer.wifi.model.WiFiDetail;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ScanInstrumentationTest {
+    @Mock
+    private UpdateNotifier updateNotifier;
+
+    private ScanInstrumentation fixture;
+
+    @Before
+    public void setUp() {
+        fixture = new ScanInstrumentation();
+    }
+
+    @Test
+    public void testGetHistogramsHasScanStagesInOrder() {
+        // execute
+        Map<String, LatencyHistogram> actual = fixture.getHistograms();
+        // validate
+        assertEquals(Arrays.asList(
+            ScanInstrumentation.ENABLE_WIFI,
+            ScanInstrumentation.START_SCAN,
+            ScanInstrumentation.SCAN_RESULTS,
+            ScanInstrumentation.CACHE_ADD,
+            ScanInstrumentation.CACHE_SCAN_RESULTS,
+            ScanInstrumentation.TRANSFORM,
+            ScanInstrumentation.DELTA), new ArrayList<>(actual.keySet()));
+    }
+
+    @Test
+    public void testBeginEnd() {
+        // execute
+        long start = fixture.begin(ScanInstrumentation.TRANSFORM);
+        fixture.end(ScanInstrumentation.TRANSFORM, start);
+        // validate
+        assertEquals(1, fixture.getHistograms().get(ScanInstrumentation.TRANSFORM).getCount());
+        assertEquals(0, fixture.getHistograms().get(ScanInstrumentation.CACHE_ADD).getCount());
+    }
+
+    @Test
+    public void testGetStage() {
+        // execute
+        String actual = fixture.getStage(updateNotifier);
+        // validate
+        assertTrue(actual.startsWith(ScanInstrumentation.UPDATE_NOTIFIER));
+        assertTrue(actual.endsWith(updateNotifier.getClass().getSimpleName()));
+        assertSame(actual, fixture.getStage(updateNotifier));
+    }
+
+    @Test
+    public void testEndAddsNotifierStage() {
+        // setup
+        String stage = fixture.getStage(updateNotifier);
+        // execute
+        fixture.end(stage, fixture.begin(stage));
+        // validate
+        assertEquals(1, fixture.getHistograms().get(stage).getCount());
+    }
+
+    @Test
+    public void testGetHistogramsReturnsCopies() {
+        // setup
+        fixture.end(ScanInstrumentation.CACHE_ADD, fixture.begin(ScanInstrumentation.CACHE_ADD));
+        Map<String, LatencyHistogram> histograms = fixture.getHistograms();
+        // execute
+        Map<String, LatencyHistogram> actual = fixture.getHistograms();
+        // validate
+        assertNotSame(histograms.get(ScanInstrumentation.CACHE_ADD), actual.get(ScanInstrumentation.CACHE_ADD));
+        histograms.get(ScanInstrumentation.CACHE_ADD).reset();
+        assertEquals(1, actual.get(ScanInstrumentation.CACHE_ADD).getCount());
+    }
+
+    @Test
+    public void testReset() {
+        // setup
+        fixture.end(ScanInstrumentation.CACHE_ADD, fixture.begin(ScanInstrumentation.CACHE_ADD));
+        // execute
+        fixture.reset();
+        // validate
+        assertEquals(0, fixture.getHistograms().get(ScanInstrumentation.CACHE_ADD).getCount());
+    }
+
+    @Test
+    public void testGetReport() {
+        // setup
+        fixture.end(ScanInstrumentation.CACHE_ADD, fixture.begin(ScanInstrumentation.CACHE_ADD));
+        // execute
+        String actual = fixture.getReport();
+        // validate
+        String[] lines = actual.split("\n");
+        assertEquals(9, lines.length);
+        assertTrue(lines[0].contains("p95"));
+        assertTrue(lines[4].startsWith(ScanInstrumentation.CACHE_ADD));
+        assertTrue(lines[4].contains(" 1 "));
+        assertTrue(lines[8].startsWith("WiFiData queries"));
+    }
+
+    @Test
+    public void testRecordQueries() {
+        // setup
+        WiFiData wiFiData = mock(WiFiData.class);
+        when(wiFiData.getQueryHits()).thenReturn(6);
+        when(wiFiData.getQueryMisses()).thenReturn(2);
+        // execute
+        fixture.record(wiFiData);
+        fixture.record(wiFiData);
+        // validate
+        assertEquals(2, fixture.getQueryScans());
+        assertEquals(12, fixture.getQueryHits());
+        assertEquals(4, fixture.getQueryMisses());
+        assertTrue(fixture.getReport().contains("WiFiData queries: 8.0 per scan, 75.0% hits (12 hits, 4 misses, 2 scans)"));
+    }
+
+    @Test
+    public void testResetQueries() {
+        // setup
+        fixture.record(new WiFiData(Collections.<WiFiDetail>emptyList(), WiFiConnection.EMPTY, Collections.<String>emptyList()));
+        // execute
+        fixture.reset();
+        // validate
+        assertEquals(0, fixture.getQueryScans());
+        assertEquals(0, fixture.getQueryHits());
+        assertEquals(0, fixture.getQueryMisses());
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.net.wifi.ScanResult;
+import android.net.wifi.WifiConfiguration;
+import android.net.wifi.WifiInfo;
+import android.os.Handler;
+import android.support.annotation.NonNull;
+
+import com.vrem.wifianalyzer.settings.Settings;
+import com.vrem.wifianalyzer.wifi.model.WiFiData;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ScanPipeline {
+    private final Scanner scanner;
+
+    public ScanPipeline(@NonNull ScanRecording scanRecording) {
+        Handler handler = mock(Handler.class);
+        when(handler.post(any(Runnable.class))).thenAnswer(new RunAnswer());
+        scanner = (Scanner) ScannerServiceFactory.makeScannerService(
+            new CyclingScanSource(scanRecording), handler, mock(Settings.class));
+        scanner.setExecutor(new DirectExecutor());
+    }
+
+    @NonNull
+    public WiFiData next() {
+        scanner.update();
+        return scanner.getWiFiData();
+    }
+
+    @NonNull
+    public List<WiFiData> run(int scans) {
+        List<WiFiData> results = new ArrayList<>(scans);
+        for (int i = 0; i < scans; i++) {
+            results.add(next());
+        }
+        return results;
+    }
+
+    @NonNull
+    Scanner getScanner() {
+        return scanner;
+    }
+
+    private static class CyclingScanSource implements ScanSource {
+        private final List<List<ScanResult>> scans;
+        private int index;
+
+        private CyclingScanSource(@NonNull ScanRecording scanRecording) {
+            ReplayScanSource replayScanSource = new ReplayScanSource(scanRecording, ReplayScanSource.SPEED_STEP);
+            replayScanSource.setScanResultFactory(ScanGenerator.scanResultFactory());
+            scans = new ArrayList<>(scanRecording.size());
+            for (int i = 0; i < scanRecording.size(); i++) {
+                replayScanSource.startScan();
+                scans.add(replayScanSource.getScanResults());
+            }
+            index = -1;
+        }
+
+        @Override
+        public boolean isWifiEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean setWifiEnabled(boolean enabled) {
+            return true;
+        }
+
+        @Override
+        public boolean startScan() {
+            index = (index + 1) % scans.size();
+            return true;
+        }
+
+        @Override
+        public List<ScanResult> getScanResults() {
+            return scans.get(index);
+        }
+
+        @Override
+        public WifiInfo getConnectionInfo() {
+            return null;
+        }
+
+        @Override
+        public List<WifiConfiguration> getConfiguredNetworks() {
+            return new ArrayList<>();
+        }
+    }
+
+    private static class DirectExecutor implements Executor {
+        @Override
+        public void execute(@NonNull Runnable runnable) {
+            runnable.run();
+        }
+    }
+
+    private static class RunAnswer implements Answer<Boolean> {
+        @Override
+        public Boolean answer(InvocationOnMock invocation) {
+            invocation.<Runnable>getArgument(0).run();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import com.vrem.wifianalyzer.Benchmark;
+import com.vrem.wifianalyzer.MainContextHelper;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+public class ScanPipelineBenchmark {
+    private static final int[] ACCESS_POINTS = {500, 1000, 2000};
+    private static final int SCANS = 20;
+
+    @Before
+    public void setUp() {
+        when(MainContextHelper.INSTANCE.getSettings().getScanInterval()).thenReturn(5);
+        when(MainContextHelper.INSTANCE.getConfiguration().isSizeAvailable()).thenReturn(true);
+        MainContextHelper.INSTANCE.getVendorService();
+    }
+
+    @After
+    public void tearDown() {
+        MainContextHelper.INSTANCE.restore();
+    }
+
+    @Test
+    public void testScanToWiFiData() {
+        for (int accessPoints : ACCESS_POINTS) {
+            // setup
+            ScanRecording scanRecording = new ScanGenerator(accessPoints).setAccessPoints(accessPoints).generate(SCANS);
+            ScanPipeline scanPipeline = new ScanPipeline(scanRecording);
+            Benchmark benchmark = new Benchmark("Scan pipeline per scan", SCANS);
+            // execute
+            benchmark.run(accessPoints + " access points", new PipelineRunnable(scanPipeline));
+            // validate
+            assertTrue(scanPipeline.next().getWiFiDetails().size() >= accessPoints);
+        }
+    }
+
+    private static class PipelineRunnable implements Runnable {
+        private final ScanPipeline scanPipeline;
+
+        private PipelineRunnable(ScanPipeline scanPipeline) {
+            this.scanPipeline = scanPipeline;
+        }
+
+        @Override
+        public void run() {
+            scanPipeline.run(SCANS);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.net.wifi.ScanResult;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class ScanRecordingTest {
+    private static final String RECORDING = ScanRecording.HEADER + "\n"
+        + "0|aa:bb:cc:dd:ee:01|2437|0|0|0|-50|[WPA2-PSK-CCMP][ESS]|home\n"
+        + "0|aa:bb:cc:dd:ee:02|5180|5190|0|1|-70|[ESS]|guest|cafe\n"
+        + "\n"
+        + "2000|aa:bb:cc:dd:ee:01|2437|0|0|0|-55|[WPA2-PSK-CCMP][ESS]|home\n";
+
+    private ScanRecording fixture;
+
+    @Before
+    public void setUp() {
+        fixture = new ScanRecording();
+    }
+
+    @Test
+    public void testRead() throws IOException {
+        // execute
+        ScanRecording actual = ScanRecording.read(new StringReader(RECORDING));
+        // validate
+        assertEquals(2, actual.size());
+        assertEquals(0, actual.get(0).getTime());
+        assertEquals(2, actual.get(0).getEntries().size());
+        assertEquals(2000, actual.get(1).getTime());
+        assertEquals(1, actual.get(1).getEntries().size());
+        ScanRecording.Entry entry = actual.get(0).getEntries().get(1);
+        assertEquals("guest|cafe", entry.getSSID());
+        assertEquals("aa:bb:cc:dd:ee:02", entry.getBSSID());
+        assertEquals("[ESS]", entry.getCapabilities());
+        assertEquals(5180, entry.getFrequency());
+        assertEquals(5190, entry.getCenterFreq0());
+        assertEquals(0, entry.getCenterFreq1());
+        assertEquals(1, entry.getChannelWidth());
+        assertEquals(-70, entry.getLevel());
+    }
+
+    @Test
+    public void testWriteAndReadBack() throws IOException {
+        // setup
+        ScanRecording expected = ScanRecording.read(new StringReader(RECORDING));
+        StringWriter writer = new StringWriter();
+        // execute
+        expected.write(writer);
+        // validate
+        assertEquals(RECORDING.replace("\n\n", "\n"), writer.toString());
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadWithMissingColumns() throws IOException {
+        ScanRecording.read(new StringReader("0|aa:bb:cc:dd:ee:01|2437\n"));
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadWithInvalidNumber() throws IOException {
+        ScanRecording.read(new StringReader("0|aa:bb:cc:dd:ee:01|x|0|0|0|-50|[ESS]|home\n"));
+    }
+
+    @Test
+    public void testReadEmpty() throws IOException {
+        assertTrue(ScanRecording.read(new StringReader(ScanRecording.HEADER)).isEmpty());
+    }
+
+    @Test
+    public void testAddScanResults() {
+        // setup
+        ScanResult scanResult = mock(ScanResult.class);
+        scanResult.SSID = "home";
+        scanResult.BSSID = "aa:bb:cc:dd:ee:01";
+        scanResult.capabilities = "[ESS]";
+        scanResult.frequency = 2412;
+        scanResult.level = -40;
+        // execute
+        fixture.addScanResults(1000, Collections.singletonList(scanResult));
+        // validate
+        assertEquals(1, fixture.size());
+        assertEquals(1000, fixture.get(0).getTime());
+        ScanRecording.Entry actual = fixture.get(0).getEntries().get(0);
+        assertEquals("home", actual.getSSID());
+        assertEquals("aa:bb:cc:dd:ee:01", actual.getBSSID());
+        assertEquals("[ESS]", actual.getCapabilities());
+        assertEquals(2412, actual.getFrequency());
+        assertEquals(-40, actual.getLevel());
+    }
+
+    @Test
+    public void testAddScanResultsWithNullValues() {
+        // setup
+        ScanResult scanResult = mock(ScanResult.class);
+        // execute
+        fixture.addScanResults(0, Arrays.asList(scanResult));
+        // validate
+        ScanRecording.Entry actual = fixture.get(0).getEntries().get(0);
+        assertEquals("", actual.getSSID());
+        assertEquals("", actual.getBSSID());
+        assertEquals("", actual.getCapabilities());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddWithTimeGoingBackwards() {
+        // setup
+        fixture.add(new ScanRecording.Scan(1000, Collections.<ScanRecording.Entry>emptyList()));
+        // execute
+        fixture.add(new ScanRecording.Scan(999, Collections.<ScanRecording.Entry>emptyList()));
+    }
+}
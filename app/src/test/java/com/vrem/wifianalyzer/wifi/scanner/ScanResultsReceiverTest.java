@@ -0,0 +1,120 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.net.wifi.WifiManager;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+public class ScanResultsReceiverTest {
+    private ScannerService scannerService;
+    private Context context;
+    private Intent intent;
+    private ScanResultsReceiver fixture;
+
+    @Before
+    public void setUp() {
+        scannerService = mock(ScannerService.class);
+        context = mock(Context.class);
+        intent = mock(Intent.class);
+
+        fixture = new ScanResultsReceiver(scannerService);
+    }
+
+    @Test
+    public void testRegister() {
+        // setup
+        ArgumentCaptor<IntentFilter> captor = ArgumentCaptor.forClass(IntentFilter.class);
+        // execute
+        fixture.register(context);
+        // validate
+        verify(context).registerReceiver(any(ScanResultsReceiver.class), captor.capture());
+        assertTrue(captor.getValue().hasAction(WifiManager.SCAN_RESULTS_AVAILABLE_ACTION));
+    }
+
+    @Test
+    public void testUnregister() {
+        // execute
+        fixture.unregister(context);
+        // validate
+        verify(context).unregisterReceiver(fixture);
+        verify(scannerService).scanResultsUnavailable();
+    }
+
+    @Test
+    public void testUnregisterWhenNotRegistered() {
+        // setup
+        doThrow(new IllegalArgumentException()).when(context).unregisterReceiver(fixture);
+        // execute
+        fixture.unregister(context);
+        // validate
+        verify(context).unregisterReceiver(fixture);
+        verify(scannerService).scanResultsUnavailable();
+    }
+
+    @Test
+    public void testOnReceive() {
+        // setup
+        when(intent.getAction()).thenReturn(WifiManager.SCAN_RESULTS_AVAILABLE_ACTION);
+        when(intent.getBooleanExtra(WifiManager.EXTRA_RESULTS_UPDATED, true)).thenReturn(true);
+        // execute
+        fixture.onReceive(context, intent);
+        // validate
+        verify(scannerService).scanResultsAvailable();
+    }
+
+    @Test
+    public void testOnReceiveWithResultsNotUpdated() {
+        // setup
+        when(intent.getAction()).thenReturn(WifiManager.SCAN_RESULTS_AVAILABLE_ACTION);
+        when(intent.getBooleanExtra(WifiManager.EXTRA_RESULTS_UPDATED, true)).thenReturn(false);
+        // execute
+        fixture.onReceive(context, intent);
+        // validate
+        verify(scannerService, never()).scanResultsAvailable();
+    }
+
+    @Test
+    public void testOnReceiveWithOtherAction() {
+        // setup
+        when(intent.getAction()).thenReturn(WifiManager.NETWORK_STATE_CHANGED_ACTION);
+        // execute
+        fixture.onReceive(context, intent);
+        // validate
+        verify(intent, never()).getBooleanExtra(any(String.class), anyBoolean());
+        verify(scannerService, never()).scanResultsAvailable();
+    }
+}
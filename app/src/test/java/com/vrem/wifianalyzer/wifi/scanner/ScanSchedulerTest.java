@@ -0,0 +1,231 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ScanSchedulerTest {
+    private static final long INTERVAL = 5000;
+    private static final long START = 1000000;
+
+    private ScanScheduler fixture;
+
+    @Before
+    public void setUp() {
+        fixture = new ScanScheduler(true);
+    }
+
+    @Test
+    public void testMakeScanScheduler() {
+        assertFalse(ScanScheduler.makeScanScheduler().isThrottled());
+    }
+
+    @Test
+    public void testDecisionFind() {
+        assertEquals(ScanScheduler.Decision.IDLE, ScanScheduler.Decision.find(false, false));
+        assertEquals(ScanScheduler.Decision.PASSIVE, ScanScheduler.Decision.find(false, true));
+        assertEquals(ScanScheduler.Decision.ACTIVE, ScanScheduler.Decision.find(true, false));
+        assertEquals(ScanScheduler.Decision.ACTIVE_PASSIVE, ScanScheduler.Decision.find(true, true));
+    }
+
+    @Test
+    public void testNextWithoutThrottleAlwaysScans() {
+        // setup
+        fixture = new ScanScheduler(false);
+        // execute & validate
+        for (int i = 0; i < 10; i++) {
+            long now = START + i * INTERVAL;
+            assertEquals(ScanScheduler.Decision.ACTIVE, fixture.next(now, INTERVAL));
+            assertTrue(fixture.started(now, true));
+        }
+        assertEquals(10, fixture.getRequested());
+        assertEquals(10, fixture.getStarted());
+        assertEquals(0, fixture.getDeferred());
+        assertEquals(INTERVAL, fixture.getEffectiveInterval());
+    }
+
+    @Test
+    public void testNextSpacesScansWithinThrottleBudget() {
+        // setup
+        long window = ScanScheduler.THROTTLE_WINDOW * 3;
+        // execute
+        for (long now = START; now < START + window; now += INTERVAL) {
+            ScanScheduler.Decision decision = fixture.next(now, INTERVAL);
+            if (decision.isScan()) {
+                fixture.started(now, true);
+            }
+        }
+        // validate
+        assertEquals(ScanScheduler.THROTTLE_SCANS * 3, fixture.getStarted());
+        assertEquals(window / INTERVAL, fixture.getRequested());
+        assertEquals(fixture.getRequested() - fixture.getStarted(), fixture.getDeferred());
+        assertEquals(ScanScheduler.THROTTLE_SPACING, fixture.getEffectiveInterval());
+    }
+
+    @Test
+    public void testNextNeverExceedsThrottleBudget() {
+        // setup
+        long[] starts = new long[ScanScheduler.THROTTLE_SCANS + 1];
+        int count = 0;
+        // execute
+        for (long now = START; count < starts.length; now += 1000) {
+            if (fixture.next(now, 1000).isScan()) {
+                fixture.started(now, true);
+                starts[count++] = now;
+            }
+        }
+        // validate
+        assertTrue(starts[ScanScheduler.THROTTLE_SCANS] - starts[0] >= ScanScheduler.THROTTLE_WINDOW);
+    }
+
+    @Test
+    public void testNextRidesOnSystemScanResults() {
+        // setup
+        long now = START + ScanScheduler.THROTTLE_SPACING;
+        fixture.resultsAvailable(now - 1000);
+        // execute
+        ScanScheduler.Decision actual = fixture.next(now, INTERVAL);
+        // validate
+        assertEquals(ScanScheduler.Decision.PASSIVE, actual);
+        assertEquals(1, fixture.getPassive());
+        assertEquals(0, fixture.getStarted());
+    }
+
+    @Test
+    public void testNextReadsOwnScanResultsOnNextTick() {
+        // setup
+        fixture.resultsAvailable(START);
+        fixture.next(START, INTERVAL);
+        long now = START + ScanScheduler.THROTTLE_SPACING;
+        assertEquals(ScanScheduler.Decision.ACTIVE, fixture.next(now, INTERVAL));
+        assertFalse(fixture.started(now, true));
+        fixture.resultsAvailable(now + 1000);
+        // execute
+        ScanScheduler.Decision actual = fixture.next(now + INTERVAL, INTERVAL);
+        // validate
+        assertEquals(ScanScheduler.Decision.PASSIVE, actual);
+        assertEquals(1, fixture.getPassive());
+    }
+
+    @Test
+    public void testStartedWithoutThrottleReadsOwnScanResultsImmediately() {
+        // setup
+        fixture = new ScanScheduler(false);
+        fixture.resultsAvailable(START);
+        fixture.next(START, INTERVAL);
+        // execute
+        boolean actual = fixture.started(START + INTERVAL, true);
+        fixture.resultsAvailable(START + INTERVAL + 1000);
+        // validate
+        assertTrue(actual);
+        assertEquals(1, fixture.getPassive());
+        assertEquals(ScanScheduler.Decision.ACTIVE, fixture.next(START + 2 * INTERVAL, INTERVAL));
+    }
+
+    @Test
+    public void testResultsUnavailableStopsDeferringOwnScanResults() {
+        // setup
+        fixture.resultsAvailable(START);
+        fixture.next(START, INTERVAL);
+        long now = START + ScanScheduler.THROTTLE_SPACING;
+        fixture.next(now, INTERVAL);
+        assertFalse(fixture.started(now, true));
+        // execute
+        fixture.resultsUnavailable();
+        // validate
+        assertEquals(ScanScheduler.Decision.PASSIVE, fixture.next(now + INTERVAL, INTERVAL));
+        long later = now + 2 * ScanScheduler.THROTTLE_SPACING;
+        assertEquals(ScanScheduler.Decision.ACTIVE, fixture.next(later, INTERVAL));
+        assertTrue(fixture.started(later, true));
+    }
+
+    @Test
+    public void testNextIsIdleWithoutResults() {
+        // setup
+        fixture.started(START, true);
+        // execute
+        ScanScheduler.Decision actual = fixture.next(START + INTERVAL, INTERVAL);
+        // validate
+        assertEquals(ScanScheduler.Decision.IDLE, actual);
+        assertEquals(1, fixture.getDeferred());
+    }
+
+    @Test
+    public void testStartedRejectedBacksOff() {
+        // setup
+        fixture = new ScanScheduler(false);
+        fixture.next(START, INTERVAL);
+        // execute
+        assertFalse(fixture.started(START, false));
+        // validate
+        assertEquals(1, fixture.getRejected());
+        assertFalse(fixture.next(START + INTERVAL, INTERVAL).isScan());
+        assertTrue(fixture.next(START + 2 * INTERVAL, INTERVAL).isScan());
+        assertFalse(fixture.started(START + 2 * INTERVAL, false));
+        assertFalse(fixture.next(START + 5 * INTERVAL, INTERVAL).isScan());
+        assertTrue(fixture.next(START + 6 * INTERVAL, INTERVAL).isScan());
+    }
+
+    @Test
+    public void testStartedAcceptedResetsBackOff() {
+        // setup
+        fixture = new ScanScheduler(false);
+        fixture.next(START, INTERVAL);
+        fixture.started(START, false);
+        fixture.next(START + 2 * INTERVAL, INTERVAL);
+        // execute
+        fixture.started(START + 2 * INTERVAL, true);
+        // validate
+        assertTrue(fixture.next(START + 3 * INTERVAL, INTERVAL).isScan());
+    }
+
+    @Test
+    public void testBackOffIsCappedByThrottleWindow() {
+        // setup
+        fixture = new ScanScheduler(false);
+        fixture.next(START, INTERVAL);
+        long now = START;
+        // execute
+        for (int i = 0; i < ScanScheduler.BACKOFF_MAX + 2; i++) {
+            now += ScanScheduler.THROTTLE_WINDOW;
+            assertTrue(fixture.next(now, INTERVAL).isScan());
+            fixture.started(now, false);
+        }
+        // validate
+        assertTrue(fixture.next(now + ScanScheduler.THROTTLE_WINDOW, INTERVAL).isScan());
+    }
+
+    @Test
+    public void testGetRequestedInterval() {
+        // execute
+        fixture.next(START, INTERVAL);
+        // validate
+        assertEquals(INTERVAL, fixture.getRequestedInterval());
+    }
+
+    @Test
+    public void testGetEffectiveIntervalWithoutResults() {
+        assertEquals(0, fixture.getEffectiveInterval());
+    }
+}
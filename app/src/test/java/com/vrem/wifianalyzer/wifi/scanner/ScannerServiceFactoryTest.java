@@ -28,6 +28,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -36,6 +37,8 @@ public class ScannerServiceFactoryTest {
     @Mock
     private WifiManager wifiManager;
     @Mock
+    private ScanSource scanSource;
+    @Mock
     private Handler handler;
     @Mock
     private Settings settings;
@@ -47,5 +50,17 @@ public class ScannerServiceFactoryTest {
             ScannerServiceFactory.makeScannerService(wifiManager, handler, settings);
         // validate
         assertTrue(actual instanceof Scanner);
+        ScanSource scanSource = ((Scanner) actual).getScanSource();
+        assertTrue(scanSource instanceof WiFiManagerScanSource);
+        assertEquals(wifiManager, ((WiFiManagerScanSource) scanSource).getWifiManager());
+    }
+
+    @Test
+    public void testMakeScannerServiceWithScanSource() {
+        // execute
+        ScannerService actual =
+            ScannerServiceFactory.makeScannerService(scanSource, handler, settings);
+        // validate
+        assertEquals(scanSource, ((Scanner) actual).getScanSource());
     }
 }
\ No newline at end of file
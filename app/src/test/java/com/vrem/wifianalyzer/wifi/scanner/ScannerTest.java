@@ -24,23 +24,49 @@ import android.net.wifi.WifiInfo;
 import android.net.wifi.WifiManager;
 import android.os.Handler;
 
+import com.vrem.wifianalyzer.MainContextHelper;
 import com.vrem.wifianalyzer.settings.Settings;
+import com.vrem.wifianalyzer.vendor.model.VendorService;
+import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
+import com.vrem.wifianalyzer.wifi.model.MacAddress;
+import com.vrem.wifianalyzer.wifi.model.WiFiConnection;
 import com.vrem.wifianalyzer.wifi.model.WiFiData;
+import com.vrem.wifianalyzer.wifi.model.WiFiDataDelta;
+import com.vrem.wifianalyzer.wifi.model.WiFiDetail;
+import com.vrem.wifianalyzer.wifi.model.WiFiSignal;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -67,11 +93,14 @@ public class ScannerTest {
     private WiFiData wiFiData;
     @Mock
     private PeriodicScan periodicScan;
+    @Mock
+    private DeltaUpdateNotifier deltaUpdateNotifier;
 
     private List<ScanResult> scanResults;
     private List<CacheResult> cacheResults;
     private List<WifiConfiguration> configuredNetworks;
 
+    private QueueExecutor executor;
     private Scanner fixture;
 
     @Before
@@ -79,16 +108,23 @@ public class ScannerTest {
         scanResults = Collections.emptyList();
         cacheResults = Collections.emptyList();
         configuredNetworks = Collections.emptyList();
+        executor = new QueueExecutor();
 
-        fixture = new Scanner(wifiManager, handler, settings);
+        fixture = new Scanner(new WiFiManagerScanSource(wifiManager), handler, settings);
         fixture.setCache(cache);
         fixture.setTransformer(transformer);
+        fixture.setExecutor(executor);
 
         fixture.register(updateNotifier1);
         fixture.register(updateNotifier2);
         fixture.register(updateNotifier3);
     }
 
+    @After
+    public void tearDown() {
+        MainContextHelper.INSTANCE.restore();
+    }
+
     @Test
     public void testPeriodicScanIsSet() {
         assertNotNull(fixture.getPeriodicScan());
@@ -120,8 +156,10 @@ public class ScannerTest {
         withCache();
         withTransformer();
         withWiFiManager();
+        withHandler();
         // execute
         fixture.update();
+        executor.runAll();
         // validate
         assertEquals(wiFiData, fixture.getWiFiData());
         verifyCache();
@@ -132,13 +170,247 @@ public class ScannerTest {
         verify(updateNotifier3).update(wiFiData);
     }
 
+    @Test
+    public void testUpdateWithDeltaUpdateNotifier() {
+        // setup
+        WiFiDetail wiFiDetail1 = makeWiFiDetail("BSSID1", -50);
+        WiFiDetail wiFiDetail2 = makeWiFiDetail("BSSID2", -60);
+        WiFiData wiFiData1 = new WiFiData(Collections.singletonList(wiFiDetail1), WiFiConnection.EMPTY, Collections.<String>emptyList());
+        WiFiData wiFiData2 = new WiFiData(Collections.singletonList(wiFiDetail2), WiFiConnection.EMPTY, Collections.<String>emptyList());
+        withCache();
+        withWiFiManager();
+        withHandler();
+        when(transformer.transformToWiFiData(cacheResults, wifiInfo, configuredNetworks)).thenReturn(wiFiData1, wiFiData2);
+        fixture.register(deltaUpdateNotifier);
+        ArgumentCaptor<WiFiDataDelta> captor = ArgumentCaptor.forClass(WiFiDataDelta.class);
+        // execute
+        fixture.update();
+        executor.runAll();
+        fixture.update();
+        executor.runAll();
+        // validate
+        verify(deltaUpdateNotifier).update(eq(wiFiData1), captor.capture());
+        verify(deltaUpdateNotifier).update(eq(wiFiData2), captor.capture());
+        verify(deltaUpdateNotifier, never()).update(any(WiFiData.class));
+        verify(updateNotifier1).update(wiFiData1);
+        verify(updateNotifier1).update(wiFiData2);
+        List<WiFiDataDelta> deltas = captor.getAllValues();
+        assertEquals(Collections.singletonList(wiFiDetail1), deltas.get(0).getAdded());
+        assertTrue(deltas.get(0).getRemoved().isEmpty());
+        assertEquals(Collections.singletonList(wiFiDetail2), deltas.get(1).getAdded());
+        assertEquals(Collections.singletonList(wiFiDetail1), deltas.get(1).getRemoved());
+    }
+
+    @Test
+    public void testRefreshNotifiesReEnrichedWiFiDataWithoutScan() {
+        // setup
+        WiFiDetail wiFiDetail = makeWiFiDetail("BSSID1", -50);
+        WiFiData expected = new WiFiData(Collections.singletonList(wiFiDetail), WiFiConnection.EMPTY, Collections.<String>emptyList());
+        withCache();
+        withWiFiManager();
+        withHandler();
+        when(transformer.transformToWiFiData(cacheResults, wifiInfo, configuredNetworks)).thenReturn(expected);
+        fixture.update();
+        executor.runAll();
+        VendorService vendorService = MainContextHelper.INSTANCE.getVendorService();
+        when(vendorService.findVendorName(any(MacAddress.class))).thenReturn("VendorName");
+        ArgumentCaptor<WiFiData> captor = ArgumentCaptor.forClass(WiFiData.class);
+        // execute
+        fixture.refresh();
+        // validate
+        assertEquals(1, executor.runnables.size());
+        verify(updateNotifier1).update(expected);
+        verifyZeroInteractions(vendorService);
+        assertEquals(expected, fixture.getWiFiData());
+        // execute
+        executor.runAll();
+        // validate
+        verify(updateNotifier1, times(2)).update(captor.capture());
+        WiFiData actual = captor.getAllValues().get(1);
+        assertNotSame(expected, actual);
+        assertEquals(expected.getWiFiDetails(), actual.getWiFiDetails());
+        verify(vendorService).findVendorName(wiFiDetail.getMacAddress());
+        assertEquals(actual, fixture.getWiFiData());
+        verify(wifiManager).startScan();
+        verifyTransfomer();
+    }
+
+    @Test
+    public void testRefreshWithoutWiFiData() {
+        // execute
+        fixture.refresh();
+        executor.runAll();
+        // validate
+        verify(handler, never()).post(any(Runnable.class));
+        assertEquals(WiFiData.EMPTY, fixture.getWiFiData());
+        verifyZeroInteractions(updateNotifier1, updateNotifier2, updateNotifier3, wifiManager);
+    }
+
+    @Test
+    public void testUpdateRecordsStageLatencies() {
+        // setup
+        withCache();
+        withTransformer();
+        withWiFiManager();
+        withHandler();
+        ScanInstrumentation scanInstrumentation = new ScanInstrumentation();
+        fixture.setScanInstrumentation(scanInstrumentation);
+        // execute
+        fixture.update();
+        executor.runAll();
+        // validate
+        assertEquals(scanInstrumentation, fixture.getScanInstrumentation());
+        Map<String, LatencyHistogram> histograms = scanInstrumentation.getHistograms();
+        assertEquals(1, histograms.get(ScanInstrumentation.ENABLE_WIFI).getCount());
+        assertEquals(1, histograms.get(ScanInstrumentation.START_SCAN).getCount());
+        assertEquals(1, histograms.get(ScanInstrumentation.SCAN_RESULTS).getCount());
+        assertEquals(1, histograms.get(ScanInstrumentation.CACHE_ADD).getCount());
+        assertEquals(1, histograms.get(ScanInstrumentation.CACHE_SCAN_RESULTS).getCount());
+        assertEquals(1, histograms.get(ScanInstrumentation.TRANSFORM).getCount());
+        assertEquals(0, histograms.get(ScanInstrumentation.DELTA).getCount());
+        assertEquals(3, histograms.get(scanInstrumentation.getStage(updateNotifier1)).getCount());
+    }
+
+    @Test
+    public void testUpdateComputesDeltaOnlyForDeltaUpdateNotifier() {
+        // setup
+        withCache();
+        withTransformer();
+        withWiFiManager();
+        withHandler();
+        ScanInstrumentation scanInstrumentation = new ScanInstrumentation();
+        fixture.setScanInstrumentation(scanInstrumentation);
+        fixture.register(deltaUpdateNotifier);
+        fixture.register(deltaUpdateNotifier);
+        // execute
+        fixture.update();
+        executor.runAll();
+        // validate
+        assertEquals(1, scanInstrumentation.getHistograms().get(ScanInstrumentation.DELTA).getCount());
+        verify(deltaUpdateNotifier, times(2)).update(eq(wiFiData), any(WiFiDataDelta.class));
+    }
+
+    @Test
+    public void testUpdateRecordsQueriesOfReplacedWiFiData() {
+        // setup
+        WiFiData wiFiData1 = mock(WiFiData.class);
+        WiFiData wiFiData2 = new WiFiData(Collections.singletonList(makeWiFiDetail("BSSID2", -60)), WiFiConnection.EMPTY, Collections.<String>emptyList());
+        when(wiFiData1.getQueryHits()).thenReturn(5);
+        when(wiFiData1.getQueryMisses()).thenReturn(2);
+        withCache();
+        withWiFiManager();
+        withHandler();
+        when(transformer.transformToWiFiData(cacheResults, wifiInfo, configuredNetworks)).thenReturn(wiFiData1, wiFiData2);
+        ScanInstrumentation scanInstrumentation = new ScanInstrumentation();
+        fixture.setScanInstrumentation(scanInstrumentation);
+        // execute
+        fixture.update();
+        executor.runAll();
+        fixture.update();
+        executor.runAll();
+        // validate
+        assertEquals(1, scanInstrumentation.getQueryScans());
+        assertEquals(5, scanInstrumentation.getQueryHits());
+        assertEquals(2, scanInstrumentation.getQueryMisses());
+    }
+
+    @Test
+    public void testUpdateReadsPassiveScanResultsWithoutStartScan() {
+        // setup
+        withCache();
+        withTransformer();
+        withWiFiManager();
+        ScanScheduler scanScheduler = new ScanScheduler(true);
+        fixture.setScanScheduler(scanScheduler);
+        fixture.update();
+        executor.runAll();
+        fixture.scanResultsAvailable();
+        // execute
+        fixture.update();
+        executor.runAll();
+        // validate
+        verify(wifiManager).startScan();
+        verify(wifiManager, times(2)).getScanResults();
+        verify(cache, times(2)).add(scanResults);
+        assertEquals(1, scanScheduler.getStarted());
+        assertEquals(1, scanScheduler.getPassive());
+    }
+
+    @Test
+    public void testUpdateReadsOwnScanResultsWithoutThrottle() {
+        // setup
+        withCache();
+        withTransformer();
+        withWiFiManager();
+        ScanScheduler scanScheduler = new ScanScheduler(false);
+        fixture.setScanScheduler(scanScheduler);
+        fixture.scanResultsAvailable();
+        fixture.update();
+        executor.runAll();
+        // execute
+        fixture.update();
+        executor.runAll();
+        // validate
+        verify(wifiManager, times(2)).startScan();
+        verify(wifiManager, times(2)).getScanResults();
+        assertEquals(2, scanScheduler.getStarted());
+    }
+
+    @Test
+    public void testScanResultsUnavailable() {
+        // setup
+        ScanScheduler scanScheduler = mock(ScanScheduler.class);
+        fixture.setScanScheduler(scanScheduler);
+        // execute
+        fixture.scanResultsUnavailable();
+        // validate
+        verify(scanScheduler).resultsUnavailable();
+    }
+
+    @Test
+    public void testUpdateDefersScanWithinThrottleBudget() {
+        // setup
+        withCache();
+        withTransformer();
+        withWiFiManager();
+        fixture.setScanScheduler(new ScanScheduler(true));
+        // execute
+        fixture.update();
+        fixture.update();
+        executor.runAll();
+        // validate
+        verify(wifiManager).startScan();
+        verify(wifiManager).getScanResults();
+        verify(cache).add(scanResults);
+        verify(transformer, times(2)).transformToWiFiData(cacheResults, wifiInfo, configuredNetworks);
+        assertEquals(1, fixture.getScanMetrics().getDeferred());
+    }
+
+    @Test
+    public void testUpdateWithRejectedStartScan() {
+        // setup
+        withCache();
+        withTransformer();
+        withWiFiManager();
+        when(wifiManager.startScan()).thenReturn(false);
+        // execute
+        fixture.update();
+        executor.runAll();
+        // validate
+        verify(wifiManager, never()).getScanResults();
+        verify(cache, never()).add(any(List.class));
+        assertEquals(1, fixture.getScanMetrics().getRejected());
+    }
+
     @Test
     public void testUpdateWithWiFiManager() {
         // setup
         withCache();
+        withTransformer();
         withWiFiManager();
         // execute
         fixture.update();
+        executor.runAll();
         // validate
         verifyWiFiManager();
     }
@@ -147,13 +419,75 @@ public class ScannerTest {
     public void testUpdateWithCache() {
         // setup
         withCache();
+        withTransformer();
         withWiFiManager();
         // execute
         fixture.update();
+        executor.runAll();
         // validate
         verifyCache();
     }
 
+    @Test
+    public void testUpdateDoesNotScanOnCallingThread() {
+        // execute
+        fixture.update();
+        // validate
+        assertEquals(1, executor.runnables.size());
+        verifyZeroInteractions(wifiManager, cache, transformer);
+        verify(handler, never()).post(any(Runnable.class));
+        verifyZeroInteractions(updateNotifier1, updateNotifier2, updateNotifier3);
+        assertEquals(WiFiData.EMPTY, fixture.getWiFiData());
+    }
+
+    @Test
+    public void testUpdateNotifiesOnlyThroughHandler() {
+        // setup
+        withCache();
+        withTransformer();
+        withWiFiManager();
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        // execute
+        fixture.update();
+        executor.runAll();
+        // validate
+        verifyTransfomer();
+        verify(handler).post(captor.capture());
+        verifyZeroInteractions(updateNotifier1, updateNotifier2, updateNotifier3);
+        assertEquals(WiFiData.EMPTY, fixture.getWiFiData());
+        // execute
+        captor.getValue().run();
+        // validate
+        assertEquals(wiFiData, fixture.getWiFiData());
+        verify(updateNotifier1).update(wiFiData);
+        verify(updateNotifier2).update(wiFiData);
+        verify(updateNotifier3).update(wiFiData);
+    }
+
+    @Test
+    public void testUpdateRunsScanAndTransformOffCallingThread() throws Exception {
+        // setup
+        Thread callingThread = Thread.currentThread();
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<Thread>());
+        ThreadAnswer threadAnswer = new ThreadAnswer(threads);
+        when(wifiManager.startScan()).thenAnswer(threadAnswer);
+        when(wifiManager.getScanResults()).thenAnswer(threadAnswer);
+        when(wifiManager.getConfiguredNetworks()).thenAnswer(threadAnswer);
+        when(cache.getScanResults()).thenAnswer(threadAnswer);
+        when(transformer.transformToWiFiData(any(List.class), any(), any(List.class))).thenAnswer(threadAnswer);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        fixture.setExecutor(executorService);
+        // execute
+        fixture.update();
+        executorService.shutdown();
+        // validate
+        assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(5, threads.size());
+        assertFalse(threads.contains(callingThread));
+        verify(handler).post(any(Runnable.class));
+        verifyZeroInteractions(updateNotifier1, updateNotifier2, updateNotifier3);
+    }
+
     @Test
     public void testSetWiFiOnExitOff() {
         // setup
@@ -206,6 +540,20 @@ public class ScannerTest {
         when(wifiManager.getConfiguredNetworks()).thenReturn(configuredNetworks);
     }
 
+    private void withHandler() {
+        when(handler.post(any(Runnable.class))).thenAnswer(new Answer<Boolean>() {
+            @Override
+            public Boolean answer(InvocationOnMock invocation) {
+                invocation.<Runnable>getArgument(0).run();
+                return true;
+            }
+        });
+    }
+
+    private WiFiDetail makeWiFiDetail(String bssid, int level) {
+        return new WiFiDetail("SSID", bssid, "WPA", new WiFiSignal(2437, 2437, WiFiWidth.MHZ_20, level));
+    }
+
     private void verifyTransfomer() {
         verify(transformer).transformToWiFiData(cacheResults, wifiInfo, configuredNetworks);
     }
@@ -230,4 +578,44 @@ public class ScannerTest {
         verify(periodicScan).start();
     }
 
-}
\ No newline at end of file
+    private static class QueueExecutor implements Executor {
+        private final List<Runnable> runnables = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable runnable) {
+            runnables.add(runnable);
+        }
+
+        private void runAll() {
+            for (Runnable runnable : runnables) {
+                runnable.run();
+            }
+            runnables.clear();
+        }
+    }
+
+    private static class ThreadAnswer implements Answer<Object> {
+        private final List<Thread> threads;
+
+        private ThreadAnswer(List<Thread> threads) {
+            this.threads = threads;
+        }
+
+        @Override
+        public Object answer(InvocationOnMock invocation) {
+            threads.add(Thread.currentThread());
+            Class<?> returnType = invocation.getMethod().getReturnType();
+            if (boolean.class.equals(returnType)) {
+                return true;
+            }
+            if (List.class.equals(returnType)) {
+                return Collections.emptyList();
+            }
+            if (WiFiData.class.equals(returnType)) {
+                return WiFiData.EMPTY;
+            }
+            return null;
+        }
+    }
+
+}
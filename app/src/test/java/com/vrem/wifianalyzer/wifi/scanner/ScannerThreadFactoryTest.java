@@ -16,26 +16,40 @@
  * along with this program.  If not, see <http://www.gnu.org/licenses/>
  */
 
-package com.vrem.wifianalyzer.wifi.band;
+package com.vrem.wifianalyzer.wifi.scanner;
 
+import org.junit.Before;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
-public class FrequencyPredicateTest {
+@RunWith(MockitoJUnitRunner.class)
+public class ScannerThreadFactoryTest {
+    @Mock
+    private Runnable runnable;
+
+    private ScannerThreadFactory fixture;
+
+    @Before
+    public void setUp() {
+        fixture = new ScannerThreadFactory();
+    }
 
     @Test
-    public void testWiFiBandPredicate() {
-        assertFalse(new FrequencyPredicate(2399).evaluate(WiFiBand.GHZ2));
-        assertTrue(new FrequencyPredicate(2400).evaluate(WiFiBand.GHZ2));
-        assertTrue(new FrequencyPredicate(2499).evaluate(WiFiBand.GHZ2));
-        assertFalse(new FrequencyPredicate(2500).evaluate(WiFiBand.GHZ2));
-
-        assertFalse(new FrequencyPredicate(4899).evaluate(WiFiBand.GHZ5));
-        assertTrue(new FrequencyPredicate(4900).evaluate(WiFiBand.GHZ5));
-        assertTrue(new FrequencyPredicate(5899).evaluate(WiFiBand.GHZ5));
-        assertFalse(new FrequencyPredicate(5900).evaluate(WiFiBand.GHZ5));
+    public void testNewThread() {
+        // execute
+        Thread actual = fixture.newThread(runnable);
+        // validate
+        assertEquals(ScannerThreadFactory.THREAD_NAME, actual.getName());
+        assertTrue(actual.isDaemon());
+        assertFalse(actual.isAlive());
+        verifyZeroInteractions(runnable);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,127 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.net.wifi.ScanResult;
+
+import com.vrem.wifianalyzer.Benchmark;
+import com.vrem.wifianalyzer.wifi.scanner.Transformer.Fields;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class TransformerBenchmark {
+    private static final int ACCESS_POINTS = 2000;
+
+    private Benchmark benchmark;
+    private List<Object> missing;
+    private List<Object> available;
+
+    @Before
+    public void setUp() {
+        benchmark = new Benchmark("Transformer field access per AP", ACCESS_POINTS);
+        missing = new ArrayList<>();
+        available = new ArrayList<>();
+        ScanResult scanResult = mock(ScanResult.class);
+        for (int i = 0; i < ACCESS_POINTS; i++) {
+            missing.add(scanResult);
+            available.add(new FieldAccessorTest.Values());
+        }
+    }
+
+    @Test
+    public void testFieldsMissing() {
+        Benchmark.Result before = benchmark.run("missing: getDeclaredField per call", new Uncached(missing));
+        Benchmark.Result after = benchmark.run("missing: FieldAccessor", new Cached(missing));
+        assertEquals(new Uncached(missing).total(), new Cached(missing).total());
+        report(before, after);
+    }
+
+    @Test
+    public void testFieldsAvailable() {
+        Benchmark.Result before = benchmark.run("available: getDeclaredField per call", new Uncached(available));
+        Benchmark.Result after = benchmark.run("available: FieldAccessor", new Cached(available));
+        assertEquals(new Uncached(available).total(), new Cached(available).total());
+        report(before, after);
+    }
+
+    private void report(Benchmark.Result before, Benchmark.Result after) {
+        System.out.println(String.format("speed up: %.1fx", before.getNanosPerOperation() / after.getNanosPerOperation()));
+    }
+
+    private static class Uncached implements Runnable {
+        private final List<Object> values;
+
+        private Uncached(List<Object> values) {
+            this.values = values;
+        }
+
+        @Override
+        public void run() {
+            total();
+        }
+
+        private long total() {
+            long total = 0;
+            for (Object value : values) {
+                total += getFieldValue(value, Fields.channelWidth) + getFieldValue(value, Fields.centerFreq0);
+            }
+            return total;
+        }
+
+        private int getFieldValue(Object value, Fields field) {
+            try {
+                Field declaredField = value.getClass().getDeclaredField(field.name());
+                return (int) declaredField.get(value);
+            } catch (Exception e) {
+                return FieldAccessor.VALUE_MISSING;
+            }
+        }
+    }
+
+    private static class Cached implements Runnable {
+        private final List<Object> values;
+        private final FieldAccessor fieldAccessor;
+
+        private Cached(List<Object> values) {
+            this.values = values;
+            this.fieldAccessor = new FieldAccessor();
+        }
+
+        @Override
+        public void run() {
+            total();
+        }
+
+        private long total() {
+            long total = 0;
+            for (Object value : values) {
+                total += fieldAccessor.getValue(value, Fields.channelWidth) + fieldAccessor.getValue(value, Fields.centerFreq0);
+            }
+            return total;
+        }
+    }
+}
@@ -23,12 +23,18 @@ import android.net.wifi.WifiConfiguration;
 import android.net.wifi.WifiInfo;
 import android.support.annotation.NonNull;
 
+import com.vrem.wifianalyzer.MainContextHelper;
+import com.vrem.wifianalyzer.vendor.model.VendorService;
 import com.vrem.wifianalyzer.wifi.band.WiFiWidth;
+import com.vrem.wifianalyzer.wifi.model.MacAddress;
+import com.vrem.wifianalyzer.wifi.model.SortBy;
 import com.vrem.wifianalyzer.wifi.model.WiFiConnection;
 import com.vrem.wifianalyzer.wifi.model.WiFiData;
 import com.vrem.wifianalyzer.wifi.model.WiFiDetail;
 import com.vrem.wifianalyzer.wifi.model.WiFiSignal;
 
+import org.apache.commons.collections4.PredicateUtils;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -41,7 +47,10 @@ import java.util.List;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -58,6 +67,7 @@ public class TransformerTest {
     private static final int IP_ADDRESS_VALUE = 123456789;
     private static final String IP_ADDRESS = "21.205.91.7";
     private static final int LINK_SPEED = 21;
+    private static final String VENDOR_NAME = "VendorName";
 
     @Mock
     private WifiInfo wifiInfo;
@@ -74,16 +84,23 @@ public class TransformerTest {
     @Mock
     private ScanResult scanResult3;
 
+    private VendorService vendorService;
     private List<CacheResult> cacheResults;
     private List<WifiConfiguration> wifiConfigurations;
     private Transformer fixture;
 
     @Before
     public void setUp() {
+        vendorService = MainContextHelper.INSTANCE.getVendorService();
         wifiConfigurations = Arrays.asList(wifiConfiguration1, wifiConfiguration2, wifiConfiguration3);
         fixture = new Transformer();
     }
 
+    @After
+    public void tearDown() {
+        MainContextHelper.INSTANCE.restore();
+    }
+
     @Test
     public void testTransformWithNulls() {
         assertTrue(fixture.transformCacheResults(null).isEmpty());
@@ -149,6 +166,23 @@ public class TransformerTest {
         assertEquals(wifiConfigurations.size(), actual.getWiFiConfigurations().size());
     }
 
+    @Test
+    public void testWiFiDataIsEnriched() {
+        // setup
+        when(vendorService.findVendorName(any(MacAddress.class))).thenReturn(VENDOR_NAME);
+        withCacheResults();
+        withWiFiConfiguration();
+        withWiFiInfo();
+        // execute
+        WiFiData actual = fixture.transformToWiFiData(cacheResults, wifiInfo, wifiConfigurations);
+        // validate
+        verify(vendorService, times(cacheResults.size())).findVendorName(any(MacAddress.class));
+        assertEquals(BSSID_1, actual.getConnection().getBSSID());
+        assertEquals(VENDOR_NAME, actual.getConnection().getWiFiAdditional().getVendorName());
+        actual.getWiFiDetails(PredicateUtils.<WiFiDetail>truePredicate(), SortBy.SSID);
+        verifyNoMoreInteractions(vendorService);
+    }
+
     @Test
     public void testGetWiFiWidth() {
         // execute
@@ -0,0 +1,110 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import com.vrem.wifianalyzer.Benchmark;
+import com.vrem.wifianalyzer.MainActivity;
+import com.vrem.wifianalyzer.MainContextHelper;
+import com.vrem.wifianalyzer.RobolectricUtil;
+import com.vrem.wifianalyzer.wifi.accesspoint.AccessPointsFragment;
+import com.vrem.wifianalyzer.wifi.accesspoint.ConnectionView;
+import com.vrem.wifianalyzer.wifi.channelgraph.ChannelGraphFragment;
+import com.vrem.wifianalyzer.wifi.channelrating.ChannelRatingFragment;
+import com.vrem.wifianalyzer.wifi.model.WiFiData;
+import com.vrem.wifianalyzer.wifi.timegraph.TimeGraphFragment;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.support.v4.SupportFragmentTestUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+@RunWith(RobolectricTestRunner.class)
+public class UpdateNotifierBenchmark {
+    private static final int[] ACCESS_POINTS = {500, 1000, 2000};
+    private static final int SCANS = 10;
+
+    private List<UpdateNotifier> updateNotifiers;
+
+    @Before
+    public void setUp() {
+        MainActivity mainActivity = RobolectricUtil.INSTANCE.getActivity();
+        ScannerService scannerService = MainContextHelper.INSTANCE.getScannerService();
+        SupportFragmentTestUtil.startFragment(new AccessPointsFragment());
+        SupportFragmentTestUtil.startFragment(new ChannelRatingFragment());
+        SupportFragmentTestUtil.startFragment(new ChannelGraphFragment());
+        SupportFragmentTestUtil.startFragment(new TimeGraphFragment());
+        ArgumentCaptor<UpdateNotifier> captor = ArgumentCaptor.forClass(UpdateNotifier.class);
+        verify(scannerService, atLeastOnce()).register(captor.capture());
+        updateNotifiers = new ArrayList<>(captor.getAllValues());
+        updateNotifiers.add(new ConnectionView(mainActivity));
+        MainContextHelper.INSTANCE.restore();
+    }
+
+    @After
+    public void tearDown() {
+        MainContextHelper.INSTANCE.restore();
+    }
+
+    @Test
+    public void testUpdateNotifiers() {
+        assertEquals(5, updateNotifiers.size());
+        for (int accessPoints : ACCESS_POINTS) {
+            // setup
+            ScanRecording scanRecording = new ScanGenerator(accessPoints).setAccessPoints(accessPoints).generate(SCANS);
+            List<WiFiData> wiFiData = new ScanPipeline(scanRecording).run(SCANS);
+            Benchmark benchmark = new Benchmark("UpdateNotifier per scan", SCANS);
+            for (UpdateNotifier updateNotifier : updateNotifiers) {
+                // execute
+                Benchmark.Result actual = benchmark.run(
+                    updateNotifier.getClass().getSimpleName() + " " + accessPoints + " access points",
+                    new UpdateRunnable(updateNotifier, wiFiData));
+                // validate
+                assertTrue(actual.getNanosPerOperation() > 0);
+            }
+        }
+    }
+
+    private static class UpdateRunnable implements Runnable {
+        private final UpdateNotifier updateNotifier;
+        private final List<WiFiData> wiFiData;
+
+        private UpdateRunnable(UpdateNotifier updateNotifier, List<WiFiData> wiFiData) {
+            this.updateNotifier = updateNotifier;
+            this.wiFiData = wiFiData;
+        }
+
+        @Override
+        public void run() {
+            for (WiFiData data : wiFiData) {
+                updateNotifier.update(data);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2018  VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.scanner;
+
+import android.net.wifi.ScanResult;
+import android.net.wifi.WifiConfiguration;
+import android.net.wifi.WifiInfo;
+import android.net.wifi.WifiManager;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class WiFiManagerScanSourceTest {
+    @Mock
+    private WifiManager wifiManager;
+    @Mock
+    private WifiInfo wifiInfo;
+
+    private WiFiManagerScanSource fixture;
+
+    @Before
+    public void setUp() {
+        fixture = new WiFiManagerScanSource(wifiManager);
+    }
+
+    @Test
+    public void testIsWifiEnabled() {
+        // setup
+        when(wifiManager.isWifiEnabled()).thenReturn(true);
+        // execute & validate
+        assertTrue(fixture.isWifiEnabled());
+    }
+
+    @Test
+    public void testSetWifiEnabled() {
+        // setup
+        when(wifiManager.setWifiEnabled(true)).thenReturn(true);
+        // execute & validate
+        assertTrue(fixture.setWifiEnabled(true));
+        verify(wifiManager).setWifiEnabled(true);
+    }
+
+    @Test
+    public void testStartScan() {
+        // setup
+        when(wifiManager.startScan()).thenReturn(true);
+        // execute & validate
+        assertTrue(fixture.startScan());
+    }
+
+    @Test
+    public void testGetScanResults() {
+        // setup
+        List<ScanResult> expected = Collections.emptyList();
+        when(wifiManager.getScanResults()).thenReturn(expected);
+        // execute & validate
+        assertEquals(expected, fixture.getScanResults());
+    }
+
+    @Test
+    public void testGetConnectionInfo() {
+        // setup
+        when(wifiManager.getConnectionInfo()).thenReturn(wifiInfo);
+        // execute & validate
+        assertEquals(wifiInfo, fixture.getConnectionInfo());
+    }
+
+    @Test
+    public void testGetConfiguredNetworks() {
+        // setup
+        List<WifiConfiguration> expected = Collections.emptyList();
+        when(wifiManager.getConfiguredNetworks()).thenReturn(expected);
+        // execute & validate
+        assertEquals(expected, fixture.getConfiguredNetworks());
+    }
+}